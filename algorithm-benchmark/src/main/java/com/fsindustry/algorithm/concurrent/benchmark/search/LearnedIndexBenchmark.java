@@ -0,0 +1,167 @@
+package com.fsindustry.algorithm.concurrent.benchmark.search;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import com.fsindustry.algorithm.concurrent.search.binarysearch.BinarySearch;
+import com.fsindustry.algorithm.concurrent.search.eytzinger.LongEytzingerIndex;
+import com.fsindustry.algorithm.concurrent.search.learned.PgmIndex;
+import com.fsindustry.algorithm.concurrent.search.stree.LongSTree;
+
+/**
+ * 学习型索引基准：在近似线性的时间戳数组上，PgmIndex的构建耗时与单次查找延迟，
+ * 以BinarySearch、LongEytzingerIndex、LongSTree为基线
+ * <p>
+ * 查找的key预先随机生成，一半存在一半不存在，每次调用依次取下一个，避免分支预测记住结果；
+ * 每个索引在各自的State中构建，只有PgmIndex的基准按epsilon参数化；
+ * 索引大小在构建时打印，如：java -jar target/benchmarks.jar LearnedIndexBenchmark -p size=100000000
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = {"-Xms2g", "-Xmx6g"})
+public class LearnedIndexBenchmark {
+
+    /**
+     * 预先生成的查找key个数，必须是2的幂
+     */
+    static final int KEY_COUNT = 1 << 16;
+
+    /**
+     * 时间戳数组与查找key
+     */
+    @State(Scope.Thread)
+    public static class Data {
+
+        @Param({"1000000", "10000000", "100000000"})
+        public int size;
+
+        long[] timestamps;
+
+        private long[] keys;
+
+        private int next;
+
+        @Setup(Level.Trial)
+        public void setUp() {
+
+            Random random = new Random(42);
+            timestamps = new long[size];
+            long now = 1700000000000L;
+            for (int i = 0; i < size; i++) {
+                now += 1 + random.nextInt(20);
+                timestamps[i] = now;
+            }
+
+            keys = new long[KEY_COUNT];
+            for (int i = 0; i < KEY_COUNT; i++) {
+                long key = timestamps[random.nextInt(size)];
+                keys[i] = random.nextBoolean() ? key : key + 1;
+            }
+        }
+
+        long nextKey() {
+            return keys[next++ & (KEY_COUNT - 1)];
+        }
+    }
+
+    /**
+     * PgmIndex的误差参数
+     */
+    @State(Scope.Thread)
+    public static class Epsilon {
+
+        @Param({"16", "64", "256"})
+        public int epsilon;
+    }
+
+    @State(Scope.Thread)
+    public static class Pgm {
+
+        PgmIndex index;
+
+        @Setup(Level.Trial)
+        public void setUp(Data data, Epsilon epsilon) {
+            index = new PgmIndex(data.timestamps, epsilon.epsilon);
+            System.out.println("PgmIndex: segments=" + index.segmentCount() + ", height=" + index.height()
+                    + ", bytes=" + index.sizeInBytes());
+        }
+    }
+
+    @State(Scope.Thread)
+    public static class Eytzinger {
+
+        LongEytzingerIndex index;
+
+        @Setup(Level.Trial)
+        public void setUp(Data data) {
+            index = new LongEytzingerIndex(data.timestamps);
+        }
+    }
+
+    @State(Scope.Thread)
+    public static class STree {
+
+        LongSTree index;
+
+        @Setup(Level.Trial)
+        public void setUp(Data data) {
+            index = new LongSTree(data.timestamps);
+        }
+    }
+
+    @Benchmark
+    @BenchmarkMode(Mode.SingleShotTime)
+    @OutputTimeUnit(TimeUnit.MILLISECONDS)
+    @Warmup(iterations = 3)
+    @Measurement(iterations = 5)
+    public PgmIndex pgmBuild(Data data, Epsilon epsilon) {
+        return new PgmIndex(data.timestamps, epsilon.epsilon);
+    }
+
+    @Benchmark
+    public int pgmLowerBound(Data data, Pgm pgm) {
+        return pgm.index.lowerBound(data.nextKey());
+    }
+
+    @Benchmark
+    public int binarySearch(Data data) {
+        return BinarySearch.lowerBound(data.timestamps, data.nextKey());
+    }
+
+    @Benchmark
+    public int eytzinger(Data data, Eytzinger eytzinger) {
+        return eytzinger.index.lowerBound(data.nextKey());
+    }
+
+    @Benchmark
+    public int stree(Data data, STree stree) {
+        return stree.index.lowerBound(data.nextKey());
+    }
+
+    public static void main(String[] args) throws Exception {
+
+        Options options = new OptionsBuilder()
+                .include(LearnedIndexBenchmark.class.getSimpleName())
+                .param("size", "1000000")
+                .build();
+        new Runner(options).run();
+    }
+}
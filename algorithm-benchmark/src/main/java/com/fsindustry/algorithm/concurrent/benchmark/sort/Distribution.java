@@ -0,0 +1,140 @@
+package com.fsindustry.algorithm.concurrent.benchmark.sort;
+
+import java.util.Arrays;
+import java.util.Random;
+
+/**
+ * 基准测试的输入分布
+ */
+public enum Distribution {
+
+    /**
+     * 均匀随机
+     */
+    RANDOM {
+        @Override
+        int[] generate(int size, Random random) {
+            int[] arr = new int[size];
+            for (int i = 0; i < size; i++) {
+                arr[i] = random.nextInt();
+            }
+            return arr;
+        }
+    },
+
+    /**
+     * 升序
+     */
+    SORTED {
+        @Override
+        int[] generate(int size, Random random) {
+            int[] arr = new int[size];
+            for (int i = 0; i < size; i++) {
+                arr[i] = i;
+            }
+            return arr;
+        }
+    },
+
+    /**
+     * 降序
+     */
+    REVERSED {
+        @Override
+        int[] generate(int size, Random random) {
+            int[] arr = new int[size];
+            for (int i = 0; i < size; i++) {
+                arr[i] = size - i;
+            }
+            return arr;
+        }
+    },
+
+    /**
+     * 风琴管：前半升序，后半降序
+     */
+    ORGAN_PIPE {
+        @Override
+        int[] generate(int size, Random random) {
+            int[] arr = new int[size];
+            for (int i = 0; i < size; i++) {
+                arr[i] = i < size / 2 ? i : size - 1 - i;
+            }
+            return arr;
+        }
+    },
+
+    /**
+     * 只有16种取值
+     */
+    FEW_UNIQUE {
+        @Override
+        int[] generate(int size, Random random) {
+            int[] arr = new int[size];
+            for (int i = 0; i < size; i++) {
+                arr[i] = random.nextInt(FEW_UNIQUE_VALUES);
+            }
+            return arr;
+        }
+    },
+
+    /**
+     * Zipf分布：第k个取值出现的概率正比于1/k，少数取值占大多数
+     */
+    ZIPFIAN {
+        @Override
+        int[] generate(int size, Random random) {
+
+            int distinct = Math.max(1, Math.min(size, ZIPF_MAX_DISTINCT));
+            double[] cdf = new double[distinct];
+            double sum = 0;
+            for (int k = 0; k < distinct; k++) {
+                sum += 1.0 / (k + 1);
+                cdf[k] = sum;
+            }
+
+            // 按累积分布二分查找取值，取值再打散，避免小值恰好对应高频
+            int[] values = RANDOM.generate(distinct, random);
+            int[] arr = new int[size];
+            for (int i = 0; i < size; i++) {
+                int k = Arrays.binarySearch(cdf, random.nextDouble() * sum);
+                arr[i] = values[k < 0 ? Math.min(-k - 1, distinct - 1) : k];
+            }
+            return arr;
+        }
+    };
+
+    static final int FEW_UNIQUE_VALUES = 16;
+
+    static final int ZIPF_MAX_DISTINCT = 1 << 20;
+
+    abstract int[] generate(int size, Random random);
+
+    /**
+     * 生成输入：相同的size、seed得到相同的数组
+     */
+    public int[] ints(int size, long seed) {
+        return generate(size, new Random(seed));
+    }
+
+    public Integer[] boxed(int size, long seed) {
+        int[] arr = ints(size, seed);
+        Integer[] boxed = new Integer[size];
+        for (int i = 0; i < size; i++) {
+            boxed[i] = arr[i];
+        }
+        return boxed;
+    }
+
+    /**
+     * 字符串输入：固定前缀加上十六进制的取值，字典序与无符号数值序一致
+     */
+    public String[] strings(int size, long seed) {
+        int[] arr = ints(size, seed);
+        String[] strings = new String[size];
+        for (int i = 0; i < size; i++) {
+            strings[i] = String.format("key-%08x", arr[i]);
+        }
+        return strings;
+    }
+}
@@ -0,0 +1,179 @@
+package com.fsindustry.algorithm.concurrent.benchmark.sort;
+
+import java.nio.ByteBuffer;
+import java.nio.IntBuffer;
+import java.util.Arrays;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import com.fsindustry.algorithm.concurrent.sort.buffersort.BufferSort;
+import com.fsindustry.algorithm.concurrent.sort.heapsort.HeatSort;
+import com.fsindustry.algorithm.concurrent.sort.quicksort.IntroSort;
+import com.fsindustry.algorithm.concurrent.sort.quicksort.ThreeWayQuickSort;
+import com.fsindustry.algorithm.concurrent.sort.radixsort.ParallelRadixSort;
+import com.fsindustry.algorithm.concurrent.sort.radixsort.RadixSort;
+
+/**
+ * int数组排序基准：各排序算法在不同规模、不同输入分布下的吞吐量，
+ * 以Arrays.sort、Arrays.parallelSort为基线
+ * <p>
+ * 每次调用先将原始输入拷贝到工作数组再排序，拷贝的耗时由copy单独给出；
+ * 配合-prof gc查看分配速率，如：java -jar target/benchmarks.jar IntSortBenchmark -p size=1000000 -prof gc
+ * <p>
+ * QuickSort在退化输入上为O(n^2)，只在合法的规模与分布组合上测量，见QuickSortBenchmark；
+ * SmallSort只在THRESHOLD以内有意义，见SmallSortBenchmark
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = {"-Xms2g", "-Xmx6g"})
+public class IntSortBenchmark {
+
+    @Param({"10", "100", "1000", "10000", "100000", "1000000", "10000000", "100000000"})
+    public int size;
+
+    @Param({"RANDOM", "SORTED", "REVERSED", "ORGAN_PIPE", "FEW_UNIQUE", "ZIPFIAN"})
+    public Distribution distribution;
+
+    private int[] source;
+
+    private int[] work;
+
+    private int[] buf;
+
+    private IntBuffer direct;
+
+    private IntBuffer directBuf;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        source = distribution.ints(size, 42);
+        work = new int[size];
+        buf = new int[size];
+        direct = ByteBuffer.allocateDirect(size * Integer.BYTES).asIntBuffer();
+        directBuf = ByteBuffer.allocateDirect(size * Integer.BYTES).asIntBuffer();
+    }
+
+    private int[] fresh() {
+        System.arraycopy(source, 0, work, 0, size);
+        return work;
+    }
+
+    private IntBuffer freshDirect() {
+        direct.clear();
+        direct.put(source);
+        direct.clear();
+        return direct;
+    }
+
+    @Benchmark
+    public int[] copy() {
+        return fresh();
+    }
+
+    @Benchmark
+    public int[] arraysSort() {
+        int[] arr = fresh();
+        Arrays.sort(arr);
+        return arr;
+    }
+
+    @Benchmark
+    public int[] arraysParallelSort() {
+        int[] arr = fresh();
+        Arrays.parallelSort(arr);
+        return arr;
+    }
+
+    @Benchmark
+    public int[] introSort() {
+        int[] arr = fresh();
+        IntroSort.sort(arr);
+        return arr;
+    }
+
+    @Benchmark
+    public int[] threeWayQuickSort() {
+        int[] arr = fresh();
+        ThreeWayQuickSort.sort(arr);
+        return arr;
+    }
+
+    @Benchmark
+    public int[] heapSort() {
+        int[] arr = fresh();
+        HeatSort.sort(arr, 0, arr.length - 1);
+        return arr;
+    }
+
+    @Benchmark
+    public int[] heapSortBottomUp() {
+        int[] arr = fresh();
+        HeatSort.bottomUpSort(arr);
+        return arr;
+    }
+
+    @Benchmark
+    public int[] heapSortQuaternary() {
+        int[] arr = fresh();
+        HeatSort.quaternarySort(arr);
+        return arr;
+    }
+
+    @Benchmark
+    public int[] radixSort() {
+        int[] arr = fresh();
+        RadixSort.sort(arr, buf);
+        return arr;
+    }
+
+    @Benchmark
+    public int[] parallelRadixSort() {
+        int[] arr = fresh();
+        ParallelRadixSort.sort(arr, buf, ForkJoinPool.commonPool());
+        return arr;
+    }
+
+    @Benchmark
+    public IntBuffer bufferIntroSort() {
+        IntBuffer arr = freshDirect();
+        BufferSort.introSort(arr);
+        return arr;
+    }
+
+    @Benchmark
+    public IntBuffer bufferRadixSort() {
+        IntBuffer arr = freshDirect();
+        BufferSort.radixSort(arr, directBuf);
+        return arr;
+    }
+
+    public static void main(String[] args) throws Exception {
+
+        Options options = new OptionsBuilder()
+                .include(IntSortBenchmark.class.getSimpleName())
+                .param("size", "1000", "1000000")
+                .addProfiler(GCProfiler.class)
+                .build();
+        new Runner(options).run();
+    }
+}
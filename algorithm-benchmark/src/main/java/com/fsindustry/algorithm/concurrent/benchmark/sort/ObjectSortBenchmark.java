@@ -0,0 +1,172 @@
+package com.fsindustry.algorithm.concurrent.benchmark.sort;
+
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import com.fsindustry.algorithm.concurrent.sort.heapsort.HeatSort;
+import com.fsindustry.algorithm.concurrent.sort.mergesort.AdaptiveMergeSort;
+import com.fsindustry.algorithm.concurrent.sort.samplesort.SampleSort;
+import com.fsindustry.algorithm.concurrent.sort.stringsort.MsdStringSort;
+import com.fsindustry.algorithm.concurrent.sort.stringsort.ThreeWayStringQuickSort;
+
+/**
+ * 对象数组排序基准：Integer[]上的比较排序、String[]上的字符串排序，
+ * 以Arrays.sort、Arrays.parallelSort为基线；归并类排序的分配速率可通过-prof gc查看
+ * <p>
+ * Integer与String输入分属不同的State，各自只构建自己的数据；String输入内存占用大，规模上限为10^7
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = {"-Xms2g", "-Xmx6g"})
+public class ObjectSortBenchmark {
+
+    /**
+     * Integer[]输入
+     */
+    @State(Scope.Thread)
+    public static class IntegerInput {
+
+        @Param({"10", "100", "1000", "10000", "100000", "1000000", "10000000", "100000000"})
+        public int size;
+
+        @Param({"RANDOM", "SORTED", "REVERSED", "ORGAN_PIPE", "FEW_UNIQUE", "ZIPFIAN"})
+        public Distribution distribution;
+
+        private Integer[] source;
+
+        private Integer[] work;
+
+        @Setup(Level.Trial)
+        public void setUp() {
+            source = distribution.boxed(size, 42);
+            work = new Integer[size];
+        }
+
+        Integer[] fresh() {
+            System.arraycopy(source, 0, work, 0, size);
+            return work;
+        }
+    }
+
+    /**
+     * String[]输入
+     */
+    @State(Scope.Thread)
+    public static class StringInput {
+
+        @Param({"10", "100", "1000", "10000", "100000", "1000000", "10000000"})
+        public int stringSize;
+
+        @Param({"RANDOM", "SORTED", "REVERSED", "ORGAN_PIPE", "FEW_UNIQUE", "ZIPFIAN"})
+        public Distribution stringDistribution;
+
+        private String[] source;
+
+        private String[] work;
+
+        @Setup(Level.Trial)
+        public void setUp() {
+            source = stringDistribution.strings(stringSize, 42);
+            work = new String[stringSize];
+        }
+
+        String[] fresh() {
+            System.arraycopy(source, 0, work, 0, stringSize);
+            return work;
+        }
+    }
+
+    @Benchmark
+    public Integer[] arraysSort(IntegerInput input) {
+        Integer[] arr = input.fresh();
+        Arrays.sort(arr);
+        return arr;
+    }
+
+    @Benchmark
+    public Integer[] arraysParallelSort(IntegerInput input) {
+        Integer[] arr = input.fresh();
+        Arrays.parallelSort(arr);
+        return arr;
+    }
+
+    @Benchmark
+    public Integer[] adaptiveMergeSort(IntegerInput input) {
+        Integer[] arr = input.fresh();
+        AdaptiveMergeSort.sort(arr);
+        return arr;
+    }
+
+    @Benchmark
+    public Integer[] sampleSort(IntegerInput input) {
+        Integer[] arr = input.fresh();
+        SampleSort.sort(arr);
+        return arr;
+    }
+
+    @Benchmark
+    public Integer[] heapSort(IntegerInput input) {
+        Integer[] arr = input.fresh();
+        HeatSort.sort(arr);
+        return arr;
+    }
+
+    @Benchmark
+    public Integer[] heapSortBottomUp(IntegerInput input) {
+        Integer[] arr = input.fresh();
+        HeatSort.bottomUpSort(arr, Comparator.naturalOrder());
+        return arr;
+    }
+
+    @Benchmark
+    public String[] arraysSortString(StringInput input) {
+        String[] arr = input.fresh();
+        Arrays.sort(arr);
+        return arr;
+    }
+
+    @Benchmark
+    public String[] msdStringSort(StringInput input) {
+        String[] arr = input.fresh();
+        MsdStringSort.sort(arr);
+        return arr;
+    }
+
+    @Benchmark
+    public String[] threeWayStringQuickSort(StringInput input) {
+        String[] arr = input.fresh();
+        ThreeWayStringQuickSort.sort(arr);
+        return arr;
+    }
+
+    public static void main(String[] args) throws Exception {
+
+        Options options = new OptionsBuilder()
+                .include(ObjectSortBenchmark.class.getSimpleName())
+                .param("size", "1000", "1000000")
+                .param("stringSize", "1000", "1000000")
+                .addProfiler(GCProfiler.class)
+                .build();
+        new Runner(options).run();
+    }
+}
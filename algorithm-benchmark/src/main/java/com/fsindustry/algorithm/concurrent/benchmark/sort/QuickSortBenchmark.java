@@ -0,0 +1,142 @@
+package com.fsindustry.algorithm.concurrent.benchmark.sort;
+
+import java.util.Arrays;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import com.fsindustry.algorithm.concurrent.sort.quicksort.QuickSort;
+
+/**
+ * QuickSort基准：以Arrays.sort为基线
+ * <p>
+ * QuickSort使用首元素作为枢轴，在有序、逆序、风琴管上退化为O(n^2)且递归深度为n，
+ * 在少量取值、Zipf分布上大量重复元素同样使递归过深；
+ * 因此随机输入与退化输入分属不同的State：随机输入覆盖全部规模，退化输入规模上限为10^4，
+ * 默认参数下的每个组合都能正常运行；递归深度10^4超出默认线程栈，fork时调大-Xss
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = {"-Xms2g", "-Xmx6g", "-Xss32m"})
+public class QuickSortBenchmark {
+
+    /**
+     * 随机输入
+     */
+    @State(Scope.Thread)
+    public static class RandomInput {
+
+        @Param({"10", "100", "1000", "10000", "100000", "1000000", "10000000", "100000000"})
+        public int size;
+
+        private int[] source;
+
+        private int[] work;
+
+        @Setup(Level.Trial)
+        public void setUp() {
+            source = Distribution.RANDOM.ints(size, 42);
+            work = new int[size];
+        }
+
+        int[] fresh() {
+            System.arraycopy(source, 0, work, 0, size);
+            return work;
+        }
+    }
+
+    /**
+     * 退化输入
+     */
+    @State(Scope.Thread)
+    public static class DegenerateInput {
+
+        @Param({"10", "100", "1000", "10000"})
+        public int degenerateSize;
+
+        @Param({"SORTED", "REVERSED", "ORGAN_PIPE", "FEW_UNIQUE", "ZIPFIAN"})
+        public Distribution degenerateDistribution;
+
+        private int[] source;
+
+        private int[] work;
+
+        @Setup(Level.Trial)
+        public void setUp() {
+            source = degenerateDistribution.ints(degenerateSize, 42);
+            work = new int[degenerateSize];
+        }
+
+        int[] fresh() {
+            System.arraycopy(source, 0, work, 0, degenerateSize);
+            return work;
+        }
+    }
+
+    @Benchmark
+    public int[] arraysSort(RandomInput input) {
+        int[] arr = input.fresh();
+        Arrays.sort(arr);
+        return arr;
+    }
+
+    @Benchmark
+    public int[] quickSort(RandomInput input) {
+        int[] arr = input.fresh();
+        QuickSort.sort(arr, 0, arr.length - 1);
+        return arr;
+    }
+
+    @Benchmark
+    public int[] quickSortParallel(RandomInput input) {
+        int[] arr = input.fresh();
+        QuickSort.parallelSort(arr);
+        return arr;
+    }
+
+    @Benchmark
+    public int[] arraysSortDegenerate(DegenerateInput input) {
+        int[] arr = input.fresh();
+        Arrays.sort(arr);
+        return arr;
+    }
+
+    @Benchmark
+    public int[] quickSortDegenerate(DegenerateInput input) {
+        int[] arr = input.fresh();
+        QuickSort.sort(arr, 0, arr.length - 1);
+        return arr;
+    }
+
+    @Benchmark
+    public int[] quickSortParallelDegenerate(DegenerateInput input) {
+        int[] arr = input.fresh();
+        QuickSort.parallelSort(arr);
+        return arr;
+    }
+
+    public static void main(String[] args) throws Exception {
+
+        Options options = new OptionsBuilder()
+                .include(QuickSortBenchmark.class.getSimpleName())
+                .param("size", "1000", "1000000")
+                .build();
+        new Runner(options).run();
+    }
+}
@@ -0,0 +1,88 @@
+package com.fsindustry.algorithm.concurrent.benchmark.sort;
+
+import java.util.Arrays;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import com.fsindustry.algorithm.concurrent.sort.smallsort.SmallSort;
+
+/**
+ * 小数组排序基准：规模不超过SmallSort.THRESHOLD，排序网络与二分插入排序的单次耗时，
+ * 以Arrays.sort为基线
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class SmallSortBenchmark {
+
+    @Param({"4", "8", "16", "24", "32"})
+    public int size;
+
+    @Param({"RANDOM", "SORTED", "REVERSED", "FEW_UNIQUE"})
+    public Distribution distribution;
+
+    private int[] source;
+
+    private int[] work;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+
+        if (size > SmallSort.THRESHOLD) {
+            throw new IllegalStateException("size " + size + " exceeds SmallSort.THRESHOLD " + SmallSort.THRESHOLD);
+        }
+
+        source = distribution.ints(size, 42);
+        work = new int[size];
+    }
+
+    private int[] fresh() {
+        System.arraycopy(source, 0, work, 0, size);
+        return work;
+    }
+
+    @Benchmark
+    public int[] copy() {
+        return fresh();
+    }
+
+    @Benchmark
+    public int[] arraysSort() {
+        int[] arr = fresh();
+        Arrays.sort(arr);
+        return arr;
+    }
+
+    @Benchmark
+    public int[] smallSort() {
+        int[] arr = fresh();
+        SmallSort.sortSmall(arr);
+        return arr;
+    }
+
+    public static void main(String[] args) throws Exception {
+
+        Options options = new OptionsBuilder()
+                .include(SmallSortBenchmark.class.getSimpleName())
+                .build();
+        new Runner(options).run();
+    }
+}
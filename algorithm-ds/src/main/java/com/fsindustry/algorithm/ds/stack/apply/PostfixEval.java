@@ -1,6 +1,6 @@
 package com.fsindustry.algorithm.ds.stack.apply;
 
-import com.fsindustry.algorithm.ds.stack.ALStack;
+import com.fsindustry.algorithm.concurrent.ds.stack.ALStack;
 
 /**
  * 后缀算术表达式求值
@@ -0,0 +1,188 @@
+package com.fsindustry.algorithm.concurrent.search.batchsearch;
+
+import java.util.Arrays;
+
+import com.fsindustry.algorithm.concurrent.search.binarysearch.BinarySearch;
+import com.fsindustry.algorithm.concurrent.search.galloping.GallopingSearch;
+
+/**
+ * 批量查找：一次在同一个有序数组中查找多个key，结果写入调用方提供的数组
+ * <p>
+ * 1. key有序：类似归并连接，每个key从上一个key的结果开始倍增探测（galloping），
+ * 整体只顺序扫描arr一遍，key密集时接近O(n + m)，稀疏时接近O(m log n)；
+ * 2. key无序：多个相互独立的二分查找交错执行，利用内存级并行隐藏缓存缺失的延迟
+ */
+public class BatchSearch {
+
+    /**
+     * 交错查找时同时进行的查找路数
+     */
+    static final int LANES = 8;
+
+    /**
+     * 批量lowerBound：out[i]为第一个不小于keys[i]的元素在arr中的位置；
+     * keys有序时使用归并扫描，否则交错查找
+     */
+    public static void lowerBounds(int[] arr, int[] keys, int[] out) {
+
+        checkOutput(keys.length, out.length);
+        if (isSorted(keys)) {
+            mergeLowerBounds(arr, keys, out);
+        } else {
+            interleavedLowerBounds(arr, keys, out);
+        }
+    }
+
+    /**
+     * 批量查找：out[i]为keys[i]在arr中的索引，不存在为-1；有重复元素时为第一个
+     */
+    public static void search(int[] arr, int[] keys, int[] out) {
+
+        lowerBounds(arr, keys, out);
+        for (int i = 0; i < keys.length; i++) {
+            int idx = out[i];
+            out[i] = idx < arr.length && arr[idx] == keys[i] ? idx : -1;
+        }
+    }
+
+    /**
+     * 有序探测：从上一个结果开始指数查找；
+     * 相邻key的结果相距d时代价为O(log d)，总代价不超过O(m log(n / m + 1))
+     */
+    static void mergeLowerBounds(int[] arr, int[] keys, int[] out) {
+
+        int pos = 0;
+        for (int i = 0; i < keys.length; i++) {
+            pos = GallopingSearch.lowerBound(arr, pos, arr.length - 1, keys[i]);
+            out[i] = pos;
+        }
+    }
+
+    /**
+     * 无序探测：每LANES个key一组同步下降，每轮各路的访存互不依赖，可以同时等待缓存缺失；
+     * 无分支的二分查找循环次数只与n有关，各路步调一致
+     */
+    static void interleavedLowerBounds(int[] arr, int[] keys, int[] out) {
+
+        int[] base = new int[LANES];
+        int m = keys.length;
+        int g = 0;
+        for (; g + LANES <= m && arr.length > 0; g += LANES) {
+
+            Arrays.fill(base, 0);
+            int n = arr.length;
+            while (n > 1) {
+                int half = n >>> 1;
+                for (int l = 0; l < LANES; l++) {
+                    int b = base[l];
+                    base[l] = arr[b + half - 1] < keys[g + l] ? b + half : b;
+                }
+                n -= half;
+            }
+
+            for (int l = 0; l < LANES; l++) {
+                int b = base[l];
+                out[g + l] = arr[b] >= keys[g + l] ? b : b + 1;
+            }
+        }
+
+        // 不足一组的key逐个查找
+        for (; g < m; g++) {
+            out[g] = BinarySearch.lowerBound(arr, keys[g]);
+        }
+    }
+
+    private static boolean isSorted(int[] keys) {
+        for (int i = 1; i < keys.length; i++) {
+            if (keys[i - 1] > keys[i]) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * 批量lowerBound：long数组
+     */
+    public static void lowerBounds(long[] arr, long[] keys, int[] out) {
+
+        checkOutput(keys.length, out.length);
+        if (isSorted(keys)) {
+            mergeLowerBounds(arr, keys, out);
+        } else {
+            interleavedLowerBounds(arr, keys, out);
+        }
+    }
+
+    public static void search(long[] arr, long[] keys, int[] out) {
+
+        lowerBounds(arr, keys, out);
+        for (int i = 0; i < keys.length; i++) {
+            int idx = out[i];
+            out[i] = idx < arr.length && arr[idx] == keys[i] ? idx : -1;
+        }
+    }
+
+    static void mergeLowerBounds(long[] arr, long[] keys, int[] out) {
+
+        int pos = 0;
+        for (int i = 0; i < keys.length; i++) {
+            pos = GallopingSearch.lowerBound(arr, pos, arr.length - 1, keys[i]);
+            out[i] = pos;
+        }
+    }
+
+    static void interleavedLowerBounds(long[] arr, long[] keys, int[] out) {
+
+        int[] base = new int[LANES];
+        int m = keys.length;
+        int g = 0;
+        for (; g + LANES <= m && arr.length > 0; g += LANES) {
+
+            Arrays.fill(base, 0);
+            int n = arr.length;
+            while (n > 1) {
+                int half = n >>> 1;
+                for (int l = 0; l < LANES; l++) {
+                    int b = base[l];
+                    base[l] = arr[b + half - 1] < keys[g + l] ? b + half : b;
+                }
+                n -= half;
+            }
+
+            for (int l = 0; l < LANES; l++) {
+                int b = base[l];
+                out[g + l] = arr[b] >= keys[g + l] ? b : b + 1;
+            }
+        }
+
+        // 不足一组的key逐个查找
+        for (; g < m; g++) {
+            out[g] = BinarySearch.lowerBound(arr, keys[g]);
+        }
+    }
+
+    private static boolean isSorted(long[] keys) {
+        for (int i = 1; i < keys.length; i++) {
+            if (keys[i - 1] > keys[i]) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static void checkOutput(int keys, int out) {
+        if (out < keys) {
+            throw new IllegalArgumentException("output is too small: " + out + " < " + keys);
+        }
+    }
+
+    public static void main(String[] args) {
+
+        int[] arr = {0, 1, 2, 3, 3, 3, 4, 5, 6, 7, 8, 9};
+        int[] keys = {9, 3, -1, 10, 4, 0, 3, 7, 2};
+        int[] out = new int[keys.length];
+        search(arr, keys, out);
+        System.out.println(Arrays.toString(out));
+    }
+}
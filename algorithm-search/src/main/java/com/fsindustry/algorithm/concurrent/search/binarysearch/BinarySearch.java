@@ -1,54 +1,283 @@
 package com.fsindustry.algorithm.concurrent.search.binarysearch;
 
 import java.util.Arrays;
+import java.util.Comparator;
 
+/**
+ * 二分查找
+ * <p>
+ * lowerBound、upperBound使用无分支写法：每轮固定将区间长度减半，
+ * 只根据比较结果选择新的起点，循环次数只与长度有关，JIT可以生成条件移动指令，避免分支预测失败；
+ * 区间参数为闭区间[low, high]，找不到时返回high + 1
+ */
 public class BinarySearch {
 
+    /**
+     * 查找key的索引，不存在返回-1；有重复元素时返回第一个
+     */
     public static int search(int key, int[] sortedArr) {
 
-        int highIdx = sortedArr.length - 1;
-        int lowIdx = 0;
-
-        while (highIdx >= lowIdx) {
-
-            int midIdx = lowIdx + (highIdx - lowIdx) / 2;
-
-            if (sortedArr[midIdx] == key) {
-                return key;
-            } else if (sortedArr[midIdx] > key) {
-                lowIdx = midIdx;
-            } else if (sortedArr[midIdx] < key) {
-                highIdx = midIdx;
-            }
-        }
-
-        return -1;
+        int idx = lowerBound(sortedArr, key);
+        return idx < sortedArr.length && sortedArr[idx] == key ? idx : -1;
     }
 
+    /**
+     * 经典二分查找：查找key的索引，不存在返回-1
+     */
     public static int search1(int[] arr, int key) {
 
         int high = arr.length - 1;
         int low = 0;
 
-        while (low < high) {
-            int mid = (low + high) / 2;
+        while (low <= high) {
+            int mid = (low + high) >>> 1;
 
             if (arr[mid] == key) {
                 return mid;
             } else if (arr[mid] > key) {
-                high = mid;
+                high = mid - 1;
             } else {
-                low = mid;
+                low = mid + 1;
             }
         }
 
         return -1;
     }
 
+    /**
+     * 第一个不小于key的索引
+     */
+    public static int lowerBound(int[] arr, int key) {
+        return lowerBound(arr, 0, arr.length - 1, key);
+    }
+
+    public static int lowerBound(int[] arr, int low, int high, int key) {
+
+        checkRange(arr.length, low, high);
+        int base = low;
+        int n = high - low + 1;
+        while (n > 1) {
+            int half = n >>> 1;
+            base = arr[base + half - 1] < key ? base + half : base;
+            n -= half;
+        }
+        return n == 0 || arr[base] >= key ? base : base + 1;
+    }
+
+    /**
+     * 第一个大于key的索引
+     */
+    public static int upperBound(int[] arr, int key) {
+        return upperBound(arr, 0, arr.length - 1, key);
+    }
+
+    public static int upperBound(int[] arr, int low, int high, int key) {
+
+        checkRange(arr.length, low, high);
+        int base = low;
+        int n = high - low + 1;
+        while (n > 1) {
+            int half = n >>> 1;
+            base = arr[base + half - 1] <= key ? base + half : base;
+            n -= half;
+        }
+        return n == 0 || arr[base] > key ? base : base + 1;
+    }
+
+    /**
+     * 等于key的区间[from, to)：为避免分配对象，打包为long返回，分别通过from、to取出
+     */
+    public static long equalRange(int[] arr, int key) {
+        return equalRange(arr, 0, arr.length - 1, key);
+    }
+
+    public static long equalRange(int[] arr, int low, int high, int key) {
+        int from = lowerBound(arr, low, high, key);
+        return range(from, upperBound(arr, from, high, key));
+    }
+
+    /**
+     * 第一个不小于key的索引：long数组
+     */
+    public static int lowerBound(long[] arr, long key) {
+        return lowerBound(arr, 0, arr.length - 1, key);
+    }
+
+    public static int lowerBound(long[] arr, int low, int high, long key) {
+
+        checkRange(arr.length, low, high);
+        int base = low;
+        int n = high - low + 1;
+        while (n > 1) {
+            int half = n >>> 1;
+            base = arr[base + half - 1] < key ? base + half : base;
+            n -= half;
+        }
+        return n == 0 || arr[base] >= key ? base : base + 1;
+    }
+
+    public static int upperBound(long[] arr, long key) {
+        return upperBound(arr, 0, arr.length - 1, key);
+    }
+
+    public static int upperBound(long[] arr, int low, int high, long key) {
+
+        checkRange(arr.length, low, high);
+        int base = low;
+        int n = high - low + 1;
+        while (n > 1) {
+            int half = n >>> 1;
+            base = arr[base + half - 1] <= key ? base + half : base;
+            n -= half;
+        }
+        return n == 0 || arr[base] > key ? base : base + 1;
+    }
+
+    public static long equalRange(long[] arr, long key) {
+        return equalRange(arr, 0, arr.length - 1, key);
+    }
+
+    public static long equalRange(long[] arr, int low, int high, long key) {
+        int from = lowerBound(arr, low, high, key);
+        return range(from, upperBound(arr, from, high, key));
+    }
+
+    /**
+     * 第一个不小于key的索引：double数组，按Double.compare的全序比较（-0.0小于0.0，NaN最大），
+     * 与Arrays.sort的结果一致；比较前转换为有序的long，比较本身没有分支
+     */
+    public static int lowerBound(double[] arr, double key) {
+        return lowerBound(arr, 0, arr.length - 1, key);
+    }
+
+    public static int lowerBound(double[] arr, int low, int high, double key) {
+
+        checkRange(arr.length, low, high);
+        long k = sortableBits(key);
+        int base = low;
+        int n = high - low + 1;
+        while (n > 1) {
+            int half = n >>> 1;
+            base = sortableBits(arr[base + half - 1]) < k ? base + half : base;
+            n -= half;
+        }
+        return n == 0 || sortableBits(arr[base]) >= k ? base : base + 1;
+    }
+
+    public static int upperBound(double[] arr, double key) {
+        return upperBound(arr, 0, arr.length - 1, key);
+    }
+
+    public static int upperBound(double[] arr, int low, int high, double key) {
+
+        checkRange(arr.length, low, high);
+        long k = sortableBits(key);
+        int base = low;
+        int n = high - low + 1;
+        while (n > 1) {
+            int half = n >>> 1;
+            base = sortableBits(arr[base + half - 1]) <= k ? base + half : base;
+            n -= half;
+        }
+        return n == 0 || sortableBits(arr[base]) > k ? base : base + 1;
+    }
+
+    public static long equalRange(double[] arr, double key) {
+        return equalRange(arr, 0, arr.length - 1, key);
+    }
+
+    public static long equalRange(double[] arr, int low, int high, double key) {
+        int from = lowerBound(arr, low, high, key);
+        return range(from, upperBound(arr, from, high, key));
+    }
+
+    /**
+     * double转换为long，long的大小顺序与Double.compare一致：
+     * 负数翻转除符号位以外的所有位，NaN统一为规范形式
+     */
+    static long sortableBits(double value) {
+        long bits = Double.doubleToLongBits(value);
+        return bits ^ ((bits >> 63) & Long.MAX_VALUE);
+    }
+
+    /**
+     * 第一个不小于key的索引：按comparator比较
+     */
+    public static <T> int lowerBound(T[] arr, T key, Comparator<? super T> comparator) {
+        return lowerBound(arr, 0, arr.length - 1, key, comparator);
+    }
+
+    public static <T> int lowerBound(T[] arr, int low, int high, T key, Comparator<? super T> comparator) {
+
+        checkRange(arr.length, low, high);
+        int base = low;
+        int n = high - low + 1;
+        while (n > 1) {
+            int half = n >>> 1;
+            base = comparator.compare(arr[base + half - 1], key) < 0 ? base + half : base;
+            n -= half;
+        }
+        return n == 0 || comparator.compare(arr[base], key) >= 0 ? base : base + 1;
+    }
+
+    public static <T> int upperBound(T[] arr, T key, Comparator<? super T> comparator) {
+        return upperBound(arr, 0, arr.length - 1, key, comparator);
+    }
+
+    public static <T> int upperBound(T[] arr, int low, int high, T key, Comparator<? super T> comparator) {
+
+        checkRange(arr.length, low, high);
+        int base = low;
+        int n = high - low + 1;
+        while (n > 1) {
+            int half = n >>> 1;
+            base = comparator.compare(arr[base + half - 1], key) <= 0 ? base + half : base;
+            n -= half;
+        }
+        return n == 0 || comparator.compare(arr[base], key) > 0 ? base : base + 1;
+    }
+
+    public static <T> long equalRange(T[] arr, T key, Comparator<? super T> comparator) {
+        return equalRange(arr, 0, arr.length - 1, key, comparator);
+    }
+
+    public static <T> long equalRange(T[] arr, int low, int high, T key, Comparator<? super T> comparator) {
+        int from = lowerBound(arr, low, high, key, comparator);
+        return range(from, upperBound(arr, from, high, key, comparator));
+    }
+
+    /**
+     * 区间起点（包含）
+     */
+    public static int from(long range) {
+        return (int) (range >>> 32);
+    }
+
+    /**
+     * 区间终点（不包含）
+     */
+    public static int to(long range) {
+        return (int) range;
+    }
+
+    static long range(int from, int to) {
+        return ((long) from << 32) | (to & 0xFFFFFFFFL);
+    }
+
+    private static void checkRange(int length, int low, int high) {
+        if (low < 0 || high >= length || low > high + 1) {
+            throw new IllegalArgumentException("illegal range [" + low + ", " + high + "] of " + length);
+        }
+    }
+
     public static void main(String[] args) {
-        int[] arr = {3, 6, 5, 4, 7, 9, 8, 0, 2, 1};
+        int[] arr = {3, 6, 5, 4, 7, 9, 8, 0, 2, 1, 3};
         Arrays.sort(arr);
         System.out.println(search1(arr, 3));
+        System.out.println(search(3, arr));
+
+        long range = equalRange(arr, 3);
+        System.out.println("[" + from(range) + ", " + to(range) + ")");
     }
 
 }
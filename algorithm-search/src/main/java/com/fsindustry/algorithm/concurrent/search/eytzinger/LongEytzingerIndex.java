@@ -0,0 +1,124 @@
+package com.fsindustry.algorithm.concurrent.search.eytzinger;
+
+import java.util.Arrays;
+
+/**
+ * Eytzinger（BFS）布局的静态查找索引：long有序数组
+ * <p>
+ * 有序数组按完全二叉树的层序重新排列，tree[k]的子节点为tree[2k]、tree[2k+1]（从1开始），
+ * 查找时从根向下走，前几层集中在少数缓存行内，下一次访问的位置只依赖本次比较结果，
+ * 循环体只有一次比较和一次条件移动，没有分支预测失败；
+ * 大数组上比在原数组上二分查找的缓存缺失更少。
+ * <p>
+ * 查找结果通过rank数组映射回原有序数组中的位置，可以直接替换BinarySearch的lowerBound等调用
+ */
+public class LongEytzingerIndex {
+
+    static final int MAX_SIZE = (1 << 30) - 1;
+
+    /**
+     * 层序排列的元素，tree[0]不使用
+     */
+    private final long[] tree;
+
+    /**
+     * rank[k]为tree[k]在原有序数组中的位置
+     */
+    private final int[] rank;
+
+    private final int size;
+
+    /**
+     * 由有序数组构建，O(n)；下降时节点编号可达2n+1，元素个数不能超过MAX_SIZE
+     */
+    public LongEytzingerIndex(long[] sorted) {
+
+        if (sorted.length > MAX_SIZE) {
+            throw new IllegalArgumentException("too many elements: " + sorted.length);
+        }
+
+        for (int i = 1; i < sorted.length; i++) {
+            if (sorted[i - 1] > sorted[i]) {
+                throw new IllegalArgumentException("array is not sorted at index " + i);
+            }
+        }
+
+        this.size = sorted.length;
+        this.tree = new long[size + 1];
+        this.rank = new int[size + 1];
+        build(sorted, 0, 1);
+    }
+
+    /**
+     * 中序遍历完全二叉树，依次填入有序数组的元素；i为下一个待填入的元素，返回填完子树后的i
+     */
+    private int build(long[] sorted, int i, int k) {
+
+        if (k <= size) {
+            i = build(sorted, i, 2 * k);
+            tree[k] = sorted[i];
+            rank[k] = i++;
+            i = build(sorted, i, 2 * k + 1);
+        }
+        return i;
+    }
+
+    public int size() {
+        return size;
+    }
+
+    /**
+     * 第一个不小于key的元素在原有序数组中的位置，不存在返回size
+     */
+    public int lowerBound(long key) {
+
+        int k = 1;
+        while (k <= size) {
+            k = 2 * k + (tree[k] < key ? 1 : 0);
+        }
+        return position(k);
+    }
+
+    /**
+     * 第一个大于key的元素在原有序数组中的位置，不存在返回size
+     */
+    public int upperBound(long key) {
+
+        int k = 1;
+        while (k <= size) {
+            k = 2 * k + (tree[k] <= key ? 1 : 0);
+        }
+        return position(k);
+    }
+
+    /**
+     * 查找key在原有序数组中的位置，不存在返回-1；有重复元素时返回第一个
+     */
+    public int search(long key) {
+
+        int k = 1;
+        while (k <= size) {
+            k = 2 * k + (tree[k] < key ? 1 : 0);
+        }
+
+        k >>>= Integer.numberOfTrailingZeros(~k) + 1;
+        return k != 0 && tree[k] == key ? rank[k] : -1;
+    }
+
+    /**
+     * 下降路径最后一次向左走的节点即为结果：去掉末尾连续的1（向右走）以及最后一次向左走的0
+     */
+    private int position(int k) {
+        k >>>= Integer.numberOfTrailingZeros(~k) + 1;
+        return k == 0 ? size : rank[k];
+    }
+
+    public static void main(String[] args) {
+
+        long[] arr = {3, 6, 5, 4, 7, 9, 8, 0, 2, 1, 3};
+        Arrays.sort(arr);
+        LongEytzingerIndex index = new LongEytzingerIndex(arr);
+        System.out.println(Arrays.toString(arr));
+        System.out.println(index.lowerBound(3) + " " + index.upperBound(3) + " " + index.search(10));
+    }
+}
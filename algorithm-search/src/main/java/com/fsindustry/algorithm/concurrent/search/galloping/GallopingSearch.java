@@ -0,0 +1,70 @@
+package com.fsindustry.algorithm.concurrent.search.galloping;
+
+import com.fsindustry.algorithm.concurrent.search.binarysearch.BinarySearch;
+
+/**
+ * 指数查找（galloping）：从区间起点开始按1、2、4、8...的步长向后探测，
+ * 越过key后在最后一步的区间内二分；结果距起点为d时代价为O(log d)，与区间长度无关，
+ * 适合在有序数组上从前一个结果继续向后查找
+ * <p>
+ * 区间参数为闭区间[low, high]，找不到时返回high + 1，与BinarySearch一致
+ */
+public class GallopingSearch {
+
+    /**
+     * 第一个不小于key的索引，从索引0开始探测
+     */
+    public static int lowerBound(int[] arr, int key) {
+        return lowerBound(arr, 0, arr.length - 1, key);
+    }
+
+    /**
+     * 第一个不小于key的索引，从low开始探测
+     */
+    public static int lowerBound(int[] arr, int low, int high, int key) {
+
+        checkRange(arr.length, low, high);
+        int end = high + 1;
+        int probe = low;
+        int step = 1;
+        while (probe < end && arr[probe] < key) {
+            low = probe + 1;
+            probe = step >= end - probe ? end : probe + step;
+            step <<= 1;
+        }
+
+        // arr[low - 1] < key，probe == end或arr[probe] >= key
+        return BinarySearch.lowerBound(arr, low, probe - 1, key);
+    }
+
+    public static int lowerBound(long[] arr, long key) {
+        return lowerBound(arr, 0, arr.length - 1, key);
+    }
+
+    public static int lowerBound(long[] arr, int low, int high, long key) {
+
+        checkRange(arr.length, low, high);
+        int end = high + 1;
+        int probe = low;
+        int step = 1;
+        while (probe < end && arr[probe] < key) {
+            low = probe + 1;
+            probe = step >= end - probe ? end : probe + step;
+            step <<= 1;
+        }
+
+        return BinarySearch.lowerBound(arr, low, probe - 1, key);
+    }
+
+    private static void checkRange(int length, int low, int high) {
+        if (low < 0 || high >= length || low > high + 1) {
+            throw new IllegalArgumentException("illegal range [" + low + ", " + high + "] of " + length);
+        }
+    }
+
+    public static void main(String[] args) {
+
+        int[] arr = {0, 1, 2, 3, 3, 3, 4, 5, 6, 7, 8, 9};
+        System.out.println(lowerBound(arr, 3) + " " + lowerBound(arr, 4, arr.length - 1, 8) + " " + lowerBound(arr, 10));
+    }
+}
@@ -0,0 +1,364 @@
+package com.fsindustry.algorithm.concurrent.search.galloping;
+
+import java.util.Arrays;
+
+/**
+ * 有序集合运算：交集、并集、差集，适用于倒排索引的posting list
+ * <p>
+ * 输入为严格递增的有序数组，结果同样严格递增，写入调用方提供的数组，返回结果个数；
+ * 两个输入长度相差GALLOP_RATIO倍以上时，较短输入的每个元素在较长输入中指数查找，
+ * 代价为O(m log(n / m))，否则线性归并，代价为O(m + n)
+ */
+public class SortedSetOps {
+
+    /**
+     * 长度比不小于该值时使用指数查找
+     */
+    static final int GALLOP_RATIO = 16;
+
+    /**
+     * 交集：结果写入out，返回结果个数；out的长度不小于较短的输入
+     */
+    public static int intersect(int[] a, int[] b, int[] out) {
+
+        // 交集与顺序无关，a取较短的一个
+        if (a.length > b.length) {
+            int[] tmp = a;
+            a = b;
+            b = tmp;
+        }
+
+        checkOutput(out.length, a.length);
+        if (a.length == 0) {
+            return 0;
+        }
+
+        if (b.length / a.length >= GALLOP_RATIO) {
+            return gallopIntersect(a, b, out);
+        }
+        return mergeIntersect(a, b, out);
+    }
+
+    static int mergeIntersect(int[] a, int[] b, int[] out) {
+
+        int i = 0;
+        int j = 0;
+        int k = 0;
+        while (i < a.length && j < b.length) {
+            if (a[i] < b[j]) {
+                i++;
+            } else if (a[i] > b[j]) {
+                j++;
+            } else {
+                out[k++] = a[i];
+                i++;
+                j++;
+            }
+        }
+        return k;
+    }
+
+    /**
+     * 较短输入的每个元素在较长输入中从上一个位置继续指数查找
+     */
+    static int gallopIntersect(int[] small, int[] large, int[] out) {
+
+        int j = 0;
+        int k = 0;
+        for (int x : small) {
+            j = GallopingSearch.lowerBound(large, j, large.length - 1, x);
+            if (j == large.length) {
+                break;
+            }
+            if (large[j] == x) {
+                out[k++] = x;
+                j++;
+            }
+        }
+        return k;
+    }
+
+    /**
+     * 并集：结果写入out，返回结果个数；out的长度不小于两个输入的长度之和
+     */
+    public static int union(int[] a, int[] b, int[] out) {
+
+        checkOutput(out.length, a.length + b.length);
+        int[] small = a.length <= b.length ? a : b;
+        int[] large = a.length <= b.length ? b : a;
+        if (small.length > 0 && large.length / small.length >= GALLOP_RATIO) {
+            return gallopUnion(small, large, out);
+        }
+
+        int i = 0;
+        int j = 0;
+        int k = 0;
+        while (i < a.length && j < b.length) {
+            if (a[i] < b[j]) {
+                out[k++] = a[i++];
+            } else if (a[i] > b[j]) {
+                out[k++] = b[j++];
+            } else {
+                out[k++] = a[i++];
+                j++;
+            }
+        }
+
+        System.arraycopy(a, i, out, k, a.length - i);
+        k += a.length - i;
+        System.arraycopy(b, j, out, k, b.length - j);
+        return k + b.length - j;
+    }
+
+    /**
+     * 较长输入中两个相邻小元素之间的部分整段拷贝
+     */
+    static int gallopUnion(int[] small, int[] large, int[] out) {
+
+        int j = 0;
+        int k = 0;
+        for (int x : small) {
+
+            int p = GallopingSearch.lowerBound(large, j, large.length - 1, x);
+            System.arraycopy(large, j, out, k, p - j);
+            k += p - j;
+
+            out[k++] = x;
+            j = p < large.length && large[p] == x ? p + 1 : p;
+        }
+
+        System.arraycopy(large, j, out, k, large.length - j);
+        return k + large.length - j;
+    }
+
+    /**
+     * 差集a - b：结果写入out，返回结果个数；out的长度不小于a的长度
+     */
+    public static int difference(int[] a, int[] b, int[] out) {
+
+        checkOutput(out.length, a.length);
+        if (a.length > 0 && b.length / a.length >= GALLOP_RATIO) {
+
+            // a的每个元素在b中指数查找
+            int j = 0;
+            int k = 0;
+            for (int x : a) {
+                j = GallopingSearch.lowerBound(b, j, b.length - 1, x);
+                if (j == b.length || b[j] != x) {
+                    out[k++] = x;
+                }
+            }
+            return k;
+        }
+
+        if (b.length > 0 && a.length / b.length >= GALLOP_RATIO) {
+
+            // b的每个元素在a中指数查找，两者之间的部分整段拷贝
+            int i = 0;
+            int k = 0;
+            for (int y : b) {
+                int p = GallopingSearch.lowerBound(a, i, a.length - 1, y);
+                System.arraycopy(a, i, out, k, p - i);
+                k += p - i;
+                i = p < a.length && a[p] == y ? p + 1 : p;
+            }
+
+            System.arraycopy(a, i, out, k, a.length - i);
+            return k + a.length - i;
+        }
+
+        int i = 0;
+        int j = 0;
+        int k = 0;
+        while (i < a.length && j < b.length) {
+            if (a[i] < b[j]) {
+                out[k++] = a[i++];
+            } else if (a[i] > b[j]) {
+                j++;
+            } else {
+                i++;
+                j++;
+            }
+        }
+
+        System.arraycopy(a, i, out, k, a.length - i);
+        return k + a.length - i;
+    }
+
+    /**
+     * 交集：long数组
+     */
+    public static int intersect(long[] a, long[] b, long[] out) {
+
+        // 交集与顺序无关，a取较短的一个
+        if (a.length > b.length) {
+            long[] tmp = a;
+            a = b;
+            b = tmp;
+        }
+
+        checkOutput(out.length, a.length);
+        if (a.length == 0) {
+            return 0;
+        }
+
+        if (b.length / a.length >= GALLOP_RATIO) {
+            return gallopIntersect(a, b, out);
+        }
+        return mergeIntersect(a, b, out);
+    }
+
+    static int mergeIntersect(long[] a, long[] b, long[] out) {
+
+        int i = 0;
+        int j = 0;
+        int k = 0;
+        while (i < a.length && j < b.length) {
+            if (a[i] < b[j]) {
+                i++;
+            } else if (a[i] > b[j]) {
+                j++;
+            } else {
+                out[k++] = a[i];
+                i++;
+                j++;
+            }
+        }
+        return k;
+    }
+
+    static int gallopIntersect(long[] small, long[] large, long[] out) {
+
+        int j = 0;
+        int k = 0;
+        for (long x : small) {
+            j = GallopingSearch.lowerBound(large, j, large.length - 1, x);
+            if (j == large.length) {
+                break;
+            }
+            if (large[j] == x) {
+                out[k++] = x;
+                j++;
+            }
+        }
+        return k;
+    }
+
+    public static int union(long[] a, long[] b, long[] out) {
+
+        checkOutput(out.length, a.length + b.length);
+        long[] small = a.length <= b.length ? a : b;
+        long[] large = a.length <= b.length ? b : a;
+        if (small.length > 0 && large.length / small.length >= GALLOP_RATIO) {
+            return gallopUnion(small, large, out);
+        }
+
+        int i = 0;
+        int j = 0;
+        int k = 0;
+        while (i < a.length && j < b.length) {
+            if (a[i] < b[j]) {
+                out[k++] = a[i++];
+            } else if (a[i] > b[j]) {
+                out[k++] = b[j++];
+            } else {
+                out[k++] = a[i++];
+                j++;
+            }
+        }
+
+        System.arraycopy(a, i, out, k, a.length - i);
+        k += a.length - i;
+        System.arraycopy(b, j, out, k, b.length - j);
+        return k + b.length - j;
+    }
+
+    static int gallopUnion(long[] small, long[] large, long[] out) {
+
+        int j = 0;
+        int k = 0;
+        for (long x : small) {
+
+            int p = GallopingSearch.lowerBound(large, j, large.length - 1, x);
+            System.arraycopy(large, j, out, k, p - j);
+            k += p - j;
+
+            out[k++] = x;
+            j = p < large.length && large[p] == x ? p + 1 : p;
+        }
+
+        System.arraycopy(large, j, out, k, large.length - j);
+        return k + large.length - j;
+    }
+
+    public static int difference(long[] a, long[] b, long[] out) {
+
+        checkOutput(out.length, a.length);
+        if (a.length > 0 && b.length / a.length >= GALLOP_RATIO) {
+
+            // a的每个元素在b中指数查找
+            int j = 0;
+            int k = 0;
+            for (long x : a) {
+                j = GallopingSearch.lowerBound(b, j, b.length - 1, x);
+                if (j == b.length || b[j] != x) {
+                    out[k++] = x;
+                }
+            }
+            return k;
+        }
+
+        if (b.length > 0 && a.length / b.length >= GALLOP_RATIO) {
+
+            // b的每个元素在a中指数查找，两者之间的部分整段拷贝
+            int i = 0;
+            int k = 0;
+            for (long y : b) {
+                int p = GallopingSearch.lowerBound(a, i, a.length - 1, y);
+                System.arraycopy(a, i, out, k, p - i);
+                k += p - i;
+                i = p < a.length && a[p] == y ? p + 1 : p;
+            }
+
+            System.arraycopy(a, i, out, k, a.length - i);
+            return k + a.length - i;
+        }
+
+        int i = 0;
+        int j = 0;
+        int k = 0;
+        while (i < a.length && j < b.length) {
+            if (a[i] < b[j]) {
+                out[k++] = a[i++];
+            } else if (a[i] > b[j]) {
+                j++;
+            } else {
+                i++;
+                j++;
+            }
+        }
+
+        System.arraycopy(a, i, out, k, a.length - i);
+        return k + a.length - i;
+    }
+
+    private static void checkOutput(int length, int required) {
+        if (length < required) {
+            throw new IllegalArgumentException("output is too small: " + length + " < " + required);
+        }
+    }
+
+    public static void main(String[] args) {
+
+        int[] a = {1, 3, 5, 7, 9, 11};
+        int[] b = {3, 4, 5, 6, 7};
+        int[] out = new int[a.length + b.length];
+
+        int k = intersect(a, b, out);
+        System.out.println(Arrays.toString(Arrays.copyOf(out, k)));
+        k = union(a, b, out);
+        System.out.println(Arrays.toString(Arrays.copyOf(out, k)));
+        k = difference(a, b, out);
+        System.out.println(Arrays.toString(Arrays.copyOf(out, k)));
+    }
+}
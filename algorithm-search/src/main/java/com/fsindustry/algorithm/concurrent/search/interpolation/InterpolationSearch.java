@@ -0,0 +1,235 @@
+package com.fsindustry.algorithm.concurrent.search.interpolation;
+
+import java.util.Arrays;
+
+/**
+ * 插值查找：适用于取值接近均匀分布的有序数组
+ * <p>
+ * 二分查找每次取中点，需要log2(n)次探测；插值查找按key在区间端点值之间的比例估计位置，
+ * 均匀分布时期望O(log log n)次探测，10^9个元素只需几次；
+ * 分布倾斜时估计可能很差，一次插值没有使区间缩小一半就改做一次二分，最坏仍为O(log n)。
+ * <p>
+ * 区间参数为闭区间[low, high]，找不到时返回high + 1，与BinarySearch一致
+ */
+public class InterpolationSearch {
+
+    /**
+     * 插值-顺序查找中顺序扫描的最大步数
+     */
+    static final int SEQUENTIAL_LIMIT = 32;
+
+    /**
+     * 第一个不小于key的索引
+     */
+    public static int lowerBound(int[] arr, int key) {
+        return lowerBound(arr, 0, arr.length - 1, key);
+    }
+
+    /**
+     * 插值查找：按key在[arr[low], arr[high]]中的比例估计位置；
+     * 一次估计没有使区间缩小一半时，下一步改为二分，最坏O(log n)
+     */
+    public static int lowerBound(int[] arr, int low, int high, int key) {
+
+        checkRange(arr.length, low, high);
+        boolean interpolate = true;
+        while (low <= high) {
+
+            // 结果在[low, high + 1]之间
+            int first = arr[low];
+            int last = arr[high];
+            if (key <= first) {
+                return low;
+            }
+            if (key > last) {
+                return high + 1;
+            }
+
+            // first < key <= last，low < high，探测点取[low, high - 1]保证区间缩小
+            int size = high - low + 1;
+            int mid;
+            if (interpolate) {
+                double ratio = ((double) key - (double) first) / ((double) last - (double) first);
+                mid = low + (int) (ratio * (high - low));
+                mid = Math.max(low, Math.min(mid, high - 1));
+            } else {
+                mid = (low + high - 1) >>> 1;
+            }
+
+            if (arr[mid] < key) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+
+            interpolate = high - low + 1 <= size / 2;
+        }
+        return low;
+    }
+
+    /**
+     * 查找key的索引，不存在返回-1；有重复元素时返回第一个
+     */
+    public static int search(int[] arr, int key) {
+        int idx = lowerBound(arr, key);
+        return idx < arr.length && arr[idx] == key ? idx : -1;
+    }
+
+    /**
+     * 插值-顺序查找：插值估计一次位置后向key所在方向顺序扫描，
+     * 数据均匀时估计误差很小，只需扫描几个相邻元素；扫描超过SEQUENTIAL_LIMIT步时改用插值查找
+     */
+    public static int sequentialLowerBound(int[] arr, int key) {
+        return sequentialLowerBound(arr, 0, arr.length - 1, key);
+    }
+
+    public static int sequentialLowerBound(int[] arr, int low, int high, int key) {
+
+        checkRange(arr.length, low, high);
+        if (low > high || key <= arr[low]) {
+            return low;
+        }
+        if (key > arr[high]) {
+            return high + 1;
+        }
+
+        double ratio = ((double) key - (double) arr[low]) / ((double) arr[high] - (double) arr[low]);
+        int i = low + (int) (ratio * (high - low));
+        i = Math.max(low + 1, Math.min(i, high));
+
+        // arr[low] < key <= arr[high]，结果在[low + 1, high]
+        if (arr[i] < key) {
+            int limit = Math.min(high, i + SEQUENTIAL_LIMIT);
+            while (++i <= limit) {
+                if (arr[i] >= key) {
+                    return i;
+                }
+            }
+            return lowerBound(arr, i, high, key);
+        }
+
+        int limit = Math.max(low + 1, i - SEQUENTIAL_LIMIT);
+        while (i > limit) {
+            if (arr[i - 1] < key) {
+                return i;
+            }
+            i--;
+        }
+        return i == low + 1 ? i : lowerBound(arr, low + 1, i, key);
+    }
+
+    public static int sequentialSearch(int[] arr, int key) {
+        int idx = sequentialLowerBound(arr, key);
+        return idx < arr.length && arr[idx] == key ? idx : -1;
+    }
+
+    /**
+     * 第一个不小于key的索引：long数组
+     */
+    public static int lowerBound(long[] arr, long key) {
+        return lowerBound(arr, 0, arr.length - 1, key);
+    }
+
+    public static int lowerBound(long[] arr, int low, int high, long key) {
+
+        checkRange(arr.length, low, high);
+        boolean interpolate = true;
+        while (low <= high) {
+
+            // 结果在[low, high + 1]之间
+            long first = arr[low];
+            long last = arr[high];
+            if (key <= first) {
+                return low;
+            }
+            if (key > last) {
+                return high + 1;
+            }
+
+            // first < key <= last，low < high，探测点取[low, high - 1]保证区间缩小
+            int size = high - low + 1;
+            int mid;
+            if (interpolate) {
+                double ratio = ((double) key - (double) first) / ((double) last - (double) first);
+                mid = low + (int) (ratio * (high - low));
+                mid = Math.max(low, Math.min(mid, high - 1));
+            } else {
+                mid = (low + high - 1) >>> 1;
+            }
+
+            if (arr[mid] < key) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+
+            interpolate = high - low + 1 <= size / 2;
+        }
+        return low;
+    }
+
+    public static int search(long[] arr, long key) {
+        int idx = lowerBound(arr, key);
+        return idx < arr.length && arr[idx] == key ? idx : -1;
+    }
+
+    public static int sequentialLowerBound(long[] arr, long key) {
+        return sequentialLowerBound(arr, 0, arr.length - 1, key);
+    }
+
+    public static int sequentialLowerBound(long[] arr, int low, int high, long key) {
+
+        checkRange(arr.length, low, high);
+        if (low > high || key <= arr[low]) {
+            return low;
+        }
+        if (key > arr[high]) {
+            return high + 1;
+        }
+
+        double ratio = ((double) key - (double) arr[low]) / ((double) arr[high] - (double) arr[low]);
+        int i = low + (int) (ratio * (high - low));
+        i = Math.max(low + 1, Math.min(i, high));
+
+        // arr[low] < key <= arr[high]，结果在[low + 1, high]
+        if (arr[i] < key) {
+            int limit = Math.min(high, i + SEQUENTIAL_LIMIT);
+            while (++i <= limit) {
+                if (arr[i] >= key) {
+                    return i;
+                }
+            }
+            return lowerBound(arr, i, high, key);
+        }
+
+        int limit = Math.max(low + 1, i - SEQUENTIAL_LIMIT);
+        while (i > limit) {
+            if (arr[i - 1] < key) {
+                return i;
+            }
+            i--;
+        }
+        return i == low + 1 ? i : lowerBound(arr, low + 1, i, key);
+    }
+
+    public static int sequentialSearch(long[] arr, long key) {
+        int idx = sequentialLowerBound(arr, key);
+        return idx < arr.length && arr[idx] == key ? idx : -1;
+    }
+
+    private static void checkRange(int length, int low, int high) {
+        if (low < 0 || high >= length || low > high + 1) {
+            throw new IllegalArgumentException("illegal range [" + low + ", " + high + "] of " + length);
+        }
+    }
+
+    public static void main(String[] args) {
+
+        long[] arr = new long[1000];
+        for (int i = 0; i < arr.length; i++) {
+            arr[i] = i * 7L;
+        }
+        System.out.println(Arrays.toString(Arrays.copyOf(arr, 10)));
+        System.out.println(search(arr, 700) + " " + sequentialSearch(arr, 701) + " " + lowerBound(arr, 701));
+    }
+}
@@ -0,0 +1,272 @@
+package com.fsindustry.algorithm.concurrent.search.learned;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import com.fsindustry.algorithm.concurrent.search.binarysearch.BinarySearch;
+import com.fsindustry.algorithm.concurrent.search.galloping.GallopingSearch;
+
+/**
+ * 学习型索引（PGM风格）：用分段线性函数拟合有序long数组中key到位置的映射
+ * <p>
+ * 1. 最底层：一趟扫描，用收缩锥（shrinking cone）把数组切分为若干段，
+ * 每段是从段首(key, rank)出发的一条直线，段内每个不同key的首次出现位置与预测位置之差不超过epsilon；
+ * 2. 上层：以下一层各段的首key为输入递归拟合，直到只剩一段，层数通常只有2~3层；
+ * 3. 查找：自顶向下，每层由线性函数预测位置，在[pred - epsilon - 1, pred + epsilon + 1]窗口内二分确定下一层的段，
+ * 最底层同样在窗口内二分得到结果
+ * <p>
+ * 数据越接近线性（如时间戳），段数越少，索引只占几KB；索引只保存对原数组的引用，不拷贝数据。
+ * 不存在的key紧跟在一大段重复元素之后时，真实位置可能超出窗口，此时从窗口边界倍增查找
+ */
+public class PgmIndex {
+
+    /**
+     * 默认的最底层误差
+     */
+    public static final int DEFAULT_EPSILON = 64;
+
+    /**
+     * 上层的误差：上层数据很少，误差越小每层的窗口越小
+     */
+    static final int EPSILON_RECURSIVE = 4;
+
+    private final long[] data;
+
+    private final int epsilon;
+
+    /**
+     * levels[0]为最底层，最后一个为只有一段的根
+     */
+    private final Segments[] levels;
+
+    public PgmIndex(long[] sorted) {
+        this(sorted, DEFAULT_EPSILON);
+    }
+
+    /**
+     * 由有序数组构建，O(n)；epsilon超过数组长度时按数组长度处理
+     */
+    public PgmIndex(long[] sorted, int epsilon) {
+
+        if (epsilon < 1) {
+            throw new IllegalArgumentException("epsilon must be positive: " + epsilon);
+        }
+
+        for (int i = 1; i < sorted.length; i++) {
+            if (sorted[i - 1] > sorted[i]) {
+                throw new IllegalArgumentException("array is not sorted at index " + i);
+            }
+        }
+
+        this.data = sorted;
+        this.epsilon = Math.min(epsilon, Math.max(1, sorted.length));
+
+        List<Segments> levels = new ArrayList<>();
+        Segments level = Segments.fit(sorted, this.epsilon);
+        levels.add(level);
+        while (level.size() > 1) {
+            level = Segments.fit(level.keys, EPSILON_RECURSIVE);
+            levels.add(level);
+        }
+        this.levels = levels.toArray(new Segments[0]);
+    }
+
+    public int size() {
+        return data.length;
+    }
+
+    /**
+     * 最底层的段数
+     */
+    public int segmentCount() {
+        return levels[0].size();
+    }
+
+    public int height() {
+        return levels.length;
+    }
+
+    /**
+     * 索引本身占用的字节数（不含原数组）
+     */
+    public long sizeInBytes() {
+        long bytes = 0;
+        for (Segments level : levels) {
+            bytes += (long) level.size() * Segments.BYTES_PER_SEGMENT;
+        }
+        return bytes;
+    }
+
+    /**
+     * 第一个不小于key的元素的位置，不存在返回size
+     */
+    public int lowerBound(long key) {
+
+        if (data.length == 0) {
+            return 0;
+        }
+
+        // 自顶向下确定最底层的段：首key不大于key的最后一段
+        int segment = 0;
+        for (int h = levels.length - 1; h > 0; h--) {
+            long[] keys = levels[h - 1].keys;
+            int pos = lowerBound(keys, levels[h].predict(segment, key, keys.length), EPSILON_RECURSIVE, key);
+            segment = pos < keys.length && keys[pos] == key ? pos : Math.max(0, pos - 1);
+        }
+
+        return lowerBound(data, levels[0].predict(segment, key, data.length), epsilon, key);
+    }
+
+    /**
+     * 第一个大于key的元素的位置，不存在返回size
+     */
+    public int upperBound(long key) {
+        return key == Long.MAX_VALUE ? data.length : lowerBound(key + 1);
+    }
+
+    /**
+     * 查找key的位置，不存在返回-1；有重复元素时返回第一个
+     */
+    public int search(long key) {
+        int position = lowerBound(key);
+        return position < data.length && data[position] == key ? position : -1;
+    }
+
+    /**
+     * 在预测位置附近的窗口内二分；结果落在窗口边界且不满足lowerBound的定义时，说明窗口偏离，向外查找
+     */
+    private static int lowerBound(long[] arr, int predicted, int epsilon, long key) {
+
+        int low = Math.max(0, predicted - epsilon - 1);
+        int high = (int) Math.min(arr.length - 1, (long) predicted + epsilon + 1);
+        int position = BinarySearch.lowerBound(arr, low, high, key);
+
+        if (position > high && position < arr.length && arr[position] < key) {
+            return GallopingSearch.lowerBound(arr, position, arr.length - 1, key);
+        }
+        if (position == low && low > 0 && arr[low - 1] >= key) {
+            return BinarySearch.lowerBound(arr, 0, low - 1, key);
+        }
+        return position;
+    }
+
+    /**
+     * 无符号差值转double：key的跨度可能超过Long.MAX_VALUE
+     */
+    private static double distance(long from, long to) {
+        long diff = to - from;
+        return diff >= 0 ? (double) diff : (double) (diff >>> 1) * 2.0d;
+    }
+
+    /**
+     * 一层的所有段：第i段覆盖[keys[i], keys[i + 1])，预测位置为ranks[i] + slopes[i] * (key - keys[i])
+     */
+    static final class Segments {
+
+        /**
+         * 每段占用的字节数：key、rank、slope
+         */
+        static final int BYTES_PER_SEGMENT = Long.BYTES + Integer.BYTES + Double.BYTES;
+
+        final long[] keys;
+
+        final int[] ranks;
+
+        final double[] slopes;
+
+        private Segments(long[] keys, int[] ranks, double[] slopes) {
+            this.keys = keys;
+            this.ranks = ranks;
+            this.slopes = slopes;
+        }
+
+        int size() {
+            return keys.length;
+        }
+
+        /**
+         * 收缩锥：斜率的可行区间为[lower, upper]，每加入一个点收缩一次，区间为空时从该点开始新的一段；
+         * 重复key只取首次出现的位置
+         */
+        static Segments fit(long[] arr, int epsilon) {
+
+            int capacity = 16;
+            long[] keys = new long[capacity];
+            int[] ranks = new int[capacity];
+            double[] slopes = new double[capacity];
+            int count = 0;
+
+            int start = 0;
+            double lower = 0.0d;
+            double upper = Double.POSITIVE_INFINITY;
+            for (int i = 1; i <= arr.length; i++) {
+
+                if (i < arr.length) {
+
+                    if (arr[i] == arr[i - 1]) {
+                        continue;
+                    }
+
+                    double dx = distance(arr[start], arr[i]);
+                    double newLower = Math.max(lower, (i - start - epsilon) / dx);
+                    double newUpper = Math.min(upper, (i - start + epsilon) / dx);
+                    if (newLower <= newUpper) {
+                        lower = newLower;
+                        upper = newUpper;
+                        continue;
+                    }
+                }
+
+                if (count == capacity) {
+                    capacity *= 2;
+                    keys = Arrays.copyOf(keys, capacity);
+                    ranks = Arrays.copyOf(ranks, capacity);
+                    slopes = Arrays.copyOf(slopes, capacity);
+                }
+
+                // 只有一个点的段，斜率为0
+                keys[count] = arr[start];
+                ranks[count] = start;
+                slopes[count] = upper == Double.POSITIVE_INFINITY ? 0.0d : (lower + upper) / 2;
+                count++;
+
+                start = i;
+                lower = 0.0d;
+                upper = Double.POSITIVE_INFINITY;
+            }
+
+            return new Segments(Arrays.copyOf(keys, count), Arrays.copyOf(ranks, count),
+                    Arrays.copyOf(slopes, count));
+        }
+
+        /**
+         * 用第segment段预测key在下一层（长度为limit）中的位置，不超过下一段的起点
+         */
+        int predict(int segment, long key, int limit) {
+
+            long first = keys[segment];
+            if (key <= first) {
+                return ranks[segment];
+            }
+
+            double predicted = ranks[segment] + slopes[segment] * distance(first, key);
+            int end = segment + 1 < keys.length ? ranks[segment + 1] : limit;
+            return predicted >= end ? end : (int) predicted;
+        }
+    }
+
+    public static void main(String[] args) {
+
+        long[] timestamps = new long[1000000];
+        long now = 1700000000000L;
+        for (int i = 0; i < timestamps.length; i++) {
+            now += 10 + (i * 7919L) % 5;
+            timestamps[i] = now;
+        }
+
+        PgmIndex index = new PgmIndex(timestamps);
+        System.out.println("segments=" + index.segmentCount() + " height=" + index.height() + " bytes=" + index.sizeInBytes());
+        System.out.println(index.search(timestamps[123456]) + " " + index.lowerBound(timestamps[999] + 1));
+    }
+}
@@ -0,0 +1,255 @@
+package com.fsindustry.algorithm.concurrent.search.stree;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.nio.IntBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.util.Arrays;
+
+import com.fsindustry.algorithm.concurrent.common.io.BinaryIn;
+import com.fsindustry.algorithm.concurrent.common.io.BinaryOut;
+
+/**
+ * 静态B+树（S+树）：只读有序int数组的隐式索引，没有指针
+ * <p>
+ * 1. 每个节点B = 16个key，正好占一个64字节的缓存行；叶子层就是有序数组本身，按B分块，末尾用最大值填充；
+ * 2. 内部节点有B + 1个子节点，第k个节点的第i个子节点为下一层的第k * (B + 1) + i个节点，
+ * 第i个key为第i + 1个子树中的最小key；
+ * 3. 所有层连续存放在一个数组中，根在最前；
+ * 4. 查找时在每个节点内统计小于key的个数作为子节点序号，节点内扫描没有分支，
+ * 每层只访问一个缓存行，层数约为log17(n)，比二分查找的缓存缺失少得多
+ * <p>
+ * 可以通过writeTo序列化为BinaryOut的大端格式；load映射该文件后直接在映射的缓冲区上查找，
+ * 启动时不拷贝数据，页面在查找时按需载入；文件只映射为一段，因此元素个数受限于序列化后不超过2GB
+ */
+public class IntSTree {
+
+    /**
+     * 每个节点的key个数
+     */
+    static final int B = 16;
+
+    /**
+     * 序列化格式的魔数："STRI"
+     */
+    static final int MAGIC = 0x53545249;
+
+    /**
+     * 文件头：魔数和元素个数
+     */
+    private static final int HEADER_BYTES = 2 * Integer.BYTES;
+
+    /**
+     * 填充值
+     */
+    private static final int PAD = Integer.MAX_VALUE;
+
+    private final int size;
+
+    /**
+     * 所有层的节点，根在最前：构建时包装堆内数组，load时为文件映射
+     */
+    private final IntBuffer tree;
+
+    /**
+     * offset[h]为第h层（0为叶子层）在tree中的起始位置
+     */
+    private final int[] offset;
+
+    /**
+     * 由有序数组构建，O(n)
+     */
+    public IntSTree(int[] sorted) {
+
+        for (int i = 1; i < sorted.length; i++) {
+            if (sorted[i - 1] > sorted[i]) {
+                throw new IllegalArgumentException("array is not sorted at index " + i);
+            }
+        }
+
+        this.size = sorted.length;
+        this.offset = layout(size);
+        int[] tree = new int[offset[0] + blocks(size) * B];
+
+        // 叶子层
+        int leaf = offset[0];
+        System.arraycopy(sorted, 0, tree, leaf, size);
+        Arrays.fill(tree, leaf + size, tree.length, PAD);
+
+        // 内部层：第i个key为第i + 1个子树最左叶子的第一个key，子树不存在时填充
+        long span = 1;
+        int leafBlocks = blocks(size);
+        for (int h = 1; h < offset.length; h++) {
+            span *= B + 1;
+            int count = layerBlocks(leafBlocks, h);
+            for (int k = 0; k < count; k++) {
+                for (int i = 0; i < B; i++) {
+                    long child = (long) k * (B + 1) + i + 1;
+                    long first = child * (span / (B + 1)) * B;
+                    tree[offset[h] + k * B + i] = first < size ? sorted[(int) first] : PAD;
+                }
+            }
+        }
+        this.tree = IntBuffer.wrap(tree);
+    }
+
+    private IntSTree(int size, IntBuffer tree) {
+        this.size = size;
+        this.offset = layout(size);
+        this.tree = tree;
+    }
+
+    /**
+     * 叶子节点个数，至少1个
+     */
+    private static int blocks(int size) {
+        return Math.max(1, (size + B - 1) / B);
+    }
+
+    private static int layerBlocks(int leafBlocks, int h) {
+        int count = leafBlocks;
+        for (int i = 0; i < h; i++) {
+            count = (count + B) / (B + 1);
+        }
+        return count;
+    }
+
+    /**
+     * 计算各层的起始位置：层从根到叶子依次存放；
+     * 序列化后的文件超过一段映射的上限（2GB）时拒绝，保证writeTo写出的文件都能load
+     */
+    static int[] layout(int size) {
+
+        int leafBlocks = blocks(size);
+        int height = 1;
+        while (layerBlocks(leafBlocks, height - 1) > 1) {
+            height++;
+        }
+
+        int[] offset = new int[height];
+        long position = 0;
+        for (int h = height - 1; h >= 0; h--) {
+            offset[h] = (int) position;
+            position += (long) layerBlocks(leafBlocks, h) * B;
+        }
+
+        if (HEADER_BYTES + position * Integer.BYTES > Integer.MAX_VALUE) {
+            throw new IllegalArgumentException("too many elements: " + size);
+        }
+        return offset;
+    }
+
+    public int size() {
+        return size;
+    }
+
+    /**
+     * 第一个不小于key的元素在原有序数组中的位置，不存在返回size
+     */
+    public int lowerBound(int key) {
+
+        int k = 0;
+        for (int h = offset.length - 1; h > 0; h--) {
+            k = k * (B + 1) + rank(offset[h] + k * B, key);
+        }
+
+        int position = k * B + rank(offset[0] + k * B, key);
+        return Math.min(position, size);
+    }
+
+    /**
+     * 第一个大于key的元素在原有序数组中的位置，不存在返回size
+     */
+    public int upperBound(int key) {
+        return key == Integer.MAX_VALUE ? size : lowerBound(key + 1);
+    }
+
+    /**
+     * 查找key在原有序数组中的位置，不存在返回-1；有重复元素时返回第一个
+     */
+    public int search(int key) {
+        int position = lowerBound(key);
+        return position < size && tree.get(offset[0] + position) == key ? position : -1;
+    }
+
+    /**
+     * 节点内小于key的个数：固定扫描B个key，没有分支
+     */
+    private int rank(int node, int key) {
+
+        int count = 0;
+        for (int i = 0; i < B; i++) {
+            count += tree.get(node + i) < key ? 1 : 0;
+        }
+        return count;
+    }
+
+    /**
+     * 序列化：魔数、元素个数、所有层的节点
+     */
+    public void writeTo(BinaryOut out) {
+
+        out.write(MAGIC);
+        out.write(size);
+        for (int i = 0; i < tree.limit(); i++) {
+            out.write(tree.get(i));
+        }
+        out.flush();
+    }
+
+    public static IntSTree readFrom(BinaryIn in) {
+
+        int size = checkHeader(in.readInt(), in.readInt());
+        int[] tree = new int[treeLength(size)];
+        for (int i = 0; i < tree.length; i++) {
+            tree[i] = in.readInt();
+        }
+        return new IntSTree(size, IntBuffer.wrap(tree));
+    }
+
+    /**
+     * 加载writeTo写出的文件：只映射不拷贝，查找直接读映射的缓冲区；
+     * 映射在关闭文件后仍然有效，直到树对象被回收
+     */
+    public static IntSTree load(File file) throws IOException {
+
+        try (RandomAccessFile raf = new RandomAccessFile(file, "r");
+             FileChannel channel = raf.getChannel()) {
+
+            MappedByteBuffer map = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+            if (map.remaining() < HEADER_BYTES) {
+                throw new IllegalArgumentException("not a serialized tree: " + file);
+            }
+
+            int size = checkHeader(map.getInt(), map.getInt());
+            IntBuffer buf = map.asIntBuffer();
+            if (buf.remaining() != treeLength(size)) {
+                throw new IllegalArgumentException("corrupted tree file: " + file);
+            }
+            return new IntSTree(size, buf);
+        }
+    }
+
+    private static int checkHeader(int magic, int size) {
+        if (magic != MAGIC || size < 0) {
+            throw new IllegalArgumentException("not a serialized tree: magic=" + Integer.toHexString(magic));
+        }
+        return size;
+    }
+
+    private static int treeLength(int size) {
+        return layout(size)[0] + blocks(size) * B;
+    }
+
+    public static void main(String[] args) {
+
+        int[] arr = new int[100];
+        for (int i = 0; i < arr.length; i++) {
+            arr[i] = i * 3;
+        }
+        IntSTree tree = new IntSTree(arr);
+        System.out.println(tree.lowerBound(31) + " " + tree.search(30) + " " + tree.search(31) + " " + tree.lowerBound(1000));
+    }
+}
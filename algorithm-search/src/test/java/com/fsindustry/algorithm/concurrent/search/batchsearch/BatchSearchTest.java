@@ -0,0 +1,89 @@
+package com.fsindustry.algorithm.concurrent.search.batchsearch;
+
+import java.util.Arrays;
+import java.util.Random;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+import com.fsindustry.algorithm.concurrent.search.binarysearch.BinarySearch;
+
+/**
+ * BatchSearch测试
+ */
+public class BatchSearchTest {
+
+    private int[] sortedInts(Random random, int n, int bound) {
+        int[] arr = new int[n];
+        for (int i = 0; i < n; i++) {
+            arr[i] = random.nextInt(bound);
+        }
+        Arrays.sort(arr);
+        return arr;
+    }
+
+    @Test
+    public void lowerBoundsInt() throws Exception {
+
+        Random random = new Random(1);
+        for (int n : new int[]{0, 1, 7, 100, 100000}) {
+
+            int[] arr = sortedInts(random, n, 1000);
+
+            // 无序key（含不足一组的尾部）与有序key
+            int[] unsorted = new int[1003];
+            for (int i = 0; i < unsorted.length; i++) {
+                unsorted[i] = random.nextInt(1100) - 50;
+            }
+            int[] sorted = unsorted.clone();
+            Arrays.sort(sorted);
+
+            for (int[] keys : new int[][]{unsorted, sorted}) {
+                int[] out = new int[keys.length];
+                BatchSearch.lowerBounds(arr, keys, out);
+                for (int i = 0; i < keys.length; i++) {
+                    Assert.assertEquals(BinarySearch.lowerBound(arr, keys[i]), out[i]);
+                }
+
+                BatchSearch.search(arr, keys, out);
+                for (int i = 0; i < keys.length; i++) {
+                    Assert.assertEquals(BinarySearch.search(keys[i], arr), out[i]);
+                }
+            }
+        }
+    }
+
+    @Test
+    public void lowerBoundsLong() throws Exception {
+
+        Random random = new Random(2);
+        long[] arr = new long[50000];
+        for (int i = 0; i < arr.length; i++) {
+            arr[i] = random.nextLong();
+        }
+        Arrays.sort(arr);
+
+        long[] keys = new long[2000];
+        for (int i = 0; i < keys.length; i++) {
+            keys[i] = i % 3 == 0 ? arr[random.nextInt(arr.length)] : random.nextLong();
+        }
+
+        int[] out = new int[keys.length];
+        BatchSearch.lowerBounds(arr, keys, out);
+        for (int i = 0; i < keys.length; i++) {
+            Assert.assertEquals(BinarySearch.lowerBound(arr, keys[i]), out[i]);
+        }
+
+        Arrays.sort(keys);
+        BatchSearch.search(arr, keys, out);
+        for (int i = 0; i < keys.length; i++) {
+            int idx = BinarySearch.lowerBound(arr, keys[i]);
+            Assert.assertEquals(idx < arr.length && arr[idx] == keys[i] ? idx : -1, out[i]);
+        }
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void outputTooSmall() throws Exception {
+        BatchSearch.lowerBounds(new int[10], new int[3], new int[2]);
+    }
+}
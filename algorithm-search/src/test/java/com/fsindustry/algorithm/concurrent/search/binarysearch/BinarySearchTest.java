@@ -0,0 +1,133 @@
+package com.fsindustry.algorithm.concurrent.search.binarysearch;
+
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.Random;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+/**
+ * BinarySearch测试
+ */
+public class BinarySearchTest {
+
+    /**
+     * 线性扫描得到的第一个不小于（strict为false）或大于（strict为true）key的索引
+     */
+    private static int linear(int[] arr, int low, int high, int key, boolean strict) {
+        int i = low;
+        while (i <= high && (strict ? arr[i] <= key : arr[i] < key)) {
+            i++;
+        }
+        return i;
+    }
+
+    @Test
+    public void search() throws Exception {
+
+        int[] arr = {0, 1, 2, 3, 3, 3, 4, 5, 6, 7, 8, 9};
+        for (int key = -1; key <= 10; key++) {
+            int expected = linear(arr, 0, arr.length - 1, key, false);
+            expected = expected < arr.length && arr[expected] == key ? expected : -1;
+            Assert.assertEquals(expected, BinarySearch.search(key, arr));
+
+            int idx = BinarySearch.search1(arr, key);
+            Assert.assertEquals(expected < 0, idx < 0);
+            if (idx >= 0) {
+                Assert.assertEquals(key, arr[idx]);
+            }
+        }
+
+        Assert.assertEquals(-1, BinarySearch.search(1, new int[0]));
+        Assert.assertEquals(-1, BinarySearch.search1(new int[0], 1));
+    }
+
+    @Test
+    public void boundsInt() throws Exception {
+
+        Random random = new Random(1);
+        for (int n = 0; n < 70; n++) {
+
+            int[] arr = new int[n];
+            for (int i = 0; i < n; i++) {
+                arr[i] = random.nextInt(20);
+            }
+            Arrays.sort(arr);
+
+            for (int key = -1; key <= 20; key++) {
+                Assert.assertEquals(linear(arr, 0, n - 1, key, false), BinarySearch.lowerBound(arr, key));
+                Assert.assertEquals(linear(arr, 0, n - 1, key, true), BinarySearch.upperBound(arr, key));
+
+                // 子区间
+                if (n > 4) {
+                    Assert.assertEquals(linear(arr, 2, n - 3, key, false), BinarySearch.lowerBound(arr, 2, n - 3, key));
+                    Assert.assertEquals(linear(arr, 2, n - 3, key, true), BinarySearch.upperBound(arr, 2, n - 3, key));
+                }
+
+                long range = BinarySearch.equalRange(arr, key);
+                Assert.assertEquals(BinarySearch.lowerBound(arr, key), BinarySearch.from(range));
+                Assert.assertEquals(BinarySearch.upperBound(arr, key), BinarySearch.to(range));
+            }
+        }
+    }
+
+    @Test
+    public void boundsLong() throws Exception {
+
+        long[] arr = {Long.MIN_VALUE, -5, -5, 0, 7, 7, 7, Long.MAX_VALUE};
+        Assert.assertEquals(0, BinarySearch.lowerBound(arr, Long.MIN_VALUE));
+        Assert.assertEquals(1, BinarySearch.upperBound(arr, Long.MIN_VALUE));
+        Assert.assertEquals(1, BinarySearch.lowerBound(arr, -5));
+        Assert.assertEquals(3, BinarySearch.upperBound(arr, -5));
+        Assert.assertEquals(4, BinarySearch.lowerBound(arr, 1));
+        Assert.assertEquals(7, BinarySearch.upperBound(arr, 7));
+        Assert.assertEquals(8, BinarySearch.upperBound(arr, Long.MAX_VALUE));
+
+        long range = BinarySearch.equalRange(arr, 0, 5, 7);
+        Assert.assertEquals(4, BinarySearch.from(range));
+        Assert.assertEquals(6, BinarySearch.to(range));
+    }
+
+    @Test
+    public void boundsDouble() throws Exception {
+
+        double[] arr = {Double.NEGATIVE_INFINITY, -1.5, -0.0, -0.0, 0.0, 2.5, Double.POSITIVE_INFINITY, Double.NaN};
+        Arrays.sort(arr);
+
+        Assert.assertEquals(2, BinarySearch.lowerBound(arr, -0.0));
+        Assert.assertEquals(4, BinarySearch.upperBound(arr, -0.0));
+        Assert.assertEquals(4, BinarySearch.lowerBound(arr, 0.0));
+        Assert.assertEquals(5, BinarySearch.upperBound(arr, 0.0));
+        Assert.assertEquals(5, BinarySearch.lowerBound(arr, 1.0));
+        Assert.assertEquals(7, BinarySearch.lowerBound(arr, Double.NaN));
+        Assert.assertEquals(8, BinarySearch.upperBound(arr, Double.NaN));
+        Assert.assertEquals(1, BinarySearch.upperBound(arr, Double.NEGATIVE_INFINITY));
+
+        long range = BinarySearch.equalRange(arr, -0.0);
+        Assert.assertEquals(2, BinarySearch.from(range));
+        Assert.assertEquals(4, BinarySearch.to(range));
+    }
+
+    @Test
+    public void boundsComparator() throws Exception {
+
+        // 按长度降序
+        Comparator<String> comparator = Comparator.comparingInt(String::length).reversed();
+        String[] arr = {"aaaa", "bbb", "ccc", "dd", "e"};
+
+        Assert.assertEquals(1, BinarySearch.lowerBound(arr, "xyz", comparator));
+        Assert.assertEquals(3, BinarySearch.upperBound(arr, "xyz", comparator));
+        Assert.assertEquals(5, BinarySearch.lowerBound(arr, "", comparator));
+        Assert.assertEquals(0, BinarySearch.upperBound(arr, "xxxxx", comparator));
+
+        long range = BinarySearch.equalRange(arr, 1, 3, "xyz", comparator);
+        Assert.assertEquals(1, BinarySearch.from(range));
+        Assert.assertEquals(3, BinarySearch.to(range));
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void illegalRange() throws Exception {
+        BinarySearch.lowerBound(new int[3], 1, 3, 0);
+    }
+}
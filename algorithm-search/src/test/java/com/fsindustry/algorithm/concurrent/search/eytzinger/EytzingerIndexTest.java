@@ -0,0 +1,64 @@
+package com.fsindustry.algorithm.concurrent.search.eytzinger;
+
+import java.util.Arrays;
+import java.util.Random;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+import com.fsindustry.algorithm.concurrent.search.binarysearch.BinarySearch;
+
+/**
+ * IntEytzingerIndex、LongEytzingerIndex测试
+ */
+public class EytzingerIndexTest {
+
+    @Test
+    public void matchesBinarySearchInt() throws Exception {
+
+        Random random = new Random(1);
+        for (int n = 0; n < 100; n++) {
+
+            int[] arr = new int[n];
+            for (int i = 0; i < n; i++) {
+                arr[i] = random.nextInt(50);
+            }
+            Arrays.sort(arr);
+
+            IntEytzingerIndex index = new IntEytzingerIndex(arr);
+            Assert.assertEquals(n, index.size());
+            for (int key = -1; key <= 50; key++) {
+                Assert.assertEquals(BinarySearch.lowerBound(arr, key), index.lowerBound(key));
+                Assert.assertEquals(BinarySearch.upperBound(arr, key), index.upperBound(key));
+                Assert.assertEquals(BinarySearch.search(key, arr), index.search(key));
+            }
+        }
+    }
+
+    @Test
+    public void matchesBinarySearchLong() throws Exception {
+
+        Random random = new Random(2);
+        long[] arr = new long[100000];
+        for (int i = 0; i < arr.length; i++) {
+            arr[i] = random.nextLong();
+        }
+        arr[0] = Long.MIN_VALUE;
+        arr[1] = Long.MAX_VALUE;
+        Arrays.sort(arr);
+
+        LongEytzingerIndex index = new LongEytzingerIndex(arr);
+        for (int i = 0; i < 10000; i++) {
+            long key = i % 2 == 0 ? arr[random.nextInt(arr.length)] : random.nextLong();
+            Assert.assertEquals(BinarySearch.lowerBound(arr, key), index.lowerBound(key));
+            Assert.assertEquals(BinarySearch.upperBound(arr, key), index.upperBound(key));
+        }
+        Assert.assertEquals(0, index.search(Long.MIN_VALUE));
+        Assert.assertEquals(arr.length - 1, index.search(Long.MAX_VALUE));
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void unsorted() throws Exception {
+        new IntEytzingerIndex(new int[]{1, 3, 2});
+    }
+}
@@ -0,0 +1,108 @@
+package com.fsindustry.algorithm.concurrent.search.galloping;
+
+import java.util.Arrays;
+import java.util.Random;
+import java.util.TreeSet;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+import com.fsindustry.algorithm.concurrent.search.binarysearch.BinarySearch;
+
+/**
+ * GallopingSearch、SortedSetOps测试
+ */
+public class SortedSetOpsTest {
+
+    private static int[] randomSet(Random random, int size, int bound) {
+        TreeSet<Integer> set = new TreeSet<>();
+        while (set.size() < size) {
+            set.add(random.nextInt(bound));
+        }
+        return set.stream().mapToInt(Integer::intValue).toArray();
+    }
+
+    private static TreeSet<Integer> toSet(int[] arr) {
+        TreeSet<Integer> set = new TreeSet<>();
+        for (int x : arr) {
+            set.add(x);
+        }
+        return set;
+    }
+
+    private static int[] toArray(TreeSet<Integer> set) {
+        return set.stream().mapToInt(Integer::intValue).toArray();
+    }
+
+    @Test
+    public void gallopingLowerBound() throws Exception {
+
+        Random random = new Random(1);
+        int[] arr = randomSet(random, 1000, 100000);
+        long[] longs = Arrays.stream(arr).asLongStream().toArray();
+        for (int i = 0; i < 1000; i++) {
+            int key = random.nextInt(100001) - 1;
+            int from = random.nextInt(arr.length);
+            Assert.assertEquals(BinarySearch.lowerBound(arr, from, arr.length - 1, key),
+                    GallopingSearch.lowerBound(arr, from, arr.length - 1, key));
+            Assert.assertEquals(BinarySearch.lowerBound(longs, key), GallopingSearch.lowerBound(longs, key));
+        }
+        Assert.assertEquals(0, GallopingSearch.lowerBound(new int[0], 1));
+    }
+
+    @Test
+    public void setOps() throws Exception {
+
+        Random random = new Random(2);
+
+        // 长度相近走线性归并，相差悬殊走指数查找，包括空集
+        int[][] sizes = {{0, 0}, {0, 10}, {10, 0}, {100, 120}, {5, 1000}, {1000, 5}, {1, 5000}, {300, 300}};
+        for (int[] size : sizes) {
+
+            int[] a = randomSet(random, size[0], 20000);
+            int[] b = randomSet(random, size[1], 20000);
+            int[] out = new int[a.length + b.length];
+
+            TreeSet<Integer> expected = toSet(a);
+            expected.retainAll(toSet(b));
+            int k = SortedSetOps.intersect(a, b, out);
+            Assert.assertArrayEquals(toArray(expected), Arrays.copyOf(out, k));
+
+            expected = toSet(a);
+            expected.addAll(toSet(b));
+            k = SortedSetOps.union(a, b, out);
+            Assert.assertArrayEquals(toArray(expected), Arrays.copyOf(out, k));
+
+            expected = toSet(a);
+            expected.removeAll(toSet(b));
+            k = SortedSetOps.difference(a, b, out);
+            Assert.assertArrayEquals(toArray(expected), Arrays.copyOf(out, k));
+        }
+    }
+
+    @Test
+    public void setOpsLong() throws Exception {
+
+        long[] a = {-5, 1, 3, 1L << 40, Long.MAX_VALUE};
+        long[] b = new long[200];
+        for (int i = 0; i < b.length; i++) {
+            b[i] = i - 100;
+        }
+        long[] out = new long[a.length + b.length];
+
+        int k = SortedSetOps.intersect(a, b, out);
+        Assert.assertArrayEquals(new long[]{-5, 1, 3}, Arrays.copyOf(out, k));
+
+        k = SortedSetOps.difference(a, b, out);
+        Assert.assertArrayEquals(new long[]{1L << 40, Long.MAX_VALUE}, Arrays.copyOf(out, k));
+
+        k = SortedSetOps.union(a, b, out);
+        Assert.assertEquals(b.length + 2, k);
+        Assert.assertEquals(Long.MAX_VALUE, out[k - 1]);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void outputTooSmall() throws Exception {
+        SortedSetOps.union(new int[]{1, 2}, new int[]{3}, new int[2]);
+    }
+}
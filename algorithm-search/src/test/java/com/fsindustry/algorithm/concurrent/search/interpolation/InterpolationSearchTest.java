@@ -0,0 +1,98 @@
+package com.fsindustry.algorithm.concurrent.search.interpolation;
+
+import java.util.Arrays;
+import java.util.Random;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+import com.fsindustry.algorithm.concurrent.search.binarysearch.BinarySearch;
+
+/**
+ * InterpolationSearch测试
+ */
+public class InterpolationSearchTest {
+
+    private void check(long[] arr, long key) {
+        int expected = BinarySearch.lowerBound(arr, key);
+        Assert.assertEquals(expected, InterpolationSearch.lowerBound(arr, key));
+        Assert.assertEquals(expected, InterpolationSearch.sequentialLowerBound(arr, key));
+
+        int found = expected < arr.length && arr[expected] == key ? expected : -1;
+        Assert.assertEquals(found, InterpolationSearch.search(arr, key));
+        Assert.assertEquals(found, InterpolationSearch.sequentialSearch(arr, key));
+    }
+
+    private void check(int[] arr, int key) {
+        int expected = BinarySearch.lowerBound(arr, key);
+        Assert.assertEquals(expected, InterpolationSearch.lowerBound(arr, key));
+        Assert.assertEquals(expected, InterpolationSearch.sequentialLowerBound(arr, key));
+    }
+
+    @Test
+    public void uniform() throws Exception {
+
+        Random random = new Random(1);
+        long[] arr = new long[100000];
+        for (int i = 0; i < arr.length; i++) {
+            arr[i] = random.nextInt(1 << 30);
+        }
+        Arrays.sort(arr);
+
+        for (int i = 0; i < 10000; i++) {
+            check(arr, i % 2 == 0 ? arr[random.nextInt(arr.length)] : random.nextInt(1 << 30));
+        }
+        check(arr, -1);
+        check(arr, Long.MAX_VALUE);
+    }
+
+    @Test
+    public void skewedAndExtremes() throws Exception {
+
+        // 指数分布、大量重复、跨越整个long取值范围
+        long[] skewed = new long[62];
+        for (int i = 0; i < skewed.length; i++) {
+            skewed[i] = 1L << i;
+        }
+        long[] duplicates = {1, 1, 1, 1, 2, 2, 2, 9, 9, 9, 9, 9, 9};
+        long[] extremes = {Long.MIN_VALUE, Long.MIN_VALUE + 1, -1, 0, 1, Long.MAX_VALUE - 1, Long.MAX_VALUE};
+
+        for (long[] arr : new long[][]{skewed, duplicates, extremes, new long[0], {5}}) {
+            for (long key : arr) {
+                check(arr, key);
+                check(arr, key - 1);
+                check(arr, key + 1);
+            }
+            check(arr, 3);
+        }
+    }
+
+    @Test
+    public void intArrays() throws Exception {
+
+        Random random = new Random(2);
+        for (int n = 0; n < 200; n++) {
+
+            int[] arr = new int[n];
+            for (int i = 0; i < n; i++) {
+                arr[i] = n % 2 == 0 ? random.nextInt() : random.nextInt(10) * random.nextInt(10) * random.nextInt(100);
+            }
+            Arrays.sort(arr);
+
+            for (int i = 0; i < 50; i++) {
+                check(arr, n > 0 && i % 2 == 0 ? arr[random.nextInt(n)] : random.nextInt());
+            }
+            check(arr, Integer.MIN_VALUE);
+            check(arr, Integer.MAX_VALUE);
+        }
+    }
+
+    @Test
+    public void range() throws Exception {
+
+        int[] arr = {0, 10, 20, 30, 40, 50, 60, 70, 80, 90};
+        Assert.assertEquals(3, InterpolationSearch.lowerBound(arr, 2, 6, 25));
+        Assert.assertEquals(2, InterpolationSearch.lowerBound(arr, 2, 6, 5));
+        Assert.assertEquals(7, InterpolationSearch.sequentialLowerBound(arr, 2, 6, 75));
+    }
+}
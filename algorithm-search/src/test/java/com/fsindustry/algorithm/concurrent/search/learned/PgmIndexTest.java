@@ -0,0 +1,101 @@
+package com.fsindustry.algorithm.concurrent.search.learned;
+
+import java.util.Arrays;
+import java.util.Random;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+import com.fsindustry.algorithm.concurrent.search.binarysearch.BinarySearch;
+
+/**
+ * PgmIndex测试
+ */
+public class PgmIndexTest {
+
+    @Test
+    public void matchesBinarySearch() throws Exception {
+
+        Random random = new Random(1);
+        for (int n : new int[]{0, 1, 2, 10, 100, 1000, 20000}) {
+            for (int epsilon : new int[]{1, 4, 64}) {
+
+                long[] arr = new long[n];
+                for (int i = 0; i < n; i++) {
+                    arr[i] = random.nextInt(3 * n + 1);
+                }
+                Arrays.sort(arr);
+
+                PgmIndex index = new PgmIndex(arr, epsilon);
+                Assert.assertEquals(n, index.size());
+                for (long key = -1; key <= 3 * n + 1; key++) {
+                    int lower = BinarySearch.lowerBound(arr, key);
+                    Assert.assertEquals(lower, index.lowerBound(key));
+                    Assert.assertEquals(BinarySearch.upperBound(arr, key), index.upperBound(key));
+                    Assert.assertEquals(lower < n && arr[lower] == key ? lower : -1, index.search(key));
+                }
+            }
+        }
+    }
+
+    @Test
+    public void longDuplicateRuns() throws Exception {
+
+        // 大段重复元素之后的key，真实位置远离预测窗口
+        long[] arr = new long[5000];
+        for (int i = 0; i < arr.length; i++) {
+            arr[i] = i < 100 ? i : (i < 4000 ? 100 : i);
+        }
+
+        PgmIndex index = new PgmIndex(arr, 2);
+        for (long key = -1; key <= 5001; key++) {
+            Assert.assertEquals(BinarySearch.lowerBound(arr, key), index.lowerBound(key));
+        }
+    }
+
+    @Test
+    public void nearlyLinearKeysNeedFewSegments() throws Exception {
+
+        Random random = new Random(2);
+        long[] arr = new long[1000000];
+        long now = 1700000000000L;
+        for (int i = 0; i < arr.length; i++) {
+            now += 10 + random.nextInt(5);
+            arr[i] = now;
+        }
+
+        PgmIndex index = new PgmIndex(arr, 64);
+        Assert.assertTrue(index.sizeInBytes() < 16 << 10);
+        for (int i = 0; i < arr.length; i += 97) {
+            Assert.assertEquals(i, index.search(arr[i]));
+            Assert.assertEquals(i + 1, index.lowerBound(arr[i] + 1));
+        }
+    }
+
+    @Test
+    public void extremeValues() throws Exception {
+
+        long[] arr = {Long.MIN_VALUE, -1, 0, 1, Long.MAX_VALUE - 1, Long.MAX_VALUE, Long.MAX_VALUE};
+        PgmIndex index = new PgmIndex(arr, 1);
+        long[] keys = {Long.MIN_VALUE, Long.MIN_VALUE + 1, -2, -1, 0, 1, 2, Long.MAX_VALUE - 2, Long.MAX_VALUE - 1, Long.MAX_VALUE};
+        for (long key : keys) {
+            Assert.assertEquals(BinarySearch.lowerBound(arr, key), index.lowerBound(key));
+            Assert.assertEquals(BinarySearch.upperBound(arr, key), index.upperBound(key));
+        }
+    }
+
+    @Test
+    public void hugeEpsilon() throws Exception {
+
+        long[] arr = {1, 3, 3, 5, 8, 13, 21};
+        PgmIndex index = new PgmIndex(arr, Integer.MAX_VALUE);
+        for (long key = 0; key <= 22; key++) {
+            Assert.assertEquals(BinarySearch.lowerBound(arr, key), index.lowerBound(key));
+        }
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void rejectsUnsorted() throws Exception {
+        new PgmIndex(new long[]{2, 1});
+    }
+}
@@ -0,0 +1,168 @@
+package com.fsindustry.algorithm.concurrent.search.stree;
+
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.InputStream;
+import java.util.Arrays;
+import java.util.Random;
+
+import org.junit.Assert;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import com.fsindustry.algorithm.concurrent.common.io.BinaryIn;
+import com.fsindustry.algorithm.concurrent.common.io.BinaryOut;
+import com.fsindustry.algorithm.concurrent.search.binarysearch.BinarySearch;
+
+/**
+ * IntSTree、LongSTree测试
+ */
+public class STreeTest {
+
+    @Rule
+    public TemporaryFolder folder = new TemporaryFolder();
+
+    @Test
+    public void matchesBinarySearchInt() throws Exception {
+
+        Random random = new Random(1);
+        for (int n : new int[]{0, 1, 15, 16, 17, 271, 272, 273, 4624, 4625, 5000}) {
+
+            int[] arr = new int[n];
+            for (int i = 0; i < n; i++) {
+                arr[i] = random.nextInt(2 * n + 1);
+            }
+            Arrays.sort(arr);
+
+            IntSTree tree = new IntSTree(arr);
+            Assert.assertEquals(n, tree.size());
+            for (int key = -1; key <= 2 * n + 1; key++) {
+                int lower = BinarySearch.lowerBound(arr, key);
+                Assert.assertEquals(lower, tree.lowerBound(key));
+                Assert.assertEquals(BinarySearch.upperBound(arr, key), tree.upperBound(key));
+                Assert.assertEquals(lower < n && arr[lower] == key ? lower : -1, tree.search(key));
+            }
+        }
+    }
+
+    @Test
+    public void matchesBinarySearchLong() throws Exception {
+
+        Random random = new Random(2);
+        for (int n : new int[]{0, 1, 16, 17, 289, 5000}) {
+
+            long[] arr = new long[n];
+            for (int i = 0; i < n; i++) {
+                arr[i] = random.nextInt(2 * n + 1) * 1000000007L;
+            }
+            Arrays.sort(arr);
+
+            LongSTree tree = new LongSTree(arr);
+            for (int k = -1; k <= 2 * n + 1; k++) {
+                long key = k * 1000000007L;
+                Assert.assertEquals(BinarySearch.lowerBound(arr, key), tree.lowerBound(key));
+                Assert.assertEquals(BinarySearch.upperBound(arr, key - 1), tree.upperBound(key - 1));
+            }
+        }
+    }
+
+    @Test
+    public void extremeValues() throws Exception {
+
+        int[] ints = {Integer.MIN_VALUE, 0, Integer.MAX_VALUE, Integer.MAX_VALUE};
+        IntSTree intTree = new IntSTree(ints);
+        Assert.assertEquals(2, intTree.lowerBound(Integer.MAX_VALUE));
+        Assert.assertEquals(4, intTree.upperBound(Integer.MAX_VALUE));
+        Assert.assertEquals(0, intTree.search(Integer.MIN_VALUE));
+
+        long[] longs = {Long.MIN_VALUE, Long.MAX_VALUE};
+        LongSTree longTree = new LongSTree(longs);
+        Assert.assertEquals(1, longTree.search(Long.MAX_VALUE));
+        Assert.assertEquals(2, longTree.upperBound(Long.MAX_VALUE));
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void rejectsUnsorted() throws Exception {
+        new IntSTree(new int[]{2, 1});
+    }
+
+    @Test
+    public void serializeAndLoad() throws Exception {
+
+        Random random = new Random(3);
+        int[] ints = new int[3000];
+        long[] longs = new long[3000];
+        for (int i = 0; i < ints.length; i++) {
+            ints[i] = random.nextInt();
+            longs[i] = random.nextLong();
+        }
+        Arrays.sort(ints);
+        Arrays.sort(longs);
+
+        File intFile = folder.newFile("ints.bin");
+        BinaryOut out = new BinaryOut(new FileOutputStream(intFile));
+        new IntSTree(ints).writeTo(out);
+        out.close();
+
+        File longFile = folder.newFile("longs.bin");
+        out = new BinaryOut(new FileOutputStream(longFile));
+        new LongSTree(longs).writeTo(out);
+        out.close();
+
+        IntSTree intTree = IntSTree.load(intFile);
+        LongSTree longTree = LongSTree.load(longFile);
+        IntSTree intRead;
+        try (InputStream is = new FileInputStream(intFile)) {
+            intRead = IntSTree.readFrom(new BinaryIn(is));
+        }
+
+        for (int i = 0; i < ints.length; i++) {
+            Assert.assertEquals(BinarySearch.lowerBound(ints, ints[i]), intTree.lowerBound(ints[i]));
+            Assert.assertEquals(BinarySearch.lowerBound(ints, ints[i]), intRead.lowerBound(ints[i]));
+            Assert.assertEquals(BinarySearch.lowerBound(longs, longs[i]), longTree.lowerBound(longs[i]));
+        }
+    }
+
+    @Test
+    public void sizeLimitedBySingleMapping() throws Exception {
+
+        // 序列化后不超过2GB的规模可以构建，超过的在layout中拒绝，load不会遇到无法映射的文件
+        IntSTree.layout(400000000);
+        LongSTree.layout(200000000);
+        assertTooMany(IntSTree.MAGIC, 550000000, true);
+        assertTooMany(LongSTree.MAGIC, 260000000, false);
+    }
+
+    private void assertTooMany(int magic, int size, boolean ints) throws Exception {
+
+        File file = folder.newFile();
+        BinaryOut out = new BinaryOut(new FileOutputStream(file));
+        out.write(magic);
+        out.write(size);
+        out.close();
+
+        try {
+            if (ints) {
+                IntSTree.load(file);
+            } else {
+                LongSTree.load(file);
+            }
+            Assert.fail();
+        } catch (IllegalArgumentException e) {
+            Assert.assertTrue(e.getMessage(), e.getMessage().startsWith("too many elements"));
+        }
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void rejectsWrongFile() throws Exception {
+
+        File file = folder.newFile("bad.bin");
+        BinaryOut out = new BinaryOut(new FileOutputStream(file));
+        out.write(1);
+        out.write(2);
+        out.close();
+        IntSTree.load(file);
+    }
+}
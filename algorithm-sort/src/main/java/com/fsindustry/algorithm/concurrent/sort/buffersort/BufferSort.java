@@ -0,0 +1,462 @@
+package com.fsindustry.algorithm.concurrent.sort.buffersort;
+
+import java.nio.ByteBuffer;
+import java.nio.IntBuffer;
+import java.nio.LongBuffer;
+import java.util.Arrays;
+
+/**
+ * 堆外排序：直接在IntBuffer/LongBuffer上原地排序，适用于direct buffer、内存映射文件的视图，
+ * 数据不需要拷贝到堆上；只使用绝对索引的get/put，不修改buffer的position和limit
+ * <p>
+ * 1. 内省排序：三数取中快速排序，递归深度耗尽时切换为堆排序，小区间使用插入排序；
+ * 2. 基数排序：LSD，每趟8位，最高位翻转符号位；需要调用方提供同样长度的缓冲区，可以同样在堆外
+ */
+public class BufferSort {
+
+    /**
+     * 区间长度不超过该值时使用插入排序
+     */
+    static final int INSERTION_THRESHOLD = 16;
+
+    /**
+     * 区间长度小于该值时基数排序退化为内省排序
+     */
+    static final int RADIX_THRESHOLD = 256;
+
+    static final int BITS = 8;
+
+    static final int RADIX = 1 << BITS;
+
+    static final int MASK = RADIX - 1;
+
+    public static void introSort(IntBuffer buf) {
+        introSort(buf, 0, buf.limit() - 1);
+    }
+
+    public static void introSort(IntBuffer buf, int low, int high) {
+
+        checkRange(buf.limit(), low, high);
+        if (low < high) {
+            introSort(buf, low, high, depthLimit(high - low + 1));
+        }
+    }
+
+    /**
+     * 基数排序：scratch的limit不小于区间长度，使用其[0, size)部分
+     */
+    public static void radixSort(IntBuffer buf, IntBuffer scratch) {
+        radixSort(buf, 0, buf.limit() - 1, scratch);
+    }
+
+    public static void radixSort(IntBuffer buf, int low, int high, IntBuffer scratch) {
+
+        checkRange(buf.limit(), low, high);
+        int size = high - low + 1;
+        if (scratch.limit() < size) {
+            throw new IllegalArgumentException("scratch is too small: " + scratch.limit() + " < " + size);
+        }
+
+        if (size < RADIX_THRESHOLD) {
+            introSort(buf, low, high);
+            return;
+        }
+
+        IntBuffer src = buf;
+        IntBuffer dst = scratch;
+        int srcLow = low;
+        int dstLow = 0;
+        int[] count = new int[RADIX + 1];
+        for (int d = 0; d < Integer.BYTES; d++) {
+
+            int shift = d * BITS;
+            int flip = d == Integer.BYTES - 1 ? RADIX >>> 1 : 0;
+
+            Arrays.fill(count, 0);
+            for (int i = 0; i < size; i++) {
+                count[((src.get(srcLow + i) >>> shift) & MASK ^ flip) + 1]++;
+            }
+
+            // 所有元素落在同一个桶，跳过这一趟
+            if (count[((src.get(srcLow) >>> shift) & MASK ^ flip) + 1] == size) {
+                continue;
+            }
+
+            for (int r = 0; r < RADIX; r++) {
+                count[r + 1] += count[r];
+            }
+
+            for (int i = 0; i < size; i++) {
+                int v = src.get(srcLow + i);
+                dst.put(dstLow + count[(v >>> shift) & MASK ^ flip]++, v);
+            }
+
+            IntBuffer tmp = src;
+            src = dst;
+            dst = tmp;
+            int tmpLow = srcLow;
+            srcLow = dstLow;
+            dstLow = tmpLow;
+        }
+
+        // 最终结果落在scratch中时拷贝回原区间
+        if (src != buf) {
+            for (int i = 0; i < size; i++) {
+                buf.put(low + i, src.get(i));
+            }
+        }
+    }
+
+    public static void introSort(LongBuffer buf) {
+        introSort(buf, 0, buf.limit() - 1);
+    }
+
+    public static void introSort(LongBuffer buf, int low, int high) {
+
+        checkRange(buf.limit(), low, high);
+        if (low < high) {
+            introSort(buf, low, high, depthLimit(high - low + 1));
+        }
+    }
+
+    public static void radixSort(LongBuffer buf, LongBuffer scratch) {
+        radixSort(buf, 0, buf.limit() - 1, scratch);
+    }
+
+    public static void radixSort(LongBuffer buf, int low, int high, LongBuffer scratch) {
+
+        checkRange(buf.limit(), low, high);
+        int size = high - low + 1;
+        if (scratch.limit() < size) {
+            throw new IllegalArgumentException("scratch is too small: " + scratch.limit() + " < " + size);
+        }
+
+        if (size < RADIX_THRESHOLD) {
+            introSort(buf, low, high);
+            return;
+        }
+
+        LongBuffer src = buf;
+        LongBuffer dst = scratch;
+        int srcLow = low;
+        int dstLow = 0;
+        int[] count = new int[RADIX + 1];
+        for (int d = 0; d < Long.BYTES; d++) {
+
+            int shift = d * BITS;
+            int flip = d == Long.BYTES - 1 ? RADIX >>> 1 : 0;
+
+            Arrays.fill(count, 0);
+            for (int i = 0; i < size; i++) {
+                count[((int) (src.get(srcLow + i) >>> shift) & MASK ^ flip) + 1]++;
+            }
+
+            if (count[((int) (src.get(srcLow) >>> shift) & MASK ^ flip) + 1] == size) {
+                continue;
+            }
+
+            for (int r = 0; r < RADIX; r++) {
+                count[r + 1] += count[r];
+            }
+
+            for (int i = 0; i < size; i++) {
+                long v = src.get(srcLow + i);
+                dst.put(dstLow + count[(int) (v >>> shift) & MASK ^ flip]++, v);
+            }
+
+            LongBuffer tmp = src;
+            src = dst;
+            dst = tmp;
+            int tmpLow = srcLow;
+            srcLow = dstLow;
+            dstLow = tmpLow;
+        }
+
+        if (src != buf) {
+            for (int i = 0; i < size; i++) {
+                buf.put(low + i, src.get(i));
+            }
+        }
+    }
+
+    static int depthLimit(int size) {
+        return 2 * (31 - Integer.numberOfLeadingZeros(size));
+    }
+
+    private static void checkRange(int limit, int low, int high) {
+        if (low < 0 || high >= limit || low > high + 1) {
+            throw new IllegalArgumentException("illegal range [" + low + ", " + high + "] of " + limit);
+        }
+    }
+
+    private static void introSort(IntBuffer buf, int low, int high, int depth) {
+
+        while (high - low + 1 > INSERTION_THRESHOLD) {
+
+            // 递归深度耗尽，切换为堆排序
+            if (depth-- == 0) {
+                heapSort(buf, low, high);
+                return;
+            }
+
+            int idx = partition(buf, low, high);
+
+            // 递归处理较短的区间，循环处理较长的区间
+            if (idx - low < high - idx) {
+                introSort(buf, low, idx - 1, depth);
+                low = idx + 1;
+            } else {
+                introSort(buf, idx + 1, high, depth);
+                high = idx - 1;
+            }
+        }
+
+        insertionSort(buf, low, high);
+    }
+
+    /**
+     * 切分：三数取中选取枢轴，双向扫描
+     */
+    private static int partition(IntBuffer buf, int low, int high) {
+
+        int mid = low + ((high - low) >>> 1);
+        exch(buf, low, median3(buf, low, mid, high));
+        int key = buf.get(low);
+
+        int i = low;
+        int j = high + 1;
+        while (true) {
+
+            while (buf.get(++i) < key) {
+                if (i == high) {
+                    break;
+                }
+            }
+
+            while (key < buf.get(--j)) {
+            }
+
+            if (i >= j) {
+                break;
+            }
+
+            exch(buf, i, j);
+        }
+
+        exch(buf, low, j);
+        return j;
+    }
+
+    private static int median3(IntBuffer buf, int i, int j, int k) {
+
+        int a = buf.get(i);
+        int b = buf.get(j);
+        int c = buf.get(k);
+
+        if (a < b) {
+            if (b < c) {
+                return j;
+            }
+            return a < c ? k : i;
+        }
+
+        if (c < b) {
+            return j;
+        }
+        return c < a ? k : i;
+    }
+
+    private static void insertionSort(IntBuffer buf, int low, int high) {
+
+        for (int i = low + 1; i <= high; i++) {
+
+            int key = buf.get(i);
+            int j = i - 1;
+            while (j >= low && buf.get(j) > key) {
+                buf.put(j + 1, buf.get(j));
+                j--;
+            }
+            buf.put(j + 1, key);
+        }
+    }
+
+    /**
+     * 堆排序：区间内从0开始的索引
+     */
+    private static void heapSort(IntBuffer buf, int low, int high) {
+
+        int size = high - low + 1;
+        for (int k = size / 2 - 1; k >= 0; k--) {
+            sink(buf, low, k, size);
+        }
+
+        while (size > 1) {
+            exch(buf, low, low + --size);
+            sink(buf, low, 0, size);
+        }
+    }
+
+    private static void sink(IntBuffer buf, int low, int k, int size) {
+
+        int key = buf.get(low + k);
+        while (2 * k + 1 < size) {
+
+            int j = 2 * k + 1;
+            if (j + 1 < size && buf.get(low + j) < buf.get(low + j + 1)) {
+                j++;
+            }
+
+            if (key >= buf.get(low + j)) {
+                break;
+            }
+
+            buf.put(low + k, buf.get(low + j));
+            k = j;
+        }
+        buf.put(low + k, key);
+    }
+
+    private static void exch(IntBuffer buf, int i, int j) {
+        int tmp = buf.get(i);
+        buf.put(i, buf.get(j));
+        buf.put(j, tmp);
+    }
+
+    private static void introSort(LongBuffer buf, int low, int high, int depth) {
+
+        while (high - low + 1 > INSERTION_THRESHOLD) {
+
+            if (depth-- == 0) {
+                heapSort(buf, low, high);
+                return;
+            }
+
+            int idx = partition(buf, low, high);
+
+            if (idx - low < high - idx) {
+                introSort(buf, low, idx - 1, depth);
+                low = idx + 1;
+            } else {
+                introSort(buf, idx + 1, high, depth);
+                high = idx - 1;
+            }
+        }
+
+        insertionSort(buf, low, high);
+    }
+
+    private static int partition(LongBuffer buf, int low, int high) {
+
+        int mid = low + ((high - low) >>> 1);
+        exch(buf, low, median3(buf, low, mid, high));
+        long key = buf.get(low);
+
+        int i = low;
+        int j = high + 1;
+        while (true) {
+
+            while (buf.get(++i) < key) {
+                if (i == high) {
+                    break;
+                }
+            }
+
+            while (key < buf.get(--j)) {
+            }
+
+            if (i >= j) {
+                break;
+            }
+
+            exch(buf, i, j);
+        }
+
+        exch(buf, low, j);
+        return j;
+    }
+
+    private static int median3(LongBuffer buf, int i, int j, int k) {
+
+        long a = buf.get(i);
+        long b = buf.get(j);
+        long c = buf.get(k);
+
+        if (a < b) {
+            if (b < c) {
+                return j;
+            }
+            return a < c ? k : i;
+        }
+
+        if (c < b) {
+            return j;
+        }
+        return c < a ? k : i;
+    }
+
+    private static void insertionSort(LongBuffer buf, int low, int high) {
+
+        for (int i = low + 1; i <= high; i++) {
+
+            long key = buf.get(i);
+            int j = i - 1;
+            while (j >= low && buf.get(j) > key) {
+                buf.put(j + 1, buf.get(j));
+                j--;
+            }
+            buf.put(j + 1, key);
+        }
+    }
+
+    private static void heapSort(LongBuffer buf, int low, int high) {
+
+        int size = high - low + 1;
+        for (int k = size / 2 - 1; k >= 0; k--) {
+            sink(buf, low, k, size);
+        }
+
+        while (size > 1) {
+            exch(buf, low, low + --size);
+            sink(buf, low, 0, size);
+        }
+    }
+
+    private static void sink(LongBuffer buf, int low, int k, int size) {
+
+        long key = buf.get(low + k);
+        while (2 * k + 1 < size) {
+
+            int j = 2 * k + 1;
+            if (j + 1 < size && buf.get(low + j) < buf.get(low + j + 1)) {
+                j++;
+            }
+
+            if (key >= buf.get(low + j)) {
+                break;
+            }
+
+            buf.put(low + k, buf.get(low + j));
+            k = j;
+        }
+        buf.put(low + k, key);
+    }
+
+    private static void exch(LongBuffer buf, int i, int j) {
+        long tmp = buf.get(i);
+        buf.put(i, buf.get(j));
+        buf.put(j, tmp);
+    }
+
+    public static void main(String[] args) {
+
+        IntBuffer buf = ByteBuffer.allocateDirect(10 * Integer.BYTES).asIntBuffer();
+        buf.put(new int[]{3, 6, 5, 4, 7, 9, 8, 0, 2, 1});
+        introSort(buf);
+
+        int[] arr = new int[buf.limit()];
+        for (int i = 0; i < arr.length; i++) {
+            arr[i] = buf.get(i);
+        }
+        System.out.println(Arrays.toString(arr));
+    }
+}
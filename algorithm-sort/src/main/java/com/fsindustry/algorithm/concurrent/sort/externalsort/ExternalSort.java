@@ -0,0 +1,453 @@
+package com.fsindustry.algorithm.concurrent.sort.externalsort;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import com.fsindustry.algorithm.concurrent.ds.priorityqueue.MinPQ;
+import com.fsindustry.algorithm.concurrent.sort.quicksort.IntroSort;
+
+/**
+ * 外部归并排序：对大端int/long二进制文件排序，文件大小不受堆内存限制
+ * <p>
+ * 1. 生成顺串：按内存预算分块读入，内存中排序后写入临时目录；
+ * 读取使用两个缓冲区交替，后台线程读取下一块的同时，当前线程排序并写出当前块；
+ * 2. 多路归并：使用MinPQ做k路归并，顺串数超过fanIn时分多趟归并；
+ * <p>
+ * 读写使用DataInputStream、DataOutputStream，读写失败直接抛出IOException；
+ * 每个顺串按写入的元素个数读回，每趟归并核对元素总数，避免磁盘写满时静默输出截断的结果
+ */
+public class ExternalSort {
+
+    /**
+     * 默认内存预算：64MB
+     */
+    public static final long DEFAULT_MEMORY_BUDGET = 64L << 20;
+
+    /**
+     * 默认归并路数
+     */
+    public static final int DEFAULT_FAN_IN = 64;
+
+    /**
+     * 归并时每一路读写缓冲区的最小长度
+     */
+    static final int MIN_IO_BUFFER = 8 << 10;
+
+    /**
+     * 内存预算，单位字节
+     */
+    private final long memoryBudget;
+
+    /**
+     * 每趟归并最多合并的顺串数
+     */
+    private final int fanIn;
+
+    /**
+     * 临时文件目录
+     */
+    private final File tmpDir;
+
+    public ExternalSort() {
+        this(DEFAULT_MEMORY_BUDGET, DEFAULT_FAN_IN, new File(System.getProperty("java.io.tmpdir")));
+    }
+
+    public ExternalSort(long memoryBudget, int fanIn, File tmpDir) {
+
+        if (memoryBudget < 2 * Long.BYTES) {
+            throw new IllegalArgumentException("memoryBudget is too small: " + memoryBudget);
+        }
+
+        if (fanIn < 2) {
+            throw new IllegalArgumentException("fanIn must be at least 2: " + fanIn);
+        }
+
+        this.memoryBudget = memoryBudget;
+        this.fanIn = fanIn;
+        this.tmpDir = tmpDir;
+    }
+
+    /**
+     * 对大端int文件排序
+     */
+    public void sortInts(File input, File output) throws IOException {
+        long count = count(input, Format.INT);
+        merge(formIntRuns(input, count), output, Format.INT, count);
+    }
+
+    /**
+     * 对大端long文件排序
+     */
+    public void sortLongs(File input, File output) throws IOException {
+        long count = count(input, Format.LONG);
+        merge(formLongRuns(input, count), output, Format.LONG, count);
+    }
+
+    /**
+     * 文件中的元素个数，文件长度必须是元素大小的整数倍
+     */
+    private static long count(File file, Format format) throws IOException {
+
+        long length = file.length();
+        if (length % format.bytes != 0) {
+            throw new IOException("length of " + file + " is not a multiple of " + format.bytes + ": " + length);
+        }
+        return length / format.bytes;
+    }
+
+    /**
+     * 两个缓冲区的长度：各自不超过capacity，输入较少时按元素个数分配，
+     * 第一个缓冲区装第一块，第二个缓冲区最多装第一块之后剩余的元素
+     */
+    private static int[] bufferLengths(long capacity, long count) {
+        int first = (int) Math.min(Math.min(Integer.MAX_VALUE - 8, capacity), count);
+        int second = (int) Math.min(first, count - first);
+        return new int[]{first, second};
+    }
+
+    /**
+     * 生成int顺串：内存预算一分为二，作为两个交替使用的缓冲区
+     */
+    private List<Run> formIntRuns(File input, long count) throws IOException {
+
+        int[] lengths = bufferLengths(memoryBudget / 2 / Integer.BYTES, count);
+        int[][] buffers = {new int[lengths[0]], new int[lengths[1]]};
+        List<Run> runs = new ArrayList<>();
+
+        ExecutorService reader = Executors.newSingleThreadExecutor();
+        try (DataInputStream in = openInput(input, MIN_IO_BUFFER * 8)) {
+
+            IntChunkReader chunks = new IntChunkReader(in, count);
+            int current = 0;
+            Future<Integer> pending = reader.submit(chunks.into(buffers[current]));
+            while (true) {
+
+                int size = await(pending);
+                if (size == 0) {
+                    break;
+                }
+
+                // 后台读取下一块，当前线程排序并写出当前块
+                pending = reader.submit(chunks.into(buffers[1 - current]));
+
+                int[] buf = buffers[current];
+                IntroSort.sort(buf, 0, size - 1);
+
+                File run = newRunFile();
+                try (DataOutputStream out = openOutput(run, MIN_IO_BUFFER * 8)) {
+                    for (int i = 0; i < size; i++) {
+                        out.writeInt(buf[i]);
+                    }
+                }
+                runs.add(new Run(run, size));
+
+                current = 1 - current;
+            }
+        } finally {
+            reader.shutdownNow();
+        }
+
+        return runs;
+    }
+
+    /**
+     * 生成long顺串
+     */
+    private List<Run> formLongRuns(File input, long count) throws IOException {
+
+        int[] lengths = bufferLengths(memoryBudget / 2 / Long.BYTES, count);
+        long[][] buffers = {new long[lengths[0]], new long[lengths[1]]};
+        List<Run> runs = new ArrayList<>();
+
+        ExecutorService reader = Executors.newSingleThreadExecutor();
+        try (DataInputStream in = openInput(input, MIN_IO_BUFFER * 8)) {
+
+            LongChunkReader chunks = new LongChunkReader(in, count);
+            int current = 0;
+            Future<Integer> pending = reader.submit(chunks.into(buffers[current]));
+            while (true) {
+
+                int size = await(pending);
+                if (size == 0) {
+                    break;
+                }
+
+                pending = reader.submit(chunks.into(buffers[1 - current]));
+
+                long[] buf = buffers[current];
+                IntroSort.sort(buf, 0, size - 1);
+
+                File run = newRunFile();
+                try (DataOutputStream out = openOutput(run, MIN_IO_BUFFER * 8)) {
+                    for (int i = 0; i < size; i++) {
+                        out.writeLong(buf[i]);
+                    }
+                }
+                runs.add(new Run(run, size));
+
+                current = 1 - current;
+            }
+        } finally {
+            reader.shutdownNow();
+        }
+
+        return runs;
+    }
+
+    /**
+     * 多趟归并：每趟最多合并fanIn个顺串，直到剩余顺串不超过fanIn，最后一趟直接写入output
+     */
+    private void merge(List<Run> runs, File output, Format format, long count) throws IOException {
+
+        checkCount(runs, count);
+        while (runs.size() > fanIn) {
+
+            List<Run> merged = new ArrayList<>();
+            for (int i = 0; i < runs.size(); i += fanIn) {
+                List<Run> group = runs.subList(i, Math.min(runs.size(), i + fanIn));
+                File run = newRunFile();
+                merged.add(new Run(run, mergeRuns(group, run, format)));
+            }
+            runs = merged;
+            checkCount(runs, count);
+        }
+
+        long written = mergeRuns(runs, output, format);
+        if (written != count || output.length() != count * format.bytes) {
+            throw new IOException("expected " + count + " elements in " + output + ", but wrote " + written);
+        }
+    }
+
+    private static void checkCount(List<Run> runs, long count) throws IOException {
+
+        long total = 0;
+        for (Run run : runs) {
+            total += run.count;
+        }
+        if (total != count) {
+            throw new IOException("expected " + count + " elements in runs, but found " + total);
+        }
+    }
+
+    /**
+     * k路归并：MinPQ中保存每一路的当前元素，每一路按写入时的元素个数读取，合并完成后删除输入顺串；
+     * 返回写出的元素个数
+     */
+    private long mergeRuns(List<Run> runs, File output, Format format) throws IOException {
+
+        int ioBuffer = (int) Math.max(MIN_IO_BUFFER, Math.min(1 << 20, memoryBudget / (runs.size() + 1)));
+        List<DataInputStream> streams = new ArrayList<>(runs.size());
+        long written = 0;
+        try (DataOutputStream out = openOutput(output, ioBuffer)) {
+
+            MinPQ<RunHead> pq = new MinPQ<>(runs.size());
+            for (Run run : runs) {
+                DataInputStream in = openInput(run.file, ioBuffer);
+                streams.add(in);
+
+                if (run.count > 0) {
+                    pq.insert(new RunHead(in, run.count - 1, format.read(in)));
+                }
+            }
+
+            while (!pq.isEmpty()) {
+
+                RunHead head = pq.delMin();
+                format.write(out, head.value);
+                written++;
+
+                // 复用RunHead对象，避免每个元素分配一次
+                if (head.remaining > 0) {
+                    head.remaining--;
+                    head.value = format.read(head.in);
+                    pq.insert(head);
+                }
+            }
+        } finally {
+            for (DataInputStream in : streams) {
+                in.close();
+            }
+        }
+
+        for (Run run : runs) {
+            if (!run.file.equals(output) && !run.file.delete()) {
+                run.file.deleteOnExit();
+            }
+        }
+        return written;
+    }
+
+    private File newRunFile() throws IOException {
+        File run = File.createTempFile("run-", ".bin", tmpDir);
+        run.deleteOnExit();
+        return run;
+    }
+
+    private static DataInputStream openInput(File file, int buffer) throws IOException {
+        return new DataInputStream(new BufferedInputStream(new FileInputStream(file), buffer));
+    }
+
+    private static DataOutputStream openOutput(File file, int buffer) throws IOException {
+        return new DataOutputStream(new BufferedOutputStream(new FileOutputStream(file), buffer));
+    }
+
+    private static int await(Future<Integer> future) throws IOException {
+        try {
+            return future.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IOException("interrupted while reading input", e);
+        } catch (ExecutionException e) {
+            throw new IOException("failed to read input", e.getCause());
+        }
+    }
+
+    /**
+     * 顺串文件及其元素个数
+     */
+    private static class Run {
+
+        private final File file;
+
+        private final long count;
+
+        Run(File file, long count) {
+            this.file = file;
+            this.count = count;
+        }
+    }
+
+    /**
+     * 按块读取int数据：只读取count个元素，文件提前结束时readInt抛出EOFException
+     */
+    private static class IntChunkReader {
+
+        private final DataInputStream in;
+
+        private long remaining;
+
+        IntChunkReader(DataInputStream in, long count) {
+            this.in = in;
+            this.remaining = count;
+        }
+
+        /**
+         * 读取一块到buf，返回实际读取的个数
+         */
+        Callable<Integer> into(int[] buf) {
+            return () -> {
+                int size = (int) Math.min(buf.length, remaining);
+                for (int i = 0; i < size; i++) {
+                    buf[i] = in.readInt();
+                }
+                remaining -= size;
+                return size;
+            };
+        }
+    }
+
+    /**
+     * 按块读取long数据
+     */
+    private static class LongChunkReader {
+
+        private final DataInputStream in;
+
+        private long remaining;
+
+        LongChunkReader(DataInputStream in, long count) {
+            this.in = in;
+            this.remaining = count;
+        }
+
+        Callable<Integer> into(long[] buf) {
+            return () -> {
+                int size = (int) Math.min(buf.length, remaining);
+                for (int i = 0; i < size; i++) {
+                    buf[i] = in.readLong();
+                }
+                remaining -= size;
+                return size;
+            };
+        }
+    }
+
+    /**
+     * 元素格式：int值在归并时扩展为long比较，顺序不变
+     */
+    private enum Format {
+
+        INT(Integer.BYTES) {
+            @Override
+            long read(DataInputStream in) throws IOException {
+                return in.readInt();
+            }
+
+            @Override
+            void write(DataOutputStream out, long value) throws IOException {
+                out.writeInt((int) value);
+            }
+        },
+
+        LONG(Long.BYTES) {
+            @Override
+            long read(DataInputStream in) throws IOException {
+                return in.readLong();
+            }
+
+            @Override
+            void write(DataOutputStream out, long value) throws IOException {
+                out.writeLong(value);
+            }
+        };
+
+        /**
+         * 每个元素的字节数
+         */
+        final int bytes;
+
+        Format(int bytes) {
+            this.bytes = bytes;
+        }
+
+        abstract long read(DataInputStream in) throws IOException;
+
+        abstract void write(DataOutputStream out, long value) throws IOException;
+    }
+
+    /**
+     * 顺串的当前元素，remaining为该顺串尚未读取的元素个数
+     */
+    private static class RunHead implements Comparable<RunHead> {
+
+        private final DataInputStream in;
+
+        private long remaining;
+
+        private long value;
+
+        RunHead(DataInputStream in, long remaining, long value) {
+            this.in = in;
+            this.remaining = remaining;
+            this.value = value;
+        }
+
+        @Override
+        public int compareTo(RunHead o) {
+            return Long.compare(value, o.value);
+        }
+    }
+}
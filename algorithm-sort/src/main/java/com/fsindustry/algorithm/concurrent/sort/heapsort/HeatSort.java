@@ -1,6 +1,10 @@
 package com.fsindustry.algorithm.concurrent.sort.heapsort;
 
 import java.util.Arrays;
+import java.util.Comparator;
+
+import com.fsindustry.algorithm.concurrent.sort.stats.SortPhase;
+import com.fsindustry.algorithm.concurrent.sort.stats.SortStats;
 
 /**
  * 堆排序实现：基于最大堆实现
@@ -11,6 +15,7 @@ public class HeatSort {
      * 比较
      */
     private static boolean less(Comparable[] arr, int i, int j) {
+        SortStats.compare();
         return arr[i - 1].compareTo(arr[j - 1]) < 0;
     }
 
@@ -18,6 +23,7 @@ public class HeatSort {
      * 交换
      */
     private static void exch(Comparable[] arr, int i, int j) {
+        SortStats.swap();
         Comparable tmp = arr[i - 1];
         arr[i - 1] = arr[j - 1];
         arr[j - 1] = tmp;
@@ -52,20 +58,740 @@ public class HeatSort {
      */
     public static void sort(Comparable[] arr) {
 
-        int size = arr.length;
+        SortStats stats = SortStats.begin("HeatSort", arr.length);
+        try {
+            int size = arr.length;
+
+            // 构造堆
+            long start = SortStats.phaseStart();
+            for (int k = size / 2; k >= 1; k--) {
+                sink(arr, k, size);
+            }
+            SortStats.phaseEnd(SortPhase.HEAPIFY, start);
+
+            // 下沉排序
+            start = SortStats.phaseStart();
+            while (size > 1) {
+                exch(arr, 1, size--);
+                sink(arr, 1, size);
+            }
+            SortStats.phaseEnd(SortPhase.SORTDOWN, start);
+        } finally {
+            SortStats.end(stats);
+        }
+    }
+
+    /**
+     * 比较：int数组区间版本，i、j为区间内从1开始的索引
+     */
+    private static boolean less(int[] arr, int low, int i, int j) {
+        return arr[low + i - 1] < arr[low + j - 1];
+    }
+
+    /**
+     * 交换：int数组区间版本
+     */
+    private static void exch(int[] arr, int low, int i, int j) {
+        int tmp = arr[low + i - 1];
+        arr[low + i - 1] = arr[low + j - 1];
+        arr[low + j - 1] = tmp;
+    }
+
+    /**
+     * 下沉：int数组区间版本
+     */
+    private static void sink(int[] arr, int low, int k, int size) {
+
+        while (2 * k <= size) {
+
+            int j = 2 * k;
+            if (j < size && less(arr, low, j, j + 1)) {
+                j++;
+            }
+
+            if (!less(arr, low, k, j)) {
+                break;
+            }
+
+            exch(arr, low, k, j);
+            k = j;
+        }
+    }
+
+    /**
+     * 排序：对int数组的[low, high]区间排序，不额外分配内存
+     */
+    public static void sort(int[] arr, int low, int high) {
+
+        int size = high - low + 1;
+
+        for (int k = size / 2; k >= 1; k--) {
+            sink(arr, low, k, size);
+        }
+
+        while (size > 1) {
+            exch(arr, low, 1, size--);
+            sink(arr, low, 1, size);
+        }
+    }
+
+    private static boolean less(long[] arr, int low, int i, int j) {
+        return arr[low + i - 1] < arr[low + j - 1];
+    }
+
+    private static void exch(long[] arr, int low, int i, int j) {
+        long tmp = arr[low + i - 1];
+        arr[low + i - 1] = arr[low + j - 1];
+        arr[low + j - 1] = tmp;
+    }
+
+    private static void sink(long[] arr, int low, int k, int size) {
+
+        while (2 * k <= size) {
+
+            int j = 2 * k;
+            if (j < size && less(arr, low, j, j + 1)) {
+                j++;
+            }
+
+            if (!less(arr, low, k, j)) {
+                break;
+            }
+
+            exch(arr, low, k, j);
+            k = j;
+        }
+    }
+
+    /**
+     * 排序：对long数组的[low, high]区间排序，不额外分配内存
+     */
+    public static void sort(long[] arr, int low, int high) {
+
+        int size = high - low + 1;
+
+        for (int k = size / 2; k >= 1; k--) {
+            sink(arr, low, k, size);
+        }
+
+        while (size > 1) {
+            exch(arr, low, 1, size--);
+            sink(arr, low, 1, size);
+        }
+    }
+
+    private static boolean less(short[] arr, int low, int i, int j) {
+        return arr[low + i - 1] < arr[low + j - 1];
+    }
+
+    private static void exch(short[] arr, int low, int i, int j) {
+        short tmp = arr[low + i - 1];
+        arr[low + i - 1] = arr[low + j - 1];
+        arr[low + j - 1] = tmp;
+    }
+
+    private static void sink(short[] arr, int low, int k, int size) {
+
+        while (2 * k <= size) {
+
+            int j = 2 * k;
+            if (j < size && less(arr, low, j, j + 1)) {
+                j++;
+            }
+
+            if (!less(arr, low, k, j)) {
+                break;
+            }
+
+            exch(arr, low, k, j);
+            k = j;
+        }
+    }
+
+    /**
+     * 排序：对short数组的[low, high]区间排序，不额外分配内存
+     */
+    public static void sort(short[] arr, int low, int high) {
+
+        int size = high - low + 1;
+
+        for (int k = size / 2; k >= 1; k--) {
+            sink(arr, low, k, size);
+        }
+
+        while (size > 1) {
+            exch(arr, low, 1, size--);
+            sink(arr, low, 1, size);
+        }
+    }
+
+    private static boolean less(char[] arr, int low, int i, int j) {
+        return arr[low + i - 1] < arr[low + j - 1];
+    }
+
+    private static void exch(char[] arr, int low, int i, int j) {
+        char tmp = arr[low + i - 1];
+        arr[low + i - 1] = arr[low + j - 1];
+        arr[low + j - 1] = tmp;
+    }
+
+    private static void sink(char[] arr, int low, int k, int size) {
+
+        while (2 * k <= size) {
+
+            int j = 2 * k;
+            if (j < size && less(arr, low, j, j + 1)) {
+                j++;
+            }
+
+            if (!less(arr, low, k, j)) {
+                break;
+            }
+
+            exch(arr, low, k, j);
+            k = j;
+        }
+    }
+
+    /**
+     * 排序：对char数组的[low, high]区间排序，不额外分配内存
+     */
+    public static void sort(char[] arr, int low, int high) {
+
+        int size = high - low + 1;
+
+        for (int k = size / 2; k >= 1; k--) {
+            sink(arr, low, k, size);
+        }
+
+        while (size > 1) {
+            exch(arr, low, 1, size--);
+            sink(arr, low, 1, size);
+        }
+    }
+
+    private static boolean less(byte[] arr, int low, int i, int j) {
+        return arr[low + i - 1] < arr[low + j - 1];
+    }
+
+    private static void exch(byte[] arr, int low, int i, int j) {
+        byte tmp = arr[low + i - 1];
+        arr[low + i - 1] = arr[low + j - 1];
+        arr[low + j - 1] = tmp;
+    }
+
+    private static void sink(byte[] arr, int low, int k, int size) {
+
+        while (2 * k <= size) {
+
+            int j = 2 * k;
+            if (j < size && less(arr, low, j, j + 1)) {
+                j++;
+            }
+
+            if (!less(arr, low, k, j)) {
+                break;
+            }
+
+            exch(arr, low, k, j);
+            k = j;
+        }
+    }
+
+    /**
+     * 排序：对byte数组的[low, high]区间排序，不额外分配内存
+     */
+    public static void sort(byte[] arr, int low, int high) {
+
+        int size = high - low + 1;
+
+        for (int k = size / 2; k >= 1; k--) {
+            sink(arr, low, k, size);
+        }
+
+        while (size > 1) {
+            exch(arr, low, 1, size--);
+            sink(arr, low, 1, size);
+        }
+    }
+
+    /**
+     * 按Float.compare的全序比较：-0.0小于0.0，NaN大于所有值
+     */
+    private static boolean less(float[] arr, int low, int i, int j) {
+        return Float.compare(arr[low + i - 1], arr[low + j - 1]) < 0;
+    }
+
+    private static void exch(float[] arr, int low, int i, int j) {
+        float tmp = arr[low + i - 1];
+        arr[low + i - 1] = arr[low + j - 1];
+        arr[low + j - 1] = tmp;
+    }
+
+    private static void sink(float[] arr, int low, int k, int size) {
+
+        while (2 * k <= size) {
+
+            int j = 2 * k;
+            if (j < size && less(arr, low, j, j + 1)) {
+                j++;
+            }
+
+            if (!less(arr, low, k, j)) {
+                break;
+            }
+
+            exch(arr, low, k, j);
+            k = j;
+        }
+    }
+
+    /**
+     * 排序：对float数组的[low, high]区间排序，不额外分配内存；
+     * 与Arrays.sort一致，-0.0排在0.0之前，NaN排在末尾
+     */
+    public static void sort(float[] arr, int low, int high) {
+
+        int size = high - low + 1;
+
+        for (int k = size / 2; k >= 1; k--) {
+            sink(arr, low, k, size);
+        }
+
+        while (size > 1) {
+            exch(arr, low, 1, size--);
+            sink(arr, low, 1, size);
+        }
+    }
+
+    /**
+     * 按Double.compare的全序比较：-0.0小于0.0，NaN大于所有值
+     */
+    private static boolean less(double[] arr, int low, int i, int j) {
+        return Double.compare(arr[low + i - 1], arr[low + j - 1]) < 0;
+    }
+
+    private static void exch(double[] arr, int low, int i, int j) {
+        double tmp = arr[low + i - 1];
+        arr[low + i - 1] = arr[low + j - 1];
+        arr[low + j - 1] = tmp;
+    }
+
+    private static void sink(double[] arr, int low, int k, int size) {
+
+        while (2 * k <= size) {
+
+            int j = 2 * k;
+            if (j < size && less(arr, low, j, j + 1)) {
+                j++;
+            }
+
+            if (!less(arr, low, k, j)) {
+                break;
+            }
+
+            exch(arr, low, k, j);
+            k = j;
+        }
+    }
+
+    /**
+     * 排序：对double数组的[low, high]区间排序，不额外分配内存；
+     * 与Arrays.sort一致，-0.0排在0.0之前，NaN排在末尾
+     */
+    public static void sort(double[] arr, int low, int high) {
+
+        int size = high - low + 1;
 
-        // 构造堆
         for (int k = size / 2; k >= 1; k--) {
-            sink(arr, k, size);
+            sink(arr, low, k, size);
+        }
+
+        while (size > 1) {
+            exch(arr, low, 1, size--);
+            sink(arr, low, 1, size);
+        }
+    }
+
+    /**
+     * 自底向上堆排序（Floyd）：下沉时不与待下沉元素比较，
+     * 先沿较大子节点走到叶子，再从叶子向上回溯找到插入位置，比较次数约为经典实现的一半
+     */
+    public static void bottomUpSort(int[] arr) {
+        bottomUpSort(arr, 0, arr.length - 1);
+    }
+
+    /**
+     * 自底向上堆排序：int数组区间版本
+     */
+    public static void bottomUpSort(int[] arr, int low, int high) {
+
+        SortStats stats = SortStats.begin("HeatSort.bottomUp", high - low + 1);
+        try {
+            int size = high - low + 1;
+
+            long start = SortStats.phaseStart();
+            for (int k = size / 2 - 1; k >= 0; k--) {
+                siftDown(arr, low, k, arr[low + k], size);
+            }
+            SortStats.phaseEnd(SortPhase.HEAPIFY, start);
+
+            // 堆顶移到末尾，末尾元素从堆顶自底向上下沉
+            start = SortStats.phaseStart();
+            while (size > 1) {
+                size--;
+                int value = arr[low + size];
+                arr[low + size] = arr[low];
+                SortStats.move();
+                siftDown(arr, low, 0, value, size);
+            }
+            SortStats.phaseEnd(SortPhase.SORTDOWN, start);
+        } finally {
+            SortStats.end(stats);
+        }
+    }
+
+    /**
+     * 自底向上下沉：k为区间内从0开始的索引，value为放入k位置的元素
+     */
+    private static void siftDown(int[] arr, int low, int k, int value, int size) {
+
+        int j = k;
+        while (2 * j + 2 < size) {
+            SortStats.compare();
+            j = arr[low + 2 * j + 1] < arr[low + 2 * j + 2] ? 2 * j + 2 : 2 * j + 1;
+        }
+        if (2 * j + 1 < size) {
+            j = 2 * j + 1;
+        }
+
+        while (j > k && less(arr[low + j], value)) {
+            j = (j - 1) / 2;
+        }
+
+        int carry = arr[low + j];
+        arr[low + j] = value;
+        SortStats.move();
+        while (j > k) {
+            j = (j - 1) / 2;
+            int tmp = arr[low + j];
+            arr[low + j] = carry;
+            SortStats.move();
+            carry = tmp;
+        }
+    }
+
+    /**
+     * 比较：计入统计
+     */
+    private static boolean less(int a, int b) {
+        SortStats.compare();
+        return a < b;
+    }
+
+    public static void bottomUpSort(long[] arr) {
+        bottomUpSort(arr, 0, arr.length - 1);
+    }
+
+    /**
+     * 自底向上堆排序：long数组区间版本
+     */
+    public static void bottomUpSort(long[] arr, int low, int high) {
+
+        int size = high - low + 1;
+
+        for (int k = size / 2 - 1; k >= 0; k--) {
+            siftDown(arr, low, k, arr[low + k], size);
+        }
+
+        // 堆顶移到末尾，末尾元素从堆顶自底向上下沉
+        while (size > 1) {
+            size--;
+            long value = arr[low + size];
+            arr[low + size] = arr[low];
+            siftDown(arr, low, 0, value, size);
+        }
+    }
+
+    private static void siftDown(long[] arr, int low, int k, long value, int size) {
+
+        int j = k;
+        while (2 * j + 2 < size) {
+            j = arr[low + 2 * j + 1] < arr[low + 2 * j + 2] ? 2 * j + 2 : 2 * j + 1;
+        }
+        if (2 * j + 1 < size) {
+            j = 2 * j + 1;
+        }
+
+        while (j > k && arr[low + j] < value) {
+            j = (j - 1) / 2;
+        }
+
+        long carry = arr[low + j];
+        arr[low + j] = value;
+        while (j > k) {
+            j = (j - 1) / 2;
+            long tmp = arr[low + j];
+            arr[low + j] = carry;
+            carry = tmp;
+        }
+    }
+
+    /**
+     * 四叉堆排序：节点k的子节点为4k+1 ~ 4k+4，同一节点的子节点位于同一缓存行，
+     * 树高减半，适合数组远大于缓存的场景
+     */
+    public static void quaternarySort(int[] arr) {
+        quaternarySort(arr, 0, arr.length - 1);
+    }
+
+    /**
+     * 四叉堆排序：int数组区间版本
+     */
+    public static void quaternarySort(int[] arr, int low, int high) {
+
+        int size = high - low + 1;
+        if (size < 2) {
+            return;
+        }
+
+        for (int k = (size - 2) / 4; k >= 0; k--) {
+            siftDown4(arr, low, k, arr[low + k], size);
+        }
+
+        while (size > 1) {
+            size--;
+            int value = arr[low + size];
+            arr[low + size] = arr[low];
+            siftDown4(arr, low, 0, value, size);
+        }
+    }
+
+    /**
+     * 四叉堆自底向上下沉
+     */
+    private static void siftDown4(int[] arr, int low, int k, int value, int size) {
+
+        int j = k;
+        while (4 * j + 1 < size) {
+
+            int child = 4 * j + 1;
+            int last = Math.min(child + 3, size - 1);
+            int max = child;
+            for (int c = child + 1; c <= last; c++) {
+                max = arr[low + max] < arr[low + c] ? c : max;
+            }
+            j = max;
+        }
+
+        while (j > k && arr[low + j] < value) {
+            j = (j - 1) / 4;
+        }
+
+        int carry = arr[low + j];
+        arr[low + j] = value;
+        while (j > k) {
+            j = (j - 1) / 4;
+            int tmp = arr[low + j];
+            arr[low + j] = carry;
+            carry = tmp;
+        }
+    }
+
+    public static void quaternarySort(long[] arr) {
+        quaternarySort(arr, 0, arr.length - 1);
+    }
+
+    /**
+     * 四叉堆排序：long数组区间版本
+     */
+    public static void quaternarySort(long[] arr, int low, int high) {
+
+        int size = high - low + 1;
+        if (size < 2) {
+            return;
+        }
+
+        for (int k = (size - 2) / 4; k >= 0; k--) {
+            siftDown4(arr, low, k, arr[low + k], size);
         }
 
-        // 下沉排序
         while (size > 1) {
-            exch(arr, 1, size--);
-            sink(arr, 1, size);
+            size--;
+            long value = arr[low + size];
+            arr[low + size] = arr[low];
+            siftDown4(arr, low, 0, value, size);
         }
     }
 
+    private static void siftDown4(long[] arr, int low, int k, long value, int size) {
+
+        int j = k;
+        while (4 * j + 1 < size) {
+
+            int child = 4 * j + 1;
+            int last = Math.min(child + 3, size - 1);
+            int max = child;
+            for (int c = child + 1; c <= last; c++) {
+                max = arr[low + max] < arr[low + c] ? c : max;
+            }
+            j = max;
+        }
+
+        while (j > k && arr[low + j] < value) {
+            j = (j - 1) / 4;
+        }
+
+        long carry = arr[low + j];
+        arr[low + j] = value;
+        while (j > k) {
+            j = (j - 1) / 4;
+            long tmp = arr[low + j];
+            arr[low + j] = carry;
+            carry = tmp;
+        }
+    }
+
+    /**
+     * 自底向上堆排序：使用比较器，0起始索引
+     */
+    public static <T> void bottomUpSort(T[] arr, Comparator<? super T> comparator) {
+
+        int size = arr.length;
+
+        for (int k = size / 2 - 1; k >= 0; k--) {
+            siftDown(arr, k, arr[k], size, comparator);
+        }
+
+        while (size > 1) {
+            size--;
+            T value = arr[size];
+            arr[size] = arr[0];
+            siftDown(arr, 0, value, size, comparator);
+        }
+    }
+
+    private static <T> void siftDown(T[] arr, int k, T value, int size, Comparator<? super T> comparator) {
+
+        int j = k;
+        while (2 * j + 2 < size) {
+            j = comparator.compare(arr[2 * j + 1], arr[2 * j + 2]) < 0 ? 2 * j + 2 : 2 * j + 1;
+        }
+        if (2 * j + 1 < size) {
+            j = 2 * j + 1;
+        }
+
+        while (j > k && comparator.compare(arr[j], value) < 0) {
+            j = (j - 1) / 2;
+        }
+
+        T carry = arr[j];
+        arr[j] = value;
+        while (j > k) {
+            j = (j - 1) / 2;
+            T tmp = arr[j];
+            arr[j] = carry;
+            carry = tmp;
+        }
+    }
+
+    /**
+     * 同步排序：按keys[low, high]排序，values的相同区间随keys一起交换
+     */
+    public static void sort(int[] keys, int[] values, int low, int high) {
+
+        int size = high - low + 1;
+
+        for (int k = size / 2 - 1; k >= 0; k--) {
+            sink(keys, values, low, k, size);
+        }
+
+        while (size > 1) {
+            size--;
+            exch(keys, values, low, low + size);
+            sink(keys, values, low, 0, size);
+        }
+    }
+
+    /**
+     * 同步下沉：k为区间内从0开始的索引
+     */
+    private static void sink(int[] keys, int[] values, int low, int k, int size) {
+
+        while (2 * k + 1 < size) {
+
+            int j = 2 * k + 1;
+            if (j + 1 < size && keys[low + j] < keys[low + j + 1]) {
+                j++;
+            }
+
+            if (keys[low + k] >= keys[low + j]) {
+                break;
+            }
+
+            exch(keys, values, low + k, low + j);
+            k = j;
+        }
+    }
+
+    private static void exch(int[] keys, int[] values, int i, int j) {
+
+        int key = keys[i];
+        keys[i] = keys[j];
+        keys[j] = key;
+
+        int value = values[i];
+        values[i] = values[j];
+        values[j] = value;
+    }
+
+    /**
+     * 同步排序：按keys[low, high]排序，values的相同区间随keys一起交换
+     */
+    public static void sort(int[] keys, long[] values, int low, int high) {
+
+        int size = high - low + 1;
+
+        for (int k = size / 2 - 1; k >= 0; k--) {
+            sink(keys, values, low, k, size);
+        }
+
+        while (size > 1) {
+            size--;
+            exch(keys, values, low, low + size);
+            sink(keys, values, low, 0, size);
+        }
+    }
+
+    private static void sink(int[] keys, long[] values, int low, int k, int size) {
+
+        while (2 * k + 1 < size) {
+
+            int j = 2 * k + 1;
+            if (j + 1 < size && keys[low + j] < keys[low + j + 1]) {
+                j++;
+            }
+
+            if (keys[low + k] >= keys[low + j]) {
+                break;
+            }
+
+            exch(keys, values, low + k, low + j);
+            k = j;
+        }
+    }
+
+    private static void exch(int[] keys, long[] values, int i, int j) {
+
+        int key = keys[i];
+        keys[i] = keys[j];
+        keys[j] = key;
+
+        long value = values[i];
+        values[i] = values[j];
+        values[j] = value;
+    }
+
     public static void main(String[] args) {
 
         Integer[] arr = {3, 6, 5, 4, 7, 9, 8, 0, 2, 1};
@@ -0,0 +1,620 @@
+package com.fsindustry.algorithm.concurrent.sort.mergesort;
+
+import java.lang.reflect.Array;
+import java.util.Arrays;
+import java.util.Comparator;
+
+/**
+ * 自适应稳定归并排序（TimSort思路）：
+ * <p>
+ * 1. 识别输入中已有的升序/严格降序片段（顺串），严格降序片段原地翻转，保证稳定；
+ * 2. 过短的顺串用二分插入排序补足到minRun；
+ * 3. 顺串压栈，栈中相邻顺串长度满足约束时才合并，保证合并均衡；
+ * 4. 合并时若一侧连续胜出，切换为倍增查找（galloping）批量拷贝；
+ * <p>
+ * 已有序输入只需n-1次比较；辅助数组可由调用方传入复用
+ * <p>
+ * 算法与JDK的Arrays.sort(Object[])相同，区别在于：Arrays.sort每次调用都分配新的辅助数组，且不对外暴露；
+ * 这里的区间版本接收并返回辅助数组，反复排序（如按批到达的日志）时可以只分配一次
+ */
+public class AdaptiveMergeSort<T> {
+
+    /**
+     * 数组长度小于该值时直接使用二分插入排序
+     */
+    static final int MIN_MERGE = 32;
+
+    /**
+     * 一侧连续胜出该次数后进入galloping模式
+     */
+    static final int MIN_GALLOP = 7;
+
+    /**
+     * 顺串栈的最大深度，顺串长度满足斐波那契式增长，49足够容纳int范围内的长度
+     */
+    static final int MAX_STACK = 49;
+
+    private final T[] arr;
+
+    private final Comparator<? super T> comparator;
+
+    /**
+     * 合并时的辅助数组
+     */
+    private T[] tmp;
+
+    /**
+     * 进入galloping模式的阈值，根据合并情况动态调整
+     */
+    private int minGallop = MIN_GALLOP;
+
+    /**
+     * 待合并的顺串栈
+     */
+    private int stackSize = 0;
+
+    private final int[] runBase = new int[MAX_STACK];
+
+    private final int[] runLen = new int[MAX_STACK];
+
+    private AdaptiveMergeSort(T[] arr, Comparator<? super T> comparator, T[] work) {
+        this.arr = arr;
+        this.comparator = comparator;
+        this.tmp = work;
+    }
+
+    public static <T extends Comparable<? super T>> void sort(T[] arr) {
+        sort(arr, 0, arr.length - 1, Comparator.<T>naturalOrder(), null);
+    }
+
+    public static <T> void sort(T[] arr, Comparator<? super T> comparator) {
+        sort(arr, 0, arr.length - 1, comparator, null);
+    }
+
+    /**
+     * 排序[low, high]区间；work为辅助数组，可以为null，
+     * 返回本次排序使用的辅助数组（可能扩容），调用方可保存下来供下次复用
+     */
+    public static <T> T[] sort(T[] arr, int low, int high, Comparator<? super T> comparator, T[] work) {
+
+        int hi = high + 1;
+        int remaining = hi - low;
+        if (remaining < 2) {
+            return work;
+        }
+
+        // 较短的数组：找出第一个顺串后，二分插入排序剩余部分
+        if (remaining < MIN_MERGE) {
+            int initRunLen = countRunAndMakeAscending(arr, low, hi, comparator);
+            binarySort(arr, low, hi, low + initRunLen, comparator);
+            return work;
+        }
+
+        AdaptiveMergeSort<T> ms = new AdaptiveMergeSort<>(arr, comparator, work);
+        int minRun = minRunLength(remaining);
+        do {
+
+            // 识别下一个顺串，过短时补足到minRun
+            int runLen = countRunAndMakeAscending(arr, low, hi, comparator);
+            if (runLen < minRun) {
+                int force = Math.min(remaining, minRun);
+                binarySort(arr, low, low + force, low + runLen, comparator);
+                runLen = force;
+            }
+
+            ms.pushRun(low, runLen);
+            ms.mergeCollapse();
+
+            low += runLen;
+            remaining -= runLen;
+        } while (remaining != 0);
+
+        ms.mergeForceCollapse();
+        return ms.tmp;
+    }
+
+    /**
+     * 计算最小顺串长度：结果在[MIN_MERGE/2, MIN_MERGE]之间，使n/minRun接近且不超过2的幂
+     */
+    static int minRunLength(int n) {
+
+        int r = 0;
+        while (n >= MIN_MERGE) {
+            r |= (n & 1);
+            n >>= 1;
+        }
+        return n + r;
+    }
+
+    /**
+     * 从lo开始识别顺串，严格降序的顺串原地翻转，返回顺串长度
+     */
+    static <T> int countRunAndMakeAscending(T[] arr, int lo, int hi, Comparator<? super T> comparator) {
+
+        int runHi = lo + 1;
+        if (runHi == hi) {
+            return 1;
+        }
+
+        if (comparator.compare(arr[runHi++], arr[lo]) < 0) {
+            while (runHi < hi && comparator.compare(arr[runHi], arr[runHi - 1]) < 0) {
+                runHi++;
+            }
+            reverseRange(arr, lo, runHi);
+        } else {
+            while (runHi < hi && comparator.compare(arr[runHi], arr[runHi - 1]) >= 0) {
+                runHi++;
+            }
+        }
+
+        return runHi - lo;
+    }
+
+    private static void reverseRange(Object[] arr, int lo, int hi) {
+
+        hi--;
+        while (lo < hi) {
+            Object t = arr[lo];
+            arr[lo++] = arr[hi];
+            arr[hi--] = t;
+        }
+    }
+
+    /**
+     * 二分插入排序：[lo, start)已有序，将[start, hi)逐个插入
+     */
+    static <T> void binarySort(T[] arr, int lo, int hi, int start, Comparator<? super T> comparator) {
+
+        if (start == lo) {
+            start++;
+        }
+
+        for (; start < hi; start++) {
+
+            T pivot = arr[start];
+
+            // 相等元素插在右侧，保证稳定
+            int left = lo;
+            int right = start;
+            while (left < right) {
+                int mid = (left + right) >>> 1;
+                if (comparator.compare(pivot, arr[mid]) < 0) {
+                    right = mid;
+                } else {
+                    left = mid + 1;
+                }
+            }
+
+            System.arraycopy(arr, left, arr, left + 1, start - left);
+            arr[left] = pivot;
+        }
+    }
+
+    private void pushRun(int base, int len) {
+        runBase[stackSize] = base;
+        runLen[stackSize] = len;
+        stackSize++;
+    }
+
+    /**
+     * 合并栈顶顺串，直到满足：
+     * runLen[i - 2] > runLen[i - 1] + runLen[i] 且 runLen[i - 1] > runLen[i]
+     */
+    private void mergeCollapse() {
+
+        while (stackSize > 1) {
+
+            int n = stackSize - 2;
+            if (n > 0 && runLen[n - 1] <= runLen[n] + runLen[n + 1]
+                    || n > 1 && runLen[n - 2] <= runLen[n] + runLen[n - 1]) {
+                if (runLen[n - 1] < runLen[n + 1]) {
+                    n--;
+                }
+            } else if (runLen[n] > runLen[n + 1]) {
+                break;
+            }
+
+            mergeAt(n);
+        }
+    }
+
+    /**
+     * 合并栈中所有顺串
+     */
+    private void mergeForceCollapse() {
+
+        while (stackSize > 1) {
+
+            int n = stackSize - 2;
+            if (n > 0 && runLen[n - 1] < runLen[n + 1]) {
+                n--;
+            }
+
+            mergeAt(n);
+        }
+    }
+
+    /**
+     * 合并栈中第i、i+1个顺串
+     */
+    private void mergeAt(int i) {
+
+        int base1 = runBase[i];
+        int len1 = runLen[i];
+        int base2 = runBase[i + 1];
+        int len2 = runLen[i + 1];
+
+        runLen[i] = len1 + len2;
+        if (i == stackSize - 3) {
+            runBase[i + 1] = runBase[i + 2];
+            runLen[i + 1] = runLen[i + 2];
+        }
+        stackSize--;
+
+        // run1中不大于run2首元素的前缀已经归位
+        int k = gallopRight(arr[base2], arr, base1, len1, 0, comparator);
+        base1 += k;
+        len1 -= k;
+        if (len1 == 0) {
+            return;
+        }
+
+        // run2中不小于run1末元素的后缀已经归位
+        len2 = gallopLeft(arr[base1 + len1 - 1], arr, base2, len2, len2 - 1, comparator);
+        if (len2 == 0) {
+            return;
+        }
+
+        // 较短的一侧拷贝到辅助数组
+        if (len1 <= len2) {
+            mergeLo(base1, len1, base2, len2);
+        } else {
+            mergeHi(base1, len1, base2, len2);
+        }
+    }
+
+    /**
+     * 倍增查找：返回key在[base, base + len)中的插入位置k，满足 a[base + k - 1] < key <= a[base + k]，
+     * hint为开始查找的位置
+     */
+    static <T> int gallopLeft(T key, T[] a, int base, int len, int hint, Comparator<? super T> comparator) {
+
+        int lastOfs = 0;
+        int ofs = 1;
+        if (comparator.compare(key, a[base + hint]) > 0) {
+
+            // 向右倍增，直到 a[base + hint + lastOfs] < key <= a[base + hint + ofs]
+            int maxOfs = len - hint;
+            while (ofs < maxOfs && comparator.compare(key, a[base + hint + ofs]) > 0) {
+                lastOfs = ofs;
+                ofs = (ofs << 1) + 1;
+                if (ofs <= 0) {
+                    ofs = maxOfs;
+                }
+            }
+            if (ofs > maxOfs) {
+                ofs = maxOfs;
+            }
+
+            lastOfs += hint;
+            ofs += hint;
+        } else {
+
+            // 向左倍增，直到 a[base + hint - ofs] < key <= a[base + hint - lastOfs]
+            int maxOfs = hint + 1;
+            while (ofs < maxOfs && comparator.compare(key, a[base + hint - ofs]) <= 0) {
+                lastOfs = ofs;
+                ofs = (ofs << 1) + 1;
+                if (ofs <= 0) {
+                    ofs = maxOfs;
+                }
+            }
+            if (ofs > maxOfs) {
+                ofs = maxOfs;
+            }
+
+            int tmp = lastOfs;
+            lastOfs = hint - ofs;
+            ofs = hint - tmp;
+        }
+
+        // 在(lastOfs, ofs]中二分查找
+        lastOfs++;
+        while (lastOfs < ofs) {
+            int m = lastOfs + ((ofs - lastOfs) >>> 1);
+            if (comparator.compare(key, a[base + m]) > 0) {
+                lastOfs = m + 1;
+            } else {
+                ofs = m;
+            }
+        }
+        return ofs;
+    }
+
+    /**
+     * 倍增查找：与gallopLeft类似，但相等元素返回其右侧位置，满足 a[base + k - 1] <= key < a[base + k]
+     */
+    static <T> int gallopRight(T key, T[] a, int base, int len, int hint, Comparator<? super T> comparator) {
+
+        int ofs = 1;
+        int lastOfs = 0;
+        if (comparator.compare(key, a[base + hint]) < 0) {
+
+            int maxOfs = hint + 1;
+            while (ofs < maxOfs && comparator.compare(key, a[base + hint - ofs]) < 0) {
+                lastOfs = ofs;
+                ofs = (ofs << 1) + 1;
+                if (ofs <= 0) {
+                    ofs = maxOfs;
+                }
+            }
+            if (ofs > maxOfs) {
+                ofs = maxOfs;
+            }
+
+            int tmp = lastOfs;
+            lastOfs = hint - ofs;
+            ofs = hint - tmp;
+        } else {
+
+            int maxOfs = len - hint;
+            while (ofs < maxOfs && comparator.compare(key, a[base + hint + ofs]) >= 0) {
+                lastOfs = ofs;
+                ofs = (ofs << 1) + 1;
+                if (ofs <= 0) {
+                    ofs = maxOfs;
+                }
+            }
+            if (ofs > maxOfs) {
+                ofs = maxOfs;
+            }
+
+            lastOfs += hint;
+            ofs += hint;
+        }
+
+        lastOfs++;
+        while (lastOfs < ofs) {
+            int m = lastOfs + ((ofs - lastOfs) >>> 1);
+            if (comparator.compare(key, a[base + m]) < 0) {
+                ofs = m;
+            } else {
+                lastOfs = m + 1;
+            }
+        }
+        return ofs;
+    }
+
+    /**
+     * 从左向右合并：run1较短，拷贝到辅助数组；
+     * 调用前保证 run1首元素 > run2首元素，run1末元素 > run2所有元素
+     */
+    private void mergeLo(int base1, int len1, int base2, int len2) {
+
+        T[] a = this.arr;
+        T[] tmp = ensureCapacity(len1);
+        System.arraycopy(a, base1, tmp, 0, len1);
+
+        int cursor1 = 0;
+        int cursor2 = base2;
+        int dest = base1;
+
+        a[dest++] = a[cursor2++];
+        if (--len2 == 0) {
+            System.arraycopy(tmp, cursor1, a, dest, len1);
+            return;
+        }
+        if (len1 == 1) {
+            System.arraycopy(a, cursor2, a, dest, len2);
+            a[dest + len2] = tmp[cursor1];
+            return;
+        }
+
+        Comparator<? super T> c = this.comparator;
+        int minGallop = this.minGallop;
+        outer:
+        while (true) {
+
+            // 逐个比较，直到某一侧连续胜出minGallop次
+            int count1 = 0;
+            int count2 = 0;
+            do {
+                if (c.compare(a[cursor2], tmp[cursor1]) < 0) {
+                    a[dest++] = a[cursor2++];
+                    count2++;
+                    count1 = 0;
+                    if (--len2 == 0) {
+                        break outer;
+                    }
+                } else {
+                    a[dest++] = tmp[cursor1++];
+                    count1++;
+                    count2 = 0;
+                    if (--len1 == 1) {
+                        break outer;
+                    }
+                }
+            } while ((count1 | count2) < minGallop);
+
+            // galloping模式：倍增查找后批量拷贝，直到批量不再划算
+            do {
+                count1 = gallopRight(a[cursor2], tmp, cursor1, len1, 0, c);
+                if (count1 != 0) {
+                    System.arraycopy(tmp, cursor1, a, dest, count1);
+                    dest += count1;
+                    cursor1 += count1;
+                    len1 -= count1;
+                    if (len1 <= 1) {
+                        break outer;
+                    }
+                }
+                a[dest++] = a[cursor2++];
+                if (--len2 == 0) {
+                    break outer;
+                }
+
+                count2 = gallopLeft(tmp[cursor1], a, cursor2, len2, 0, c);
+                if (count2 != 0) {
+                    System.arraycopy(a, cursor2, a, dest, count2);
+                    dest += count2;
+                    cursor2 += count2;
+                    len2 -= count2;
+                    if (len2 == 0) {
+                        break outer;
+                    }
+                }
+                a[dest++] = tmp[cursor1++];
+                if (--len1 == 1) {
+                    break outer;
+                }
+
+                minGallop--;
+            } while (count1 >= MIN_GALLOP | count2 >= MIN_GALLOP);
+
+            if (minGallop < 0) {
+                minGallop = 0;
+            }
+            minGallop += 2;
+        }
+        this.minGallop = minGallop < 1 ? 1 : minGallop;
+
+        if (len1 == 1) {
+            System.arraycopy(a, cursor2, a, dest, len2);
+            a[dest + len2] = tmp[cursor1];
+        } else if (len1 == 0) {
+            throw new IllegalArgumentException("Comparison method violates its general contract!");
+        } else {
+            System.arraycopy(tmp, cursor1, a, dest, len1);
+        }
+    }
+
+    /**
+     * 从右向左合并：run2较短，拷贝到辅助数组
+     */
+    private void mergeHi(int base1, int len1, int base2, int len2) {
+
+        T[] a = this.arr;
+        T[] tmp = ensureCapacity(len2);
+        System.arraycopy(a, base2, tmp, 0, len2);
+
+        int cursor1 = base1 + len1 - 1;
+        int cursor2 = len2 - 1;
+        int dest = base2 + len2 - 1;
+
+        a[dest--] = a[cursor1--];
+        if (--len1 == 0) {
+            System.arraycopy(tmp, 0, a, dest - (len2 - 1), len2);
+            return;
+        }
+        if (len2 == 1) {
+            dest -= len1;
+            cursor1 -= len1;
+            System.arraycopy(a, cursor1 + 1, a, dest + 1, len1);
+            a[dest] = tmp[cursor2];
+            return;
+        }
+
+        Comparator<? super T> c = this.comparator;
+        int minGallop = this.minGallop;
+        outer:
+        while (true) {
+
+            int count1 = 0;
+            int count2 = 0;
+            do {
+                if (c.compare(tmp[cursor2], a[cursor1]) < 0) {
+                    a[dest--] = a[cursor1--];
+                    count1++;
+                    count2 = 0;
+                    if (--len1 == 0) {
+                        break outer;
+                    }
+                } else {
+                    a[dest--] = tmp[cursor2--];
+                    count2++;
+                    count1 = 0;
+                    if (--len2 == 1) {
+                        break outer;
+                    }
+                }
+            } while ((count1 | count2) < minGallop);
+
+            do {
+                count1 = len1 - gallopRight(tmp[cursor2], a, base1, len1, len1 - 1, c);
+                if (count1 != 0) {
+                    dest -= count1;
+                    cursor1 -= count1;
+                    len1 -= count1;
+                    System.arraycopy(a, cursor1 + 1, a, dest + 1, count1);
+                    if (len1 == 0) {
+                        break outer;
+                    }
+                }
+                a[dest--] = tmp[cursor2--];
+                if (--len2 == 1) {
+                    break outer;
+                }
+
+                count2 = len2 - gallopLeft(a[cursor1], tmp, 0, len2, len2 - 1, c);
+                if (count2 != 0) {
+                    dest -= count2;
+                    cursor2 -= count2;
+                    len2 -= count2;
+                    System.arraycopy(tmp, cursor2 + 1, a, dest + 1, count2);
+                    if (len2 <= 1) {
+                        break outer;
+                    }
+                }
+                a[dest--] = a[cursor1--];
+                if (--len1 == 0) {
+                    break outer;
+                }
+
+                minGallop--;
+            } while (count1 >= MIN_GALLOP | count2 >= MIN_GALLOP);
+
+            if (minGallop < 0) {
+                minGallop = 0;
+            }
+            minGallop += 2;
+        }
+        this.minGallop = minGallop < 1 ? 1 : minGallop;
+
+        if (len2 == 1) {
+            dest -= len1;
+            cursor1 -= len1;
+            System.arraycopy(a, cursor1 + 1, a, dest + 1, len1);
+            a[dest] = tmp[cursor2];
+        } else if (len2 == 0) {
+            throw new IllegalArgumentException("Comparison method violates its general contract!");
+        } else {
+            System.arraycopy(tmp, 0, a, dest - (len2 - 1), len2);
+        }
+    }
+
+    /**
+     * 保证辅助数组长度不小于minCapacity，按2的幂扩容，最多为数组长度的一半
+     */
+    @SuppressWarnings("unchecked")
+    private T[] ensureCapacity(int minCapacity) {
+
+        if (null == tmp || tmp.length < minCapacity) {
+            int newSize = Integer.highestOneBit(minCapacity) << 1;
+            if (newSize < 0) {
+                newSize = minCapacity;
+            } else {
+                newSize = Math.max(minCapacity, Math.min(newSize, arr.length >>> 1));
+            }
+            tmp = (T[]) Array.newInstance(arr.getClass().getComponentType(), newSize);
+        }
+
+        return tmp;
+    }
+
+    public static void main(String[] args) {
+
+        Integer[] arr = {0, 1, 2, 3, 4, 5, 6, 9, 8, 7};
+        sort(arr);
+        System.out.println(Arrays.toString(arr));
+    }
+}
@@ -0,0 +1,138 @@
+package com.fsindustry.algorithm.concurrent.sort.mmapsort;
+
+import java.io.IOException;
+import java.nio.IntBuffer;
+import java.nio.LongBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+
+import com.fsindustry.algorithm.concurrent.sort.buffersort.BufferSort;
+
+/**
+ * 内存映射数组：将文件按段映射为多个MappedByteBuffer，使用long索引访问，
+ * 支持超过2GB的文件；元素按大端存储，与BinaryOut的输出格式一致
+ */
+abstract class MappedArray {
+
+    /**
+     * 每段映射的元素个数为2^shift
+     */
+    final int shift;
+
+    final long mask;
+
+    /**
+     * 元素个数
+     */
+    final long size;
+
+    final MappedByteBuffer[] segments;
+
+    MappedArray(FileChannel channel, int elementBytes, long segmentBytes) throws IOException {
+
+        long fileSize = channel.size();
+        if (fileSize % elementBytes != 0) {
+            throw new IllegalArgumentException("file size " + fileSize + " is not a multiple of " + elementBytes);
+        }
+
+        long segmentSize = Long.highestOneBit(segmentBytes / elementBytes);
+        if (segmentSize < 1 || segmentSize * elementBytes > Integer.MAX_VALUE) {
+            throw new IllegalArgumentException("illegal segment size: " + segmentBytes);
+        }
+
+        this.shift = Long.numberOfTrailingZeros(segmentSize);
+        this.mask = segmentSize - 1;
+        this.size = fileSize / elementBytes;
+
+        int count = (int) ((size + segmentSize - 1) >>> shift);
+        this.segments = new MappedByteBuffer[count];
+        for (int i = 0; i < count; i++) {
+            long position = ((long) i << shift) * elementBytes;
+            long length = Math.min(segmentSize * elementBytes, fileSize - position);
+            segments[i] = channel.map(FileChannel.MapMode.READ_WRITE, position, length);
+        }
+    }
+
+    abstract long get(long i);
+
+    abstract void set(long i, long value);
+
+    /**
+     * 对同一段映射内的区间[low, high]排序
+     */
+    abstract void sortSegment(long low, long high);
+
+    /**
+     * 区间是否落在同一段映射内
+     */
+    boolean inSegment(long low, long high) {
+        return low >>> shift == high >>> shift;
+    }
+
+    void exch(long i, long j) {
+        long tmp = get(i);
+        set(i, get(j));
+        set(j, tmp);
+    }
+
+    /**
+     * 将修改刷回磁盘
+     */
+    void force() {
+        for (MappedByteBuffer segment : segments) {
+            segment.force();
+        }
+    }
+
+    /**
+     * int数组
+     */
+    static class IntArray extends MappedArray {
+
+        IntArray(FileChannel channel, long segmentBytes) throws IOException {
+            super(channel, Integer.BYTES, segmentBytes);
+        }
+
+        @Override
+        long get(long i) {
+            return segments[(int) (i >>> shift)].getInt((int) (i & mask) << 2);
+        }
+
+        @Override
+        void set(long i, long value) {
+            segments[(int) (i >>> shift)].putInt((int) (i & mask) << 2, (int) value);
+        }
+
+        @Override
+        void sortSegment(long low, long high) {
+            IntBuffer buf = segments[(int) (low >>> shift)].asIntBuffer();
+            BufferSort.introSort(buf, (int) (low & mask), (int) (high & mask));
+        }
+    }
+
+    /**
+     * long数组
+     */
+    static class LongArray extends MappedArray {
+
+        LongArray(FileChannel channel, long segmentBytes) throws IOException {
+            super(channel, Long.BYTES, segmentBytes);
+        }
+
+        @Override
+        long get(long i) {
+            return segments[(int) (i >>> shift)].getLong((int) (i & mask) << 3);
+        }
+
+        @Override
+        void set(long i, long value) {
+            segments[(int) (i >>> shift)].putLong((int) (i & mask) << 3, value);
+        }
+
+        @Override
+        void sortSegment(long low, long high) {
+            LongBuffer buf = segments[(int) (low >>> shift)].asLongBuffer();
+            BufferSort.introSort(buf, (int) (low & mask), (int) (high & mask));
+        }
+    }
+}
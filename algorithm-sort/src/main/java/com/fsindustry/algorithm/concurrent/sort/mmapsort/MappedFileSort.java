@@ -0,0 +1,189 @@
+package com.fsindustry.algorithm.concurrent.sort.mmapsort;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.nio.channels.FileChannel;
+
+/**
+ * 内存映射原地排序：对大端int/long二进制文件原地排序，堆中不保存数据副本
+ * <p>
+ * 文件按段映射（默认每段1GB），超过2GB的文件跨多个映射；
+ * 排序使用long索引的内省排序，快速排序的顺序扫描对页缓存友好，
+ * 切分到一个窗口内的区间交给BufferSort在该段映射的视图上排序
+ */
+public class MappedFileSort {
+
+    /**
+     * 默认每段映射的字节数：1GB
+     */
+    public static final long DEFAULT_SEGMENT_BYTES = 1L << 30;
+
+    /**
+     * 区间长度不超过该值时使用插入排序
+     */
+    static final int INSERTION_THRESHOLD = 16;
+
+    public static void sortInts(File file) throws IOException {
+        sortInts(file, DEFAULT_SEGMENT_BYTES);
+    }
+
+    public static void sortInts(File file, long segmentBytes) throws IOException {
+        try (RandomAccessFile raf = new RandomAccessFile(file, "rw");
+             FileChannel channel = raf.getChannel()) {
+            sort(new MappedArray.IntArray(channel, segmentBytes));
+        }
+    }
+
+    public static void sortLongs(File file) throws IOException {
+        sortLongs(file, DEFAULT_SEGMENT_BYTES);
+    }
+
+    public static void sortLongs(File file, long segmentBytes) throws IOException {
+        try (RandomAccessFile raf = new RandomAccessFile(file, "rw");
+             FileChannel channel = raf.getChannel()) {
+            sort(new MappedArray.LongArray(channel, segmentBytes));
+        }
+    }
+
+    private static void sort(MappedArray arr) {
+
+        if (arr.size > 1) {
+            sort(arr, 0, arr.size - 1, 2 * (63 - Long.numberOfLeadingZeros(arr.size)));
+        }
+
+        arr.force();
+    }
+
+    private static void sort(MappedArray arr, long low, long high, int depth) {
+
+        while (high - low + 1 > INSERTION_THRESHOLD) {
+
+            // 区间落在同一段映射内，直接在该段的buffer视图上排序，省去long索引到段的换算
+            if (arr.inSegment(low, high)) {
+                arr.sortSegment(low, high);
+                return;
+            }
+
+            // 递归深度耗尽，切换为堆排序
+            if (depth-- == 0) {
+                heapSort(arr, low, high);
+                return;
+            }
+
+            long idx = partition(arr, low, high);
+
+            // 递归处理较短的区间，循环处理较长的区间
+            if (idx - low < high - idx) {
+                sort(arr, low, idx - 1, depth);
+                low = idx + 1;
+            } else {
+                sort(arr, idx + 1, high, depth);
+                high = idx - 1;
+            }
+        }
+
+        insertionSort(arr, low, high);
+    }
+
+    /**
+     * 切分：三数取中选取枢轴，双向扫描
+     */
+    private static long partition(MappedArray arr, long low, long high) {
+
+        long mid = low + ((high - low) >>> 1);
+        arr.exch(low, median3(arr, low, mid, high));
+        long key = arr.get(low);
+
+        long i = low;
+        long j = high + 1;
+        while (true) {
+
+            while (arr.get(++i) < key) {
+                if (i == high) {
+                    break;
+                }
+            }
+
+            while (key < arr.get(--j)) {
+            }
+
+            if (i >= j) {
+                break;
+            }
+
+            arr.exch(i, j);
+        }
+
+        arr.exch(low, j);
+        return j;
+    }
+
+    private static long median3(MappedArray arr, long i, long j, long k) {
+
+        long a = arr.get(i);
+        long b = arr.get(j);
+        long c = arr.get(k);
+
+        if (a < b) {
+            if (b < c) {
+                return j;
+            }
+            return a < c ? k : i;
+        }
+
+        if (c < b) {
+            return j;
+        }
+        return c < a ? k : i;
+    }
+
+    private static void insertionSort(MappedArray arr, long low, long high) {
+
+        for (long i = low + 1; i <= high; i++) {
+
+            long key = arr.get(i);
+            long j = i - 1;
+            while (j >= low && arr.get(j) > key) {
+                arr.set(j + 1, arr.get(j));
+                j--;
+            }
+            arr.set(j + 1, key);
+        }
+    }
+
+    /**
+     * 堆排序：k为区间内从1开始的索引
+     */
+    private static void heapSort(MappedArray arr, long low, long high) {
+
+        long size = high - low + 1;
+        for (long k = size / 2; k >= 1; k--) {
+            sink(arr, low, k, size);
+        }
+
+        while (size > 1) {
+            arr.exch(low, low + size - 1);
+            size--;
+            sink(arr, low, 1, size);
+        }
+    }
+
+    private static void sink(MappedArray arr, long low, long k, long size) {
+
+        while (2 * k <= size) {
+
+            long j = 2 * k;
+            if (j < size && arr.get(low + j - 1) < arr.get(low + j)) {
+                j++;
+            }
+
+            if (arr.get(low + k - 1) >= arr.get(low + j - 1)) {
+                break;
+            }
+
+            arr.exch(low + k - 1, low + j - 1);
+            k = j;
+        }
+    }
+}
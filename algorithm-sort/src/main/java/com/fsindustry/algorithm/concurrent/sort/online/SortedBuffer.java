@@ -0,0 +1,270 @@
+package com.fsindustry.algorithm.concurrent.sort.online;
+
+import java.util.Arrays;
+import java.util.NoSuchElementException;
+import java.util.PrimitiveIterator;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+
+import com.fsindustry.algorithm.concurrent.ds.priorityqueue.MinPQ;
+import com.fsindustry.algorithm.concurrent.sort.quicksort.IntroSort;
+
+/**
+ * 在线有序缓冲区：按批追加int，只排序新批次，再与已有的有序层合并
+ * <p>
+ * 1. 数据保存为若干有序层（顺串），按长度递减排列；每批排序后作为新层追加到末尾；
+ * 2. 相邻两层中前一层不超过后一层的2倍时合并，层长度按至少1.5倍递增，层数为O(log n)，
+ * 每个元素最多被合并O(log n)次，追加的均摊代价为O(log n)；
+ * 3. 合并可交给Executor在后台执行，同一时刻只有一个合并任务；
+ * 4. 层数组一经生成不再修改，读操作在锁内取得层数组的快照，之后在锁外k路归并遍历
+ */
+public class SortedBuffer {
+
+    /**
+     * 后台合并使用的Executor，为null时在追加线程中同步合并
+     */
+    private final Executor executor;
+
+    /**
+     * 有序层，按长度递减；写时复制
+     */
+    private int[][] runs = new int[0][];
+
+    private long size;
+
+    /**
+     * 是否有合并任务在执行
+     */
+    private boolean compacting;
+
+    public SortedBuffer() {
+        this(null);
+    }
+
+    public SortedBuffer(Executor executor) {
+        this.executor = executor;
+    }
+
+    public void addBatch(int[] batch) {
+        addBatch(batch, 0, batch.length - 1);
+    }
+
+    /**
+     * 追加batch的[low, high]区间：拷贝并排序后作为新层，batch本身不修改
+     */
+    public void addBatch(int[] batch, int low, int high) {
+
+        if (low < 0 || high >= batch.length || low > high + 1) {
+            throw new IllegalArgumentException("illegal range [" + low + ", " + high + "] of " + batch.length);
+        }
+
+        if (low > high) {
+            return;
+        }
+
+        // 在锁外排序新批次
+        int[] run = Arrays.copyOfRange(batch, low, high + 1);
+        IntroSort.sort(run);
+
+        boolean schedule;
+        synchronized (this) {
+            int[][] next = Arrays.copyOf(runs, runs.length + 1);
+            next[runs.length] = run;
+            runs = next;
+            size += run.length;
+
+            schedule = !compacting && findMerge(runs) >= 0;
+            compacting |= schedule;
+        }
+
+        if (!schedule) {
+            return;
+        }
+
+        if (null == executor) {
+            compact();
+            return;
+        }
+
+        try {
+            executor.execute(this::compact);
+        } catch (RejectedExecutionException e) {
+            compact();
+        }
+    }
+
+    public synchronized long size() {
+        return size;
+    }
+
+    synchronized int runCount() {
+        return runs.length;
+    }
+
+    /**
+     * 有序遍历：遍历的是调用时的快照，之后的追加不可见
+     */
+    public PrimitiveIterator.OfInt iterator() {
+
+        int[][] snapshot;
+        synchronized (this) {
+            snapshot = runs;
+        }
+        return new MergeIterator(snapshot);
+    }
+
+    /**
+     * 有序数组：快照只有一层时直接拷贝
+     */
+    public int[] toArray() {
+
+        int[][] snapshot;
+        long total;
+        synchronized (this) {
+            snapshot = runs;
+            total = size;
+        }
+
+        if (total > Integer.MAX_VALUE - 8) {
+            throw new IllegalStateException("too many elements for an array: " + total);
+        }
+
+        if (snapshot.length == 1) {
+            return snapshot[0].clone();
+        }
+
+        int[] arr = new int[(int) total];
+        PrimitiveIterator.OfInt it = new MergeIterator(snapshot);
+        for (int i = 0; i < arr.length; i++) {
+            arr[i] = it.nextInt();
+        }
+        return arr;
+    }
+
+    /**
+     * 合并任务：锁内选出要合并的相邻两层，锁外合并，再在锁内替换；
+     * 追加只发生在末尾，且只有一个合并任务，所以两层的索引在合并期间不变
+     */
+    private void compact() {
+
+        while (true) {
+
+            int i;
+            int[] a;
+            int[] b;
+            synchronized (this) {
+                i = findMerge(runs);
+                if (i < 0) {
+                    compacting = false;
+                    return;
+                }
+                a = runs[i];
+                b = runs[i + 1];
+            }
+
+            int[] merged = merge(a, b);
+
+            synchronized (this) {
+                int[][] next = new int[runs.length - 1][];
+                System.arraycopy(runs, 0, next, 0, i);
+                next[i] = merged;
+                System.arraycopy(runs, i + 2, next, i + 1, runs.length - i - 2);
+                runs = next;
+            }
+        }
+    }
+
+    /**
+     * 查找最后一对需要合并的相邻层：前一层不超过后一层的2倍；没有返回-1
+     */
+    private static int findMerge(int[][] runs) {
+
+        for (int i = runs.length - 2; i >= 0; i--) {
+            if (runs[i].length <= 2 * runs[i + 1].length) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    static int[] merge(int[] a, int[] b) {
+
+        int[] merged = new int[a.length + b.length];
+        int i = 0;
+        int j = 0;
+        int k = 0;
+        while (i < a.length && j < b.length) {
+            merged[k++] = a[i] <= b[j] ? a[i++] : b[j++];
+        }
+
+        System.arraycopy(a, i, merged, k, a.length - i);
+        System.arraycopy(b, j, merged, k + a.length - i, b.length - j);
+        return merged;
+    }
+
+    /**
+     * k路归并遍历：MinPQ中保存每一层的游标
+     */
+    private static class MergeIterator implements PrimitiveIterator.OfInt {
+
+        private final MinPQ<Cursor> pq;
+
+        MergeIterator(int[][] runs) {
+            pq = new MinPQ<>(Math.max(1, runs.length));
+            for (int[] run : runs) {
+                if (run.length > 0) {
+                    pq.insert(new Cursor(run));
+                }
+            }
+        }
+
+        @Override
+        public boolean hasNext() {
+            return !pq.isEmpty();
+        }
+
+        @Override
+        public int nextInt() {
+
+            if (pq.isEmpty()) {
+                throw new NoSuchElementException();
+            }
+
+            // 复用Cursor对象，避免每个元素分配一次
+            Cursor cursor = pq.delMin();
+            int value = cursor.run[cursor.pos++];
+            if (cursor.pos < cursor.run.length) {
+                pq.insert(cursor);
+            }
+            return value;
+        }
+    }
+
+    /**
+     * 层内游标
+     */
+    private static class Cursor implements Comparable<Cursor> {
+
+        private final int[] run;
+
+        private int pos;
+
+        Cursor(int[] run) {
+            this.run = run;
+        }
+
+        @Override
+        public int compareTo(Cursor o) {
+            return Integer.compare(run[pos], o.run[o.pos]);
+        }
+    }
+
+    public static void main(String[] args) {
+
+        SortedBuffer buffer = new SortedBuffer();
+        buffer.addBatch(new int[]{3, 6, 5});
+        buffer.addBatch(new int[]{4, 7, 9, 8});
+        buffer.addBatch(new int[]{0, 2, 1});
+        System.out.println(Arrays.toString(buffer.toArray()));
+    }
+}
@@ -0,0 +1,333 @@
+package com.fsindustry.algorithm.concurrent.sort.quicksort;
+
+import java.util.Arrays;
+
+import com.fsindustry.algorithm.concurrent.sort.heapsort.HeatSort;
+
+/**
+ * 同步排序：按key数组排序，同时重排一个或多个payload数组，不为每行创建对象
+ * <p>
+ * 1. 单个payload：内省排序，交换key时同步交换payload；
+ * 2. 多个payload：先求出排列，再按排列原地重排每个payload；
+ * 3. argsort：只返回排列，不修改原数组；
+ */
+public class CoSort {
+
+    /**
+     * 按keys排序，values随之重排
+     */
+    public static void sort(int[] keys, int[] values) {
+        checkLength(keys.length, values.length);
+        sort(keys, values, 0, keys.length - 1);
+    }
+
+    public static void sort(int[] keys, int[] values, int low, int high) {
+
+        if (low >= high) {
+            return;
+        }
+
+        sort(keys, values, low, high, IntroSort.depthLimit(high - low + 1));
+    }
+
+    /**
+     * 按keys排序，values随之重排
+     */
+    public static void sort(int[] keys, long[] values) {
+        checkLength(keys.length, values.length);
+        sort(keys, values, 0, keys.length - 1);
+    }
+
+    public static void sort(int[] keys, long[] values, int low, int high) {
+
+        if (low >= high) {
+            return;
+        }
+
+        sort(keys, values, low, high, IntroSort.depthLimit(high - low + 1));
+    }
+
+    /**
+     * 按keys排序，所有payloads随之重排：先求排列，再逐列原地重排，
+     * 除一个排列数组外不再分配内存
+     */
+    public static void sort(int[] keys, int[]... payloads) {
+
+        for (int[] payload : payloads) {
+            checkLength(keys.length, payload.length);
+        }
+
+        int[] perm = identity(keys.length);
+        sort(keys, perm);
+
+        for (int[] payload : payloads) {
+            permute(payload, perm);
+        }
+    }
+
+    /**
+     * 返回使keys有序的排列：keys[perm[0]] <= keys[perm[1]] <= ...，keys本身保持不变
+     */
+    public static int[] argsort(int[] keys) {
+
+        int[] perm = identity(keys.length);
+        sort(keys.clone(), perm);
+        return perm;
+    }
+
+    /**
+     * 按排列原地重排：data[i] = 原data[perm[i]]；
+     * 沿置换环移动元素，访问过的位置在perm中按位取反标记，结束后恢复perm
+     */
+    public static void permute(int[] data, int[] perm) {
+
+        checkLength(data.length, perm.length);
+
+        for (int i = 0; i < perm.length; i++) {
+
+            if (perm[i] < 0) {
+                continue;
+            }
+
+            int head = data[i];
+            int j = i;
+            while (true) {
+                int next = perm[j];
+                perm[j] = ~next;
+                if (next == i) {
+                    data[j] = head;
+                    break;
+                }
+                data[j] = data[next];
+                j = next;
+            }
+        }
+
+        for (int i = 0; i < perm.length; i++) {
+            perm[i] = ~perm[i];
+        }
+    }
+
+    /**
+     * 按排列原地重排：data[i] = 原data[perm[i]]
+     */
+    public static void permute(long[] data, int[] perm) {
+
+        checkLength(data.length, perm.length);
+
+        for (int i = 0; i < perm.length; i++) {
+
+            if (perm[i] < 0) {
+                continue;
+            }
+
+            long head = data[i];
+            int j = i;
+            while (true) {
+                int next = perm[j];
+                perm[j] = ~next;
+                if (next == i) {
+                    data[j] = head;
+                    break;
+                }
+                data[j] = data[next];
+                j = next;
+            }
+        }
+
+        for (int i = 0; i < perm.length; i++) {
+            perm[i] = ~perm[i];
+        }
+    }
+
+    private static int[] identity(int size) {
+
+        int[] perm = new int[size];
+        for (int i = 0; i < size; i++) {
+            perm[i] = i;
+        }
+        return perm;
+    }
+
+    private static void checkLength(int length, int expected) {
+        if (length != expected) {
+            throw new IllegalArgumentException("length mismatch: " + length + " != " + expected);
+        }
+    }
+
+    private static void sort(int[] keys, int[] values, int low, int high, int depth) {
+
+        while (high - low + 1 > IntroSort.INSERTION_THRESHOLD) {
+
+            // 递归深度耗尽，切换为同步堆排序
+            if (depth-- == 0) {
+                HeatSort.sort(keys, values, low, high);
+                return;
+            }
+
+            exch(keys, values, low, IntroSort.choosePivot(keys, low, high));
+            int idx = partition(keys, values, low, high);
+
+            // 递归处理较短的区间，循环处理较长的区间
+            if (idx - low < high - idx) {
+                sort(keys, values, low, idx - 1, depth);
+                low = idx + 1;
+            } else {
+                sort(keys, values, idx + 1, high, depth);
+                high = idx - 1;
+            }
+        }
+
+        insertionSort(keys, values, low, high);
+    }
+
+    /**
+     * 以keys[low]为枢轴切分
+     */
+    private static int partition(int[] keys, int[] values, int low, int high) {
+
+        int key = keys[low];
+
+        int i = low;
+        int j = high + 1;
+        while (true) {
+
+            while (keys[++i] < key) {
+                if (i == high) {
+                    break;
+                }
+            }
+
+            while (key < keys[--j]) {
+            }
+
+            if (i >= j) {
+                break;
+            }
+
+            exch(keys, values, i, j);
+        }
+
+        exch(keys, values, low, j);
+        return j;
+    }
+
+    private static void insertionSort(int[] keys, int[] values, int low, int high) {
+
+        for (int i = low + 1; i <= high; i++) {
+
+            int key = keys[i];
+            int value = values[i];
+            int j = i - 1;
+            while (j >= low && keys[j] > key) {
+                keys[j + 1] = keys[j];
+                values[j + 1] = values[j];
+                j--;
+            }
+            keys[j + 1] = key;
+            values[j + 1] = value;
+        }
+    }
+
+    private static void exch(int[] keys, int[] values, int i, int j) {
+
+        int key = keys[i];
+        keys[i] = keys[j];
+        keys[j] = key;
+
+        int value = values[i];
+        values[i] = values[j];
+        values[j] = value;
+    }
+
+    private static void sort(int[] keys, long[] values, int low, int high, int depth) {
+
+        while (high - low + 1 > IntroSort.INSERTION_THRESHOLD) {
+
+            if (depth-- == 0) {
+                HeatSort.sort(keys, values, low, high);
+                return;
+            }
+
+            exch(keys, values, low, IntroSort.choosePivot(keys, low, high));
+            int idx = partition(keys, values, low, high);
+
+            if (idx - low < high - idx) {
+                sort(keys, values, low, idx - 1, depth);
+                low = idx + 1;
+            } else {
+                sort(keys, values, idx + 1, high, depth);
+                high = idx - 1;
+            }
+        }
+
+        insertionSort(keys, values, low, high);
+    }
+
+    private static int partition(int[] keys, long[] values, int low, int high) {
+
+        int key = keys[low];
+
+        int i = low;
+        int j = high + 1;
+        while (true) {
+
+            while (keys[++i] < key) {
+                if (i == high) {
+                    break;
+                }
+            }
+
+            while (key < keys[--j]) {
+            }
+
+            if (i >= j) {
+                break;
+            }
+
+            exch(keys, values, i, j);
+        }
+
+        exch(keys, values, low, j);
+        return j;
+    }
+
+    private static void insertionSort(int[] keys, long[] values, int low, int high) {
+
+        for (int i = low + 1; i <= high; i++) {
+
+            int key = keys[i];
+            long value = values[i];
+            int j = i - 1;
+            while (j >= low && keys[j] > key) {
+                keys[j + 1] = keys[j];
+                values[j + 1] = values[j];
+                j--;
+            }
+            keys[j + 1] = key;
+            values[j + 1] = value;
+        }
+    }
+
+    private static void exch(int[] keys, long[] values, int i, int j) {
+
+        int key = keys[i];
+        keys[i] = keys[j];
+        keys[j] = key;
+
+        long value = values[i];
+        values[i] = values[j];
+        values[j] = value;
+    }
+
+    public static void main(String[] args) {
+
+        int[] keys = {3, 6, 5, 4, 7, 9, 8, 0, 2, 1};
+        long[] rowIds = {30, 60, 50, 40, 70, 90, 80, 0, 20, 10};
+        System.out.println(Arrays.toString(argsort(keys)));
+
+        sort(keys, rowIds);
+        System.out.println(Arrays.toString(keys));
+        System.out.println(Arrays.toString(rowIds));
+    }
+}
@@ -0,0 +1,973 @@
+package com.fsindustry.algorithm.concurrent.sort.quicksort;
+
+import java.util.Arrays;
+
+import com.fsindustry.algorithm.concurrent.sort.heapsort.HeatSort;
+import com.fsindustry.algorithm.concurrent.sort.smallsort.SmallSort;
+import com.fsindustry.algorithm.concurrent.sort.stats.SortPhase;
+import com.fsindustry.algorithm.concurrent.sort.stats.SortStats;
+
+/**
+ * 内省排序：快速排序 + 堆排序 + 插入排序
+ * <p>
+ * 1. 使用三数取中（大区间使用ninther）选取枢轴，避免有序、逆序输入退化；
+ * 2. 递归深度超过2*log2(n)时切换为堆排序，保证最坏O(n log n)；
+ * 3. 小区间使用SmallSort（排序网络、二分插入排序）；
+ * 4. 只递归较短的区间，栈深度不超过log2(n)；
+ * 5. 抽样发现重复元素较多时，改用三向切分，等于枢轴的元素一次归位；
+ * <p>
+ * 对每种基本类型数组都提供重载，排序过程不装箱、不分配内存；
+ * float、double的排序结果与Arrays.sort一致：-0.0排在0.0之前，NaN排在末尾
+ */
+public class IntroSort {
+
+    /**
+     * 区间长度不超过该值时使用SmallSort
+     */
+    static final int INSERTION_THRESHOLD = SmallSort.THRESHOLD;
+
+    /**
+     * 区间长度超过该值时使用ninther选取枢轴
+     */
+    static final int NINTHER_THRESHOLD = 128;
+
+    /**
+     * 区间长度不小于该值时，抽样检测重复元素
+     */
+    static final int DUPLICATE_CHECK_THRESHOLD = 1024;
+
+    public static void sort(int[] arr) {
+        sort(arr, 0, arr.length - 1);
+    }
+
+    public static void sort(int[] arr, int low, int high) {
+
+        if (low >= high) {
+            return;
+        }
+
+        SortStats stats = SortStats.begin("IntroSort", high - low + 1);
+        try {
+            sort(arr, low, high, depthLimit(high - low + 1), 1);
+        } finally {
+            SortStats.end(stats);
+        }
+    }
+
+    /**
+     * 递归深度预算：2 * floor(log2(n))
+     */
+    static int depthLimit(int size) {
+        return 2 * (31 - Integer.numberOfLeadingZeros(size));
+    }
+
+    /**
+     * level为当前递归深度，仅用于统计
+     */
+    private static void sort(int[] arr, int low, int high, int depth, int level) {
+
+        while (high - low + 1 > INSERTION_THRESHOLD) {
+
+            // 递归深度耗尽，切换为堆排序
+            if (depth-- == 0) {
+                HeatSort.bottomUpSort(arr, low, high);
+                return;
+            }
+
+            SortStats.depth(level++);
+            long start = SortStats.phaseStart();
+
+            // 切分后[lt, gt]已归位
+            int lt;
+            int gt;
+            if (high - low + 1 >= DUPLICATE_CHECK_THRESHOLD
+                    && ThreeWayQuickSort.hasManyDuplicates(arr, low, high)) {
+                long bounds = ThreeWayQuickSort.partition(arr, low, high);
+                lt = ThreeWayQuickSort.lowerBound(bounds);
+                gt = ThreeWayQuickSort.upperBound(bounds);
+            } else {
+                lt = gt = partition(arr, low, high);
+            }
+
+            SortStats.phaseEnd(SortPhase.PARTITION, start);
+            SortStats.partition(lt - low, high - gt);
+
+            // 递归处理较短的区间，循环处理较长的区间
+            if (lt - low < high - gt) {
+                sort(arr, low, lt - 1, depth, level);
+                low = gt + 1;
+            } else {
+                sort(arr, gt + 1, high, depth, level);
+                high = lt - 1;
+            }
+        }
+
+        long start = SortStats.phaseStart();
+        SmallSort.sort(arr, low, high);
+        SortStats.phaseEnd(SortPhase.SMALL_SORT, start);
+    }
+
+    /**
+     * 切分：选取枢轴后使用双向扫描切分，遇到与枢轴相等的元素也停下交换，
+     * 使大量重复元素时切分仍然均衡
+     */
+    static int partition(int[] arr, int low, int high) {
+        exch(arr, low, choosePivot(arr, low, high));
+        return partitionAroundLow(arr, low, high);
+    }
+
+    /**
+     * 以arr[low]为枢轴切分，返回枢轴最终所在索引
+     */
+    static int partitionAroundLow(int[] arr, int low, int high) {
+
+        int key = arr[low];
+
+        int i = low;
+        int j = high + 1;
+        while (true) {
+
+            while (less(arr[++i], key)) {
+                if (i == high) {
+                    break;
+                }
+            }
+
+            // arr[low] == key，可作为哨兵
+            while (less(key, arr[--j])) {
+            }
+
+            if (i >= j) {
+                break;
+            }
+
+            exch(arr, i, j);
+        }
+
+        exch(arr, low, j);
+        return j;
+    }
+
+    /**
+     * 选取枢轴：返回枢轴所在索引
+     */
+    static int choosePivot(int[] arr, int low, int high) {
+
+        int size = high - low + 1;
+        int mid = low + (size >>> 1);
+
+        if (size > NINTHER_THRESHOLD) {
+            int step = size >>> 3;
+            int m1 = median3(arr, low, low + step, low + 2 * step);
+            int m2 = median3(arr, mid - step, mid, mid + step);
+            int m3 = median3(arr, high - 2 * step, high - step, high);
+            return median3(arr, m1, m2, m3);
+        }
+
+        return median3(arr, low, mid, high);
+    }
+
+    /**
+     * 三数取中：返回中位数所在索引
+     */
+    private static int median3(int[] arr, int i, int j, int k) {
+
+        if (less(arr[i], arr[j])) {
+            if (less(arr[j], arr[k])) {
+                return j;
+            }
+            return less(arr[i], arr[k]) ? k : i;
+        }
+
+        if (less(arr[k], arr[j])) {
+            return j;
+        }
+        return less(arr[k], arr[i]) ? k : i;
+    }
+
+    /**
+     * 比较：计入统计
+     */
+    private static boolean less(int a, int b) {
+        SortStats.compare();
+        return a < b;
+    }
+
+    private static void exch(int[] arr, int i, int j) {
+        SortStats.swap();
+        int tmp = arr[i];
+        arr[i] = arr[j];
+        arr[j] = tmp;
+    }
+
+    /**
+     * 排序：long数组
+     */
+    public static void sort(long[] arr) {
+        sort(arr, 0, arr.length - 1);
+    }
+
+    public static void sort(long[] arr, int low, int high) {
+
+        if (low >= high) {
+            return;
+        }
+
+        sort(arr, low, high, depthLimit(high - low + 1));
+    }
+
+    private static void sort(long[] arr, int low, int high, int depth) {
+
+        while (high - low + 1 > INSERTION_THRESHOLD) {
+
+            if (depth-- == 0) {
+                HeatSort.bottomUpSort(arr, low, high);
+                return;
+            }
+
+            int lt;
+            int gt;
+            if (high - low + 1 >= DUPLICATE_CHECK_THRESHOLD
+                    && ThreeWayQuickSort.hasManyDuplicates(arr, low, high)) {
+                long bounds = ThreeWayQuickSort.partition(arr, low, high);
+                lt = ThreeWayQuickSort.lowerBound(bounds);
+                gt = ThreeWayQuickSort.upperBound(bounds);
+            } else {
+                lt = gt = partition(arr, low, high);
+            }
+
+            if (lt - low < high - gt) {
+                sort(arr, low, lt - 1, depth);
+                low = gt + 1;
+            } else {
+                sort(arr, gt + 1, high, depth);
+                high = lt - 1;
+            }
+        }
+
+        SmallSort.sort(arr, low, high);
+    }
+
+    static int partition(long[] arr, int low, int high) {
+
+        exch(arr, low, choosePivot(arr, low, high));
+        long key = arr[low];
+
+        int i = low;
+        int j = high + 1;
+        while (true) {
+
+            while (arr[++i] < key) {
+                if (i == high) {
+                    break;
+                }
+            }
+
+            while (key < arr[--j]) {
+            }
+
+            if (i >= j) {
+                break;
+            }
+
+            exch(arr, i, j);
+        }
+
+        exch(arr, low, j);
+        return j;
+    }
+
+    static int choosePivot(long[] arr, int low, int high) {
+
+        int size = high - low + 1;
+        int mid = low + (size >>> 1);
+
+        if (size > NINTHER_THRESHOLD) {
+            int step = size >>> 3;
+            int m1 = median3(arr, low, low + step, low + 2 * step);
+            int m2 = median3(arr, mid - step, mid, mid + step);
+            int m3 = median3(arr, high - 2 * step, high - step, high);
+            return median3(arr, m1, m2, m3);
+        }
+
+        return median3(arr, low, mid, high);
+    }
+
+    private static int median3(long[] arr, int i, int j, int k) {
+
+        if (arr[i] < arr[j]) {
+            if (arr[j] < arr[k]) {
+                return j;
+            }
+            return arr[i] < arr[k] ? k : i;
+        }
+
+        if (arr[k] < arr[j]) {
+            return j;
+        }
+        return arr[k] < arr[i] ? k : i;
+    }
+
+    private static void exch(long[] arr, int i, int j) {
+        long tmp = arr[i];
+        arr[i] = arr[j];
+        arr[j] = tmp;
+    }
+
+    /**
+     * 排序：short数组
+     */
+    public static void sort(short[] arr) {
+        sort(arr, 0, arr.length - 1);
+    }
+
+    public static void sort(short[] arr, int low, int high) {
+
+        if (low >= high) {
+            return;
+        }
+
+        sort(arr, low, high, depthLimit(high - low + 1));
+    }
+
+    private static void sort(short[] arr, int low, int high, int depth) {
+
+        while (high - low + 1 > INSERTION_THRESHOLD) {
+
+            if (depth-- == 0) {
+                HeatSort.sort(arr, low, high);
+                return;
+            }
+
+            int lt;
+            int gt;
+            if (high - low + 1 >= DUPLICATE_CHECK_THRESHOLD
+                    && ThreeWayQuickSort.hasManyDuplicates(arr, low, high)) {
+                long bounds = ThreeWayQuickSort.partition(arr, low, high);
+                lt = ThreeWayQuickSort.lowerBound(bounds);
+                gt = ThreeWayQuickSort.upperBound(bounds);
+            } else {
+                lt = gt = partition(arr, low, high);
+            }
+
+            if (lt - low < high - gt) {
+                sort(arr, low, lt - 1, depth);
+                low = gt + 1;
+            } else {
+                sort(arr, gt + 1, high, depth);
+                high = lt - 1;
+            }
+        }
+
+        SmallSort.sort(arr, low, high);
+    }
+
+    static int partition(short[] arr, int low, int high) {
+
+        exch(arr, low, choosePivot(arr, low, high));
+        short key = arr[low];
+
+        int i = low;
+        int j = high + 1;
+        while (true) {
+
+            while (arr[++i] < key) {
+                if (i == high) {
+                    break;
+                }
+            }
+
+            while (key < arr[--j]) {
+            }
+
+            if (i >= j) {
+                break;
+            }
+
+            exch(arr, i, j);
+        }
+
+        exch(arr, low, j);
+        return j;
+    }
+
+    static int choosePivot(short[] arr, int low, int high) {
+
+        int size = high - low + 1;
+        int mid = low + (size >>> 1);
+
+        if (size > NINTHER_THRESHOLD) {
+            int step = size >>> 3;
+            int m1 = median3(arr, low, low + step, low + 2 * step);
+            int m2 = median3(arr, mid - step, mid, mid + step);
+            int m3 = median3(arr, high - 2 * step, high - step, high);
+            return median3(arr, m1, m2, m3);
+        }
+
+        return median3(arr, low, mid, high);
+    }
+
+    private static int median3(short[] arr, int i, int j, int k) {
+
+        if (arr[i] < arr[j]) {
+            if (arr[j] < arr[k]) {
+                return j;
+            }
+            return arr[i] < arr[k] ? k : i;
+        }
+
+        if (arr[k] < arr[j]) {
+            return j;
+        }
+        return arr[k] < arr[i] ? k : i;
+    }
+
+    private static void exch(short[] arr, int i, int j) {
+        short tmp = arr[i];
+        arr[i] = arr[j];
+        arr[j] = tmp;
+    }
+
+    /**
+     * 排序：char数组
+     */
+    public static void sort(char[] arr) {
+        sort(arr, 0, arr.length - 1);
+    }
+
+    public static void sort(char[] arr, int low, int high) {
+
+        if (low >= high) {
+            return;
+        }
+
+        sort(arr, low, high, depthLimit(high - low + 1));
+    }
+
+    private static void sort(char[] arr, int low, int high, int depth) {
+
+        while (high - low + 1 > INSERTION_THRESHOLD) {
+
+            if (depth-- == 0) {
+                HeatSort.sort(arr, low, high);
+                return;
+            }
+
+            int lt;
+            int gt;
+            if (high - low + 1 >= DUPLICATE_CHECK_THRESHOLD
+                    && ThreeWayQuickSort.hasManyDuplicates(arr, low, high)) {
+                long bounds = ThreeWayQuickSort.partition(arr, low, high);
+                lt = ThreeWayQuickSort.lowerBound(bounds);
+                gt = ThreeWayQuickSort.upperBound(bounds);
+            } else {
+                lt = gt = partition(arr, low, high);
+            }
+
+            if (lt - low < high - gt) {
+                sort(arr, low, lt - 1, depth);
+                low = gt + 1;
+            } else {
+                sort(arr, gt + 1, high, depth);
+                high = lt - 1;
+            }
+        }
+
+        SmallSort.sort(arr, low, high);
+    }
+
+    static int partition(char[] arr, int low, int high) {
+
+        exch(arr, low, choosePivot(arr, low, high));
+        char key = arr[low];
+
+        int i = low;
+        int j = high + 1;
+        while (true) {
+
+            while (arr[++i] < key) {
+                if (i == high) {
+                    break;
+                }
+            }
+
+            while (key < arr[--j]) {
+            }
+
+            if (i >= j) {
+                break;
+            }
+
+            exch(arr, i, j);
+        }
+
+        exch(arr, low, j);
+        return j;
+    }
+
+    static int choosePivot(char[] arr, int low, int high) {
+
+        int size = high - low + 1;
+        int mid = low + (size >>> 1);
+
+        if (size > NINTHER_THRESHOLD) {
+            int step = size >>> 3;
+            int m1 = median3(arr, low, low + step, low + 2 * step);
+            int m2 = median3(arr, mid - step, mid, mid + step);
+            int m3 = median3(arr, high - 2 * step, high - step, high);
+            return median3(arr, m1, m2, m3);
+        }
+
+        return median3(arr, low, mid, high);
+    }
+
+    private static int median3(char[] arr, int i, int j, int k) {
+
+        if (arr[i] < arr[j]) {
+            if (arr[j] < arr[k]) {
+                return j;
+            }
+            return arr[i] < arr[k] ? k : i;
+        }
+
+        if (arr[k] < arr[j]) {
+            return j;
+        }
+        return arr[k] < arr[i] ? k : i;
+    }
+
+    private static void exch(char[] arr, int i, int j) {
+        char tmp = arr[i];
+        arr[i] = arr[j];
+        arr[j] = tmp;
+    }
+
+    /**
+     * 排序：byte数组
+     */
+    public static void sort(byte[] arr) {
+        sort(arr, 0, arr.length - 1);
+    }
+
+    public static void sort(byte[] arr, int low, int high) {
+
+        if (low >= high) {
+            return;
+        }
+
+        sort(arr, low, high, depthLimit(high - low + 1));
+    }
+
+    private static void sort(byte[] arr, int low, int high, int depth) {
+
+        while (high - low + 1 > INSERTION_THRESHOLD) {
+
+            if (depth-- == 0) {
+                HeatSort.sort(arr, low, high);
+                return;
+            }
+
+            int lt;
+            int gt;
+            if (high - low + 1 >= DUPLICATE_CHECK_THRESHOLD
+                    && ThreeWayQuickSort.hasManyDuplicates(arr, low, high)) {
+                long bounds = ThreeWayQuickSort.partition(arr, low, high);
+                lt = ThreeWayQuickSort.lowerBound(bounds);
+                gt = ThreeWayQuickSort.upperBound(bounds);
+            } else {
+                lt = gt = partition(arr, low, high);
+            }
+
+            if (lt - low < high - gt) {
+                sort(arr, low, lt - 1, depth);
+                low = gt + 1;
+            } else {
+                sort(arr, gt + 1, high, depth);
+                high = lt - 1;
+            }
+        }
+
+        SmallSort.sort(arr, low, high);
+    }
+
+    static int partition(byte[] arr, int low, int high) {
+
+        exch(arr, low, choosePivot(arr, low, high));
+        byte key = arr[low];
+
+        int i = low;
+        int j = high + 1;
+        while (true) {
+
+            while (arr[++i] < key) {
+                if (i == high) {
+                    break;
+                }
+            }
+
+            while (key < arr[--j]) {
+            }
+
+            if (i >= j) {
+                break;
+            }
+
+            exch(arr, i, j);
+        }
+
+        exch(arr, low, j);
+        return j;
+    }
+
+    static int choosePivot(byte[] arr, int low, int high) {
+
+        int size = high - low + 1;
+        int mid = low + (size >>> 1);
+
+        if (size > NINTHER_THRESHOLD) {
+            int step = size >>> 3;
+            int m1 = median3(arr, low, low + step, low + 2 * step);
+            int m2 = median3(arr, mid - step, mid, mid + step);
+            int m3 = median3(arr, high - 2 * step, high - step, high);
+            return median3(arr, m1, m2, m3);
+        }
+
+        return median3(arr, low, mid, high);
+    }
+
+    private static int median3(byte[] arr, int i, int j, int k) {
+
+        if (arr[i] < arr[j]) {
+            if (arr[j] < arr[k]) {
+                return j;
+            }
+            return arr[i] < arr[k] ? k : i;
+        }
+
+        if (arr[k] < arr[j]) {
+            return j;
+        }
+        return arr[k] < arr[i] ? k : i;
+    }
+
+    private static void exch(byte[] arr, int i, int j) {
+        byte tmp = arr[i];
+        arr[i] = arr[j];
+        arr[j] = tmp;
+    }
+
+    /**
+     * 排序：float数组，与Float.compare的全序一致
+     */
+    public static void sort(float[] arr) {
+        sort(arr, 0, arr.length - 1);
+    }
+
+    /**
+     * 排序：-0.0排在0.0之前，NaN排在末尾
+     */
+    public static void sort(float[] arr, int low, int high) {
+
+        // NaN移到末尾，-0.0暂时改写为0.0并计数
+        int end = high;
+        int negativeZeros = 0;
+        for (int k = high; k >= low; k--) {
+            float value = arr[k];
+            if (value != value) {
+                arr[k] = arr[end];
+                arr[end--] = value;
+            } else if (value == 0.0f && Float.floatToRawIntBits(value) < 0) {
+                arr[k] = 0.0f;
+                negativeZeros++;
+            }
+        }
+
+        if (low < end) {
+            sort(arr, low, end, depthLimit(end - low + 1));
+        }
+
+        // 零值区间的开头写回-0.0
+        if (negativeZeros > 0) {
+            int k = firstNonNegative(arr, low, end);
+            while (negativeZeros-- > 0) {
+                arr[k++] = -0.0f;
+            }
+        }
+    }
+
+    /**
+     * 二分查找[low, high]区间内第一个不小于0的元素
+     */
+    private static int firstNonNegative(float[] arr, int low, int high) {
+
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (arr[mid] < 0.0f) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+
+        return low;
+    }
+
+    private static void sort(float[] arr, int low, int high, int depth) {
+
+        while (high - low + 1 > INSERTION_THRESHOLD) {
+
+            if (depth-- == 0) {
+                HeatSort.sort(arr, low, high);
+                return;
+            }
+
+            int lt;
+            int gt;
+            if (high - low + 1 >= DUPLICATE_CHECK_THRESHOLD
+                    && ThreeWayQuickSort.hasManyDuplicates(arr, low, high)) {
+                long bounds = ThreeWayQuickSort.partition(arr, low, high);
+                lt = ThreeWayQuickSort.lowerBound(bounds);
+                gt = ThreeWayQuickSort.upperBound(bounds);
+            } else {
+                lt = gt = partition(arr, low, high);
+            }
+
+            if (lt - low < high - gt) {
+                sort(arr, low, lt - 1, depth);
+                low = gt + 1;
+            } else {
+                sort(arr, gt + 1, high, depth);
+                high = lt - 1;
+            }
+        }
+
+        SmallSort.sort(arr, low, high);
+    }
+
+    static int partition(float[] arr, int low, int high) {
+
+        exch(arr, low, choosePivot(arr, low, high));
+        float key = arr[low];
+
+        int i = low;
+        int j = high + 1;
+        while (true) {
+
+            while (arr[++i] < key) {
+                if (i == high) {
+                    break;
+                }
+            }
+
+            while (key < arr[--j]) {
+            }
+
+            if (i >= j) {
+                break;
+            }
+
+            exch(arr, i, j);
+        }
+
+        exch(arr, low, j);
+        return j;
+    }
+
+    static int choosePivot(float[] arr, int low, int high) {
+
+        int size = high - low + 1;
+        int mid = low + (size >>> 1);
+
+        if (size > NINTHER_THRESHOLD) {
+            int step = size >>> 3;
+            int m1 = median3(arr, low, low + step, low + 2 * step);
+            int m2 = median3(arr, mid - step, mid, mid + step);
+            int m3 = median3(arr, high - 2 * step, high - step, high);
+            return median3(arr, m1, m2, m3);
+        }
+
+        return median3(arr, low, mid, high);
+    }
+
+    private static int median3(float[] arr, int i, int j, int k) {
+
+        if (arr[i] < arr[j]) {
+            if (arr[j] < arr[k]) {
+                return j;
+            }
+            return arr[i] < arr[k] ? k : i;
+        }
+
+        if (arr[k] < arr[j]) {
+            return j;
+        }
+        return arr[k] < arr[i] ? k : i;
+    }
+
+    private static void exch(float[] arr, int i, int j) {
+        float tmp = arr[i];
+        arr[i] = arr[j];
+        arr[j] = tmp;
+    }
+
+    /**
+     * 排序：double数组，与Double.compare的全序一致
+     */
+    public static void sort(double[] arr) {
+        sort(arr, 0, arr.length - 1);
+    }
+
+    /**
+     * 排序：-0.0排在0.0之前，NaN排在末尾
+     */
+    public static void sort(double[] arr, int low, int high) {
+
+        // NaN移到末尾，-0.0暂时改写为0.0并计数
+        int end = high;
+        int negativeZeros = 0;
+        for (int k = high; k >= low; k--) {
+            double value = arr[k];
+            if (value != value) {
+                arr[k] = arr[end];
+                arr[end--] = value;
+            } else if (value == 0.0d && Double.doubleToRawLongBits(value) < 0) {
+                arr[k] = 0.0d;
+                negativeZeros++;
+            }
+        }
+
+        if (low < end) {
+            sort(arr, low, end, depthLimit(end - low + 1));
+        }
+
+        // 零值区间的开头写回-0.0
+        if (negativeZeros > 0) {
+            int k = firstNonNegative(arr, low, end);
+            while (negativeZeros-- > 0) {
+                arr[k++] = -0.0d;
+            }
+        }
+    }
+
+    /**
+     * 二分查找[low, high]区间内第一个不小于0的元素
+     */
+    private static int firstNonNegative(double[] arr, int low, int high) {
+
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (arr[mid] < 0.0d) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+
+        return low;
+    }
+
+    private static void sort(double[] arr, int low, int high, int depth) {
+
+        while (high - low + 1 > INSERTION_THRESHOLD) {
+
+            if (depth-- == 0) {
+                HeatSort.sort(arr, low, high);
+                return;
+            }
+
+            int lt;
+            int gt;
+            if (high - low + 1 >= DUPLICATE_CHECK_THRESHOLD
+                    && ThreeWayQuickSort.hasManyDuplicates(arr, low, high)) {
+                long bounds = ThreeWayQuickSort.partition(arr, low, high);
+                lt = ThreeWayQuickSort.lowerBound(bounds);
+                gt = ThreeWayQuickSort.upperBound(bounds);
+            } else {
+                lt = gt = partition(arr, low, high);
+            }
+
+            if (lt - low < high - gt) {
+                sort(arr, low, lt - 1, depth);
+                low = gt + 1;
+            } else {
+                sort(arr, gt + 1, high, depth);
+                high = lt - 1;
+            }
+        }
+
+        SmallSort.sort(arr, low, high);
+    }
+
+    static int partition(double[] arr, int low, int high) {
+
+        exch(arr, low, choosePivot(arr, low, high));
+        double key = arr[low];
+
+        int i = low;
+        int j = high + 1;
+        while (true) {
+
+            while (arr[++i] < key) {
+                if (i == high) {
+                    break;
+                }
+            }
+
+            while (key < arr[--j]) {
+            }
+
+            if (i >= j) {
+                break;
+            }
+
+            exch(arr, i, j);
+        }
+
+        exch(arr, low, j);
+        return j;
+    }
+
+    static int choosePivot(double[] arr, int low, int high) {
+
+        int size = high - low + 1;
+        int mid = low + (size >>> 1);
+
+        if (size > NINTHER_THRESHOLD) {
+            int step = size >>> 3;
+            int m1 = median3(arr, low, low + step, low + 2 * step);
+            int m2 = median3(arr, mid - step, mid, mid + step);
+            int m3 = median3(arr, high - 2 * step, high - step, high);
+            return median3(arr, m1, m2, m3);
+        }
+
+        return median3(arr, low, mid, high);
+    }
+
+    private static int median3(double[] arr, int i, int j, int k) {
+
+        if (arr[i] < arr[j]) {
+            if (arr[j] < arr[k]) {
+                return j;
+            }
+            return arr[i] < arr[k] ? k : i;
+        }
+
+        if (arr[k] < arr[j]) {
+            return j;
+        }
+        return arr[k] < arr[i] ? k : i;
+    }
+
+    private static void exch(double[] arr, int i, int j) {
+        double tmp = arr[i];
+        arr[i] = arr[j];
+        arr[j] = tmp;
+    }
+
+    public static void main(String[] args) {
+
+        int[] arr = {3, 6, 5, 4, 7, 9, 8, 0, 2, 1};
+        sort(arr);
+        System.out.println(Arrays.toString(arr));
+    }
+}
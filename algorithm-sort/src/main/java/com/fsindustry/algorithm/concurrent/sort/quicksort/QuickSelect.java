@@ -0,0 +1,242 @@
+package com.fsindustry.algorithm.concurrent.sort.quicksort;
+
+import java.util.Arrays;
+
+import com.fsindustry.algorithm.concurrent.sort.smallsort.SmallSort;
+
+/**
+ * 快速选择：只对数组做部分排序，求第k小元素、前k小元素、多个分位数
+ * <p>
+ * 基于内省排序的切分：每两次切分检查一次区间是否缩小一半，
+ * 未缩小则改用中位数的中位数（BFPRT）选取枢轴，保证最坏线性时间
+ */
+public class QuickSelect {
+
+    /**
+     * 中位数的中位数：每组元素个数
+     */
+    static final int GROUP_SIZE = 5;
+
+    /**
+     * 求第k小的元素（k从0开始）；
+     * 返回后arr[k]已归位，arr[0, k)不大于arr[k]，arr(k, n)不小于arr[k]
+     */
+    public static int select(int[] arr, int k) {
+
+        if (k < 0 || k >= arr.length) {
+            throw new IllegalArgumentException("k out of range: " + k);
+        }
+
+        select(arr, 0, arr.length - 1, k);
+        return arr[k];
+    }
+
+    /**
+     * 部分排序：将最小的k个元素按升序排列在arr[0, k)
+     */
+    public static void partialSort(int[] arr, int k) {
+
+        if (k < 0 || k > arr.length) {
+            throw new IllegalArgumentException("k out of range: " + k);
+        }
+
+        if (k == 0) {
+            return;
+        }
+
+        select(arr, 0, arr.length - 1, k - 1);
+        IntroSort.sort(arr, 0, k - 2);
+    }
+
+    /**
+     * 多点选择：一次处理所有ks，切分过程在各个k之间共享；
+     * 返回每个k对应的元素，顺序与ks一致
+     */
+    public static int[] select(int[] arr, int[] ks) {
+
+        int[] sortedKs = ks.clone();
+        IntroSort.sort(sortedKs);
+        for (int k : sortedKs) {
+            if (k < 0 || k >= arr.length) {
+                throw new IllegalArgumentException("k out of range: " + k);
+            }
+        }
+
+        if (sortedKs.length > 0) {
+            multiSelect(arr, 0, arr.length - 1, sortedKs, 0, sortedKs.length - 1,
+                    IntroSort.depthLimit(arr.length));
+        }
+
+        int[] values = new int[ks.length];
+        for (int i = 0; i < ks.length; i++) {
+            values[i] = arr[ks[i]];
+        }
+        return values;
+    }
+
+    /**
+     * 多分位数选择：分位数q对应第floor(q * (n - 1))小的元素
+     */
+    public static int[] quantiles(int[] arr, double[] qs) {
+
+        int[] ks = new int[qs.length];
+        for (int i = 0; i < qs.length; i++) {
+            if (!(qs[i] >= 0.0d && qs[i] <= 1.0d)) {
+                throw new IllegalArgumentException("quantile out of range: " + qs[i]);
+            }
+            ks[i] = (int) (qs[i] * (arr.length - 1));
+        }
+
+        return select(arr, ks);
+    }
+
+    /**
+     * 内省选择：在[low, high]区间内使第k小的元素归位
+     */
+    static void select(int[] arr, int low, int high, int k) {
+
+        boolean medianOfMedians = false;
+        int checkpoint = high - low + 1;
+        int steps = 0;
+
+        while (high - low + 1 > IntroSort.INSERTION_THRESHOLD) {
+
+            int idx;
+            if (medianOfMedians) {
+                exch(arr, low, medianOfMedians(arr, low, high));
+                idx = IntroSort.partitionAroundLow(arr, low, high);
+            } else {
+                idx = IntroSort.partition(arr, low, high);
+            }
+
+            if (k == idx) {
+                return;
+            } else if (k < idx) {
+                high = idx - 1;
+            } else {
+                low = idx + 1;
+            }
+
+            // 每两次切分区间至少缩小一半，否则改用中位数的中位数
+            if (!medianOfMedians && (++steps & 1) == 0) {
+                int size = high - low + 1;
+                medianOfMedians = size > checkpoint / 2;
+                checkpoint = size;
+            }
+        }
+
+        SmallSort.sort(arr, low, high);
+    }
+
+    /**
+     * 中位数的中位数：每5个一组求中位数，将各组中位数移到区间头部后递归选出其中位数，
+     * 返回该枢轴所在索引；以其切分，两侧至少各有约30%的元素
+     */
+    static int medianOfMedians(int[] arr, int low, int high) {
+
+        int size = high - low + 1;
+        if (size <= GROUP_SIZE) {
+            SmallSort.sort(arr, low, high);
+            return low + (size - 1) / 2;
+        }
+
+        int dst = low;
+        for (int i = low; i <= high; i += GROUP_SIZE) {
+            int end = Math.min(i + GROUP_SIZE - 1, high);
+            SmallSort.sort(arr, i, end);
+            exch(arr, dst++, i + (end - i) / 2);
+        }
+
+        int mid = low + (dst - low - 1) / 2;
+        select(arr, low, dst - 1, mid);
+        return mid;
+    }
+
+    /**
+     * 多点选择：ks[kLow, kHigh]为落在[low, high]区间内的有序目标位置
+     */
+    private static void multiSelect(int[] arr, int low, int high, int[] ks, int kLow, int kHigh, int depth) {
+
+        while (kLow <= kHigh && high - low + 1 > IntroSort.INSERTION_THRESHOLD) {
+
+            // 递归深度耗尽，改用保证线性的单点选择
+            if (depth-- == 0) {
+                selectAll(arr, low, high, ks, kLow, kHigh);
+                return;
+            }
+
+            int idx = IntroSort.partition(arr, low, high);
+
+            // ks[kLow, split)落在左侧，ks[right, kHigh]落在右侧
+            int split = lowerBound(ks, kLow, kHigh + 1, idx);
+            int right = split <= kHigh && ks[split] == idx ? split + 1 : split;
+
+            multiSelect(arr, low, idx - 1, ks, kLow, split - 1, depth);
+            low = idx + 1;
+            kLow = right;
+        }
+
+        if (kLow <= kHigh) {
+            SmallSort.sort(arr, low, high);
+        }
+    }
+
+    /**
+     * 对ks[kLow, kHigh]逐个使用内省选择：先选中间的k，再分别处理两侧的k，
+     * 每层的区间互不相交，最坏O(n * log(k的个数))
+     */
+    static void selectAll(int[] arr, int low, int high, int[] ks, int kLow, int kHigh) {
+
+        while (kLow <= kHigh) {
+
+            int mid = (kLow + kHigh) >>> 1;
+            int k = ks[mid];
+            select(arr, low, high, k);
+
+            // 与k相同的目标位置已经归位
+            int left = mid - 1;
+            while (left >= kLow && ks[left] == k) {
+                left--;
+            }
+            int right = mid + 1;
+            while (right <= kHigh && ks[right] == k) {
+                right++;
+            }
+
+            selectAll(arr, low, k - 1, ks, kLow, left);
+            low = k + 1;
+            kLow = right;
+        }
+    }
+
+    /**
+     * 二分查找[from, to)区间内第一个不小于key的位置
+     */
+    private static int lowerBound(int[] arr, int from, int to, int key) {
+
+        while (from < to) {
+            int mid = (from + to) >>> 1;
+            if (arr[mid] < key) {
+                from = mid + 1;
+            } else {
+                to = mid;
+            }
+        }
+        return from;
+    }
+
+    private static void exch(int[] arr, int i, int j) {
+        int tmp = arr[i];
+        arr[i] = arr[j];
+        arr[j] = tmp;
+    }
+
+    public static void main(String[] args) {
+
+        int[] arr = {3, 6, 5, 4, 7, 9, 8, 0, 2, 1};
+        System.out.println(select(arr, 4));
+        partialSort(arr, 3);
+        System.out.println(Arrays.toString(arr));
+        System.out.println(Arrays.toString(quantiles(arr, new double[]{0.5, 0.9, 0.0})));
+    }
+}
@@ -1,18 +1,89 @@
 package com.fsindustry.algorithm.concurrent.sort.quicksort;
 
 import java.util.Arrays;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+
+import com.fsindustry.algorithm.concurrent.sort.smallsort.SmallSort;
+import com.fsindustry.algorithm.concurrent.sort.stats.SortPhase;
+import com.fsindustry.algorithm.concurrent.sort.stats.SortStats;
 
 public class QuickSort {
 
+    /**
+     * 并行排序时，区间长度小于该值则退化为串行排序
+     */
+    public static final int PARALLEL_THRESHOLD = 1 << 13;
+
     public static void sort(int[] arr, int low, int high) {
 
+        if (SortStats.ENABLED) {
+            SortStats stats = SortStats.begin("QuickSort", high - low + 1);
+            try {
+                sort(arr, low, high, 1);
+            } finally {
+                SortStats.end(stats);
+            }
+            return;
+        }
+
+        sort(arr, low, high, 1);
+    }
+
+    /**
+     * 递归排序：depth为当前递归深度，仅用于统计
+     */
+    private static void sort(int[] arr, int low, int high, int depth) {
+
         if (low >= high) {
             return;
         }
 
+        // 小区间交给SmallSort，避免递归到单个元素
+        if (high - low + 1 <= SmallSort.THRESHOLD) {
+            long start = SortStats.phaseStart();
+            SmallSort.sort(arr, low, high);
+            SortStats.phaseEnd(SortPhase.SMALL_SORT, start);
+            return;
+        }
+
+        SortStats.depth(depth);
+        long start = SortStats.phaseStart();
         int idx = partition(arr, low, high);
-        sort(arr, low, idx - 1);
-        sort(arr, idx + 1, high);
+        SortStats.phaseEnd(SortPhase.PARTITION, start);
+        SortStats.partition(idx - low, high - idx);
+
+        sort(arr, low, idx - 1, depth + 1);
+        sort(arr, idx + 1, high, depth + 1);
+    }
+
+    /**
+     * 并行排序：使用公共ForkJoinPool
+     */
+    public static void parallelSort(int[] arr) {
+        parallelSort(arr, 0, arr.length - 1, ForkJoinPool.commonPool(), PARALLEL_THRESHOLD);
+    }
+
+    /**
+     * 并行排序：每次partition之后，将左右两个区间拆分为子任务交给pool执行，
+     * 区间长度小于threshold时退化为串行排序
+     */
+    public static void parallelSort(int[] arr, int low, int high, ForkJoinPool pool, int threshold) {
+
+        if (threshold < 1) {
+            throw new IllegalArgumentException("threshold must be positive: " + threshold);
+        }
+
+        if (low >= high) {
+            return;
+        }
+
+        SortStats stats = SortStats.begin("QuickSort", high - low + 1);
+        try {
+            pool.invoke(new SortTask(arr, low, high, threshold, stats, 1));
+        } finally {
+            SortStats.end(stats);
+        }
     }
 
     private static int partition(int[] arr, int low, int high) {
@@ -21,15 +92,17 @@ public class QuickSort {
 
         while (low < high) {
 
-            while (arr[high] >= key && low < high) {
+            while (!less(arr[high], key) && low < high) {
                 high--;
             }
             arr[low] = arr[high];
+            SortStats.move();
 
-            while (arr[low] <= key && low < high) {
+            while (!less(key, arr[low]) && low < high) {
                 low++;
             }
             arr[high] = arr[low];
+            SortStats.move();
         }
 
         arr[high] = key;
@@ -37,10 +110,109 @@ public class QuickSort {
         return high;
     }
 
+    /**
+     * 比较
+     */
+    private static boolean less(int a, int b) {
+        SortStats.compare();
+        return a < b;
+    }
+
+    /**
+     * 并行排序任务
+     */
+    private static class SortTask extends RecursiveAction {
+
+        private static final long serialVersionUID = 1L;
+
+        private final int[] arr;
+
+        private final int low;
+
+        private final int high;
+
+        private final int threshold;
+
+        /**
+         * 外层统计对象，未开启统计时为null
+         */
+        private final SortStats stats;
+
+        /**
+         * 区间所在的递归深度，仅用于统计
+         */
+        private final int depth;
+
+        /**
+         * 已fork的兄弟任务，组成链表便于统一join
+         */
+        private SortTask next;
+
+        SortTask(int[] arr, int low, int high, int threshold, SortStats stats, int depth) {
+            this.arr = arr;
+            this.low = low;
+            this.high = high;
+            this.threshold = threshold;
+            this.stats = stats;
+            this.depth = depth;
+        }
+
+        @Override
+        protected void compute() {
+
+            int low = this.low;
+            int high = this.high;
+            int depth = this.depth;
+            SortTask forked = null;
+
+            // 统计记入当前线程上挂接的子对象，结束时合并到外层
+            SortStats child = SortStats.attach(stats);
+            try {
+
+                // 较小的区间fork给其他线程，当前线程继续处理较大的区间，保证栈深度有界
+                while (high - low + 1 > threshold) {
+
+                    SortStats.depth(depth);
+                    long start = SortStats.phaseStart();
+                    int idx = partition(arr, low, high);
+                    SortStats.phaseEnd(SortPhase.PARTITION, start);
+                    SortStats.partition(idx - low, high - idx);
+                    depth++;
+
+                    SortTask task;
+                    if (idx - low < high - idx) {
+                        task = new SortTask(arr, low, idx - 1, threshold, stats, depth);
+                        low = idx + 1;
+                    } else {
+                        task = new SortTask(arr, idx + 1, high, threshold, stats, depth);
+                        high = idx - 1;
+                    }
+
+                    task.next = forked;
+                    forked = task;
+                    task.fork();
+                }
+
+                sort(arr, low, high, depth);
+            } finally {
+                SortStats.detach(child);
+            }
+
+            while (null != forked) {
+                forked.join();
+                forked = forked.next;
+            }
+        }
+    }
+
     public static void main(String[] args) {
 
         int[] arr = {3, 6, 5, 4, 7, 9, 8, 0, 2, 1};
         sort(arr, 0, arr.length - 1);
         System.out.println(Arrays.toString(arr));
+
+        int[] parallelArr = {3, 6, 5, 4, 7, 9, 8, 0, 2, 1};
+        parallelSort(parallelArr, 0, parallelArr.length - 1, ForkJoinPool.commonPool(), 2);
+        System.out.println(Arrays.toString(parallelArr));
     }
 }
@@ -0,0 +1,435 @@
+package com.fsindustry.algorithm.concurrent.sort.quicksort;
+
+import java.util.Arrays;
+
+import com.fsindustry.algorithm.concurrent.sort.smallsort.SmallSort;
+
+/**
+ * 三向切分快速排序（荷兰国旗问题）：
+ * <p>
+ * 一次切分将区间分为小于、等于、大于枢轴三部分，等于枢轴的元素不再参与后续排序，
+ * 适用于取值种类很少的数组，排序时间趋近于O(n * 不同元素个数)
+ */
+public class ThreeWayQuickSort {
+
+    /**
+     * 抽样数量
+     */
+    static final int SAMPLE_SIZE = 16;
+
+    /**
+     * 抽样中不同元素个数不超过该值时，认为区间重复元素较多
+     */
+    static final int DISTINCT_LIMIT = SAMPLE_SIZE - 2;
+
+    public static void sort(int[] arr) {
+        sort(arr, 0, arr.length - 1);
+    }
+
+    public static void sort(int[] arr, int low, int high) {
+
+        while (high - low + 1 > IntroSort.INSERTION_THRESHOLD) {
+
+            long bounds = partition(arr, low, high);
+            int lt = lowerBound(bounds);
+            int gt = upperBound(bounds);
+
+            // 递归处理较短的区间，循环处理较长的区间
+            if (lt - low < high - gt) {
+                sort(arr, low, lt - 1);
+                low = gt + 1;
+            } else {
+                sort(arr, gt + 1, high);
+                high = lt - 1;
+            }
+        }
+
+        SmallSort.sort(arr, low, high);
+    }
+
+    /**
+     * 三向切分：切分后[low, lt)小于枢轴，[lt, gt]等于枢轴，(gt, high]大于枢轴；
+     * 为避免分配对象，lt、gt打包为long返回，分别通过lowerBound、upperBound取出
+     */
+    static long partition(int[] arr, int low, int high) {
+
+        int key = arr[IntroSort.choosePivot(arr, low, high)];
+
+        int lt = low;
+        int i = low;
+        int gt = high;
+        while (i <= gt) {
+
+            int value = arr[i];
+            if (value < key) {
+                exch(arr, lt++, i++);
+            } else if (value > key) {
+                exch(arr, i, gt--);
+            } else {
+                i++;
+            }
+        }
+
+        return ((long) lt << 32) | (gt & 0xFFFFFFFFL);
+    }
+
+    static int lowerBound(long bounds) {
+        return (int) (bounds >>> 32);
+    }
+
+    static int upperBound(long bounds) {
+        return (int) bounds;
+    }
+
+    /**
+     * 抽样检测：在区间内等距抽取SAMPLE_SIZE个元素，统计不同元素个数
+     */
+    static boolean hasManyDuplicates(int[] arr, int low, int high) {
+
+        int step = (high - low + 1) / SAMPLE_SIZE;
+        int distinct = 0;
+
+        for (int i = 0; i < SAMPLE_SIZE; i++) {
+
+            int value = arr[low + i * step];
+            boolean seen = false;
+            for (int j = 0; j < i; j++) {
+                if (arr[low + j * step] == value) {
+                    seen = true;
+                    break;
+                }
+            }
+
+            if (!seen) {
+                distinct++;
+            }
+        }
+
+        return distinct <= DISTINCT_LIMIT;
+    }
+
+    private static void exch(int[] arr, int i, int j) {
+        int tmp = arr[i];
+        arr[i] = arr[j];
+        arr[j] = tmp;
+    }
+
+    static long partition(long[] arr, int low, int high) {
+
+        long key = arr[IntroSort.choosePivot(arr, low, high)];
+
+        int lt = low;
+        int i = low;
+        int gt = high;
+        while (i <= gt) {
+
+            long value = arr[i];
+            if (value < key) {
+                exch(arr, lt++, i++);
+            } else if (value > key) {
+                exch(arr, i, gt--);
+            } else {
+                i++;
+            }
+        }
+
+        return ((long) lt << 32) | (gt & 0xFFFFFFFFL);
+    }
+
+    static boolean hasManyDuplicates(long[] arr, int low, int high) {
+
+        int step = (high - low + 1) / SAMPLE_SIZE;
+        int distinct = 0;
+
+        for (int i = 0; i < SAMPLE_SIZE; i++) {
+
+            long value = arr[low + i * step];
+            boolean seen = false;
+            for (int j = 0; j < i; j++) {
+                if (arr[low + j * step] == value) {
+                    seen = true;
+                    break;
+                }
+            }
+
+            if (!seen) {
+                distinct++;
+            }
+        }
+
+        return distinct <= DISTINCT_LIMIT;
+    }
+
+    private static void exch(long[] arr, int i, int j) {
+        long tmp = arr[i];
+        arr[i] = arr[j];
+        arr[j] = tmp;
+    }
+
+    static long partition(short[] arr, int low, int high) {
+
+        short key = arr[IntroSort.choosePivot(arr, low, high)];
+
+        int lt = low;
+        int i = low;
+        int gt = high;
+        while (i <= gt) {
+
+            short value = arr[i];
+            if (value < key) {
+                exch(arr, lt++, i++);
+            } else if (value > key) {
+                exch(arr, i, gt--);
+            } else {
+                i++;
+            }
+        }
+
+        return ((long) lt << 32) | (gt & 0xFFFFFFFFL);
+    }
+
+    static boolean hasManyDuplicates(short[] arr, int low, int high) {
+
+        int step = (high - low + 1) / SAMPLE_SIZE;
+        int distinct = 0;
+
+        for (int i = 0; i < SAMPLE_SIZE; i++) {
+
+            short value = arr[low + i * step];
+            boolean seen = false;
+            for (int j = 0; j < i; j++) {
+                if (arr[low + j * step] == value) {
+                    seen = true;
+                    break;
+                }
+            }
+
+            if (!seen) {
+                distinct++;
+            }
+        }
+
+        return distinct <= DISTINCT_LIMIT;
+    }
+
+    private static void exch(short[] arr, int i, int j) {
+        short tmp = arr[i];
+        arr[i] = arr[j];
+        arr[j] = tmp;
+    }
+
+    static long partition(char[] arr, int low, int high) {
+
+        char key = arr[IntroSort.choosePivot(arr, low, high)];
+
+        int lt = low;
+        int i = low;
+        int gt = high;
+        while (i <= gt) {
+
+            char value = arr[i];
+            if (value < key) {
+                exch(arr, lt++, i++);
+            } else if (value > key) {
+                exch(arr, i, gt--);
+            } else {
+                i++;
+            }
+        }
+
+        return ((long) lt << 32) | (gt & 0xFFFFFFFFL);
+    }
+
+    static boolean hasManyDuplicates(char[] arr, int low, int high) {
+
+        int step = (high - low + 1) / SAMPLE_SIZE;
+        int distinct = 0;
+
+        for (int i = 0; i < SAMPLE_SIZE; i++) {
+
+            char value = arr[low + i * step];
+            boolean seen = false;
+            for (int j = 0; j < i; j++) {
+                if (arr[low + j * step] == value) {
+                    seen = true;
+                    break;
+                }
+            }
+
+            if (!seen) {
+                distinct++;
+            }
+        }
+
+        return distinct <= DISTINCT_LIMIT;
+    }
+
+    private static void exch(char[] arr, int i, int j) {
+        char tmp = arr[i];
+        arr[i] = arr[j];
+        arr[j] = tmp;
+    }
+
+    static long partition(byte[] arr, int low, int high) {
+
+        byte key = arr[IntroSort.choosePivot(arr, low, high)];
+
+        int lt = low;
+        int i = low;
+        int gt = high;
+        while (i <= gt) {
+
+            byte value = arr[i];
+            if (value < key) {
+                exch(arr, lt++, i++);
+            } else if (value > key) {
+                exch(arr, i, gt--);
+            } else {
+                i++;
+            }
+        }
+
+        return ((long) lt << 32) | (gt & 0xFFFFFFFFL);
+    }
+
+    static boolean hasManyDuplicates(byte[] arr, int low, int high) {
+
+        int step = (high - low + 1) / SAMPLE_SIZE;
+        int distinct = 0;
+
+        for (int i = 0; i < SAMPLE_SIZE; i++) {
+
+            byte value = arr[low + i * step];
+            boolean seen = false;
+            for (int j = 0; j < i; j++) {
+                if (arr[low + j * step] == value) {
+                    seen = true;
+                    break;
+                }
+            }
+
+            if (!seen) {
+                distinct++;
+            }
+        }
+
+        return distinct <= DISTINCT_LIMIT;
+    }
+
+    private static void exch(byte[] arr, int i, int j) {
+        byte tmp = arr[i];
+        arr[i] = arr[j];
+        arr[j] = tmp;
+    }
+
+    static long partition(float[] arr, int low, int high) {
+
+        float key = arr[IntroSort.choosePivot(arr, low, high)];
+
+        int lt = low;
+        int i = low;
+        int gt = high;
+        while (i <= gt) {
+
+            float value = arr[i];
+            if (value < key) {
+                exch(arr, lt++, i++);
+            } else if (value > key) {
+                exch(arr, i, gt--);
+            } else {
+                i++;
+            }
+        }
+
+        return ((long) lt << 32) | (gt & 0xFFFFFFFFL);
+    }
+
+    static boolean hasManyDuplicates(float[] arr, int low, int high) {
+
+        int step = (high - low + 1) / SAMPLE_SIZE;
+        int distinct = 0;
+
+        for (int i = 0; i < SAMPLE_SIZE; i++) {
+
+            float value = arr[low + i * step];
+            boolean seen = false;
+            for (int j = 0; j < i; j++) {
+                if (arr[low + j * step] == value) {
+                    seen = true;
+                    break;
+                }
+            }
+
+            if (!seen) {
+                distinct++;
+            }
+        }
+
+        return distinct <= DISTINCT_LIMIT;
+    }
+
+    private static void exch(float[] arr, int i, int j) {
+        float tmp = arr[i];
+        arr[i] = arr[j];
+        arr[j] = tmp;
+    }
+
+    static long partition(double[] arr, int low, int high) {
+
+        double key = arr[IntroSort.choosePivot(arr, low, high)];
+
+        int lt = low;
+        int i = low;
+        int gt = high;
+        while (i <= gt) {
+
+            double value = arr[i];
+            if (value < key) {
+                exch(arr, lt++, i++);
+            } else if (value > key) {
+                exch(arr, i, gt--);
+            } else {
+                i++;
+            }
+        }
+
+        return ((long) lt << 32) | (gt & 0xFFFFFFFFL);
+    }
+
+    static boolean hasManyDuplicates(double[] arr, int low, int high) {
+
+        int step = (high - low + 1) / SAMPLE_SIZE;
+        int distinct = 0;
+
+        for (int i = 0; i < SAMPLE_SIZE; i++) {
+
+            double value = arr[low + i * step];
+            boolean seen = false;
+            for (int j = 0; j < i; j++) {
+                if (arr[low + j * step] == value) {
+                    seen = true;
+                    break;
+                }
+            }
+
+            if (!seen) {
+                distinct++;
+            }
+        }
+
+        return distinct <= DISTINCT_LIMIT;
+    }
+
+    private static void exch(double[] arr, int i, int j) {
+        double tmp = arr[i];
+        arr[i] = arr[j];
+        arr[j] = tmp;
+    }
+
+    public static void main(String[] args) {
+
+        int[] arr = {3, 1, 2, 3, 1, 2, 3, 1, 2, 0, 3, 1, 2, 3, 1, 2, 3, 1, 2, 0};
+        sort(arr);
+        System.out.println(Arrays.toString(arr));
+    }
+}
@@ -0,0 +1,413 @@
+package com.fsindustry.algorithm.concurrent.sort.radixsort;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+
+import com.fsindustry.algorithm.concurrent.sort.quicksort.QuickSort;
+
+/**
+ * 并行高位优先（MSD）基数排序：
+ * <p>
+ * 1. 将区间切成若干块，每块由一个任务并行统计当前位的直方图；
+ * 2. 对直方图做前缀和，得到每块在每个桶中的写入位置；
+ * 3. 各块并行分发到辅助数组，块之间写入位置互不重叠；
+ * 4. 每个桶作为子任务继续处理下一位，桶较小时改用LSD基数排序；
+ * 所有元素落在同一个桶时跳过分发，直接统计下一位
+ */
+public class ParallelRadixSort {
+
+    /**
+     * 区间长度小于该值时不再并行分发，直接使用LSD基数排序
+     */
+    public static final int PARALLEL_THRESHOLD = 1 << 16;
+
+    /**
+     * 每个分块的最小长度
+     */
+    static final int MIN_CHUNK_SIZE = 1 << 14;
+
+    public static void sort(int[] arr) {
+        sort(arr, new int[arr.length], ForkJoinPool.commonPool());
+    }
+
+    /**
+     * 排序：buf为辅助数组，长度不小于arr
+     */
+    public static void sort(int[] arr, int[] buf, ForkJoinPool pool) {
+
+        if (buf.length < arr.length) {
+            throw new IllegalArgumentException("buf is too small: " + buf.length);
+        }
+
+        if (arr.length < 2) {
+            return;
+        }
+
+        pool.invoke(new IntTask(arr, buf, 0, arr.length - 1, RadixSort.INT_DIGITS - 1, false,
+                chunks(pool, arr.length)));
+    }
+
+    public static void sort(long[] arr) {
+        sort(arr, new long[arr.length], ForkJoinPool.commonPool());
+    }
+
+    /**
+     * 排序：buf为辅助数组，长度不小于arr
+     */
+    public static void sort(long[] arr, long[] buf, ForkJoinPool pool) {
+
+        if (buf.length < arr.length) {
+            throw new IllegalArgumentException("buf is too small: " + buf.length);
+        }
+
+        if (arr.length < 2) {
+            return;
+        }
+
+        pool.invoke(new LongTask(arr, buf, 0, arr.length - 1, RadixSort.LONG_DIGITS - 1, false,
+                chunks(pool, arr.length)));
+    }
+
+    /**
+     * 分块数：每个线程4块，保证负载均衡
+     */
+    private static int chunks(ForkJoinPool pool, int size) {
+        return Math.max(1, Math.min(pool.getParallelism() * 4, size / MIN_CHUNK_SIZE));
+    }
+
+    /**
+     * 各块的直方图合计后，第bucket个桶是否包含全部size个元素
+     */
+    private static boolean singleBucket(int[][] counts, int bucket, int size) {
+
+        int total = 0;
+        for (int[] count : counts) {
+            total += count[bucket];
+        }
+        return total == size;
+    }
+
+    /**
+     * 按第digit位分发[low, high]区间；inBuf为true表示数据当前位于buf中
+     */
+    private static class IntTask extends RecursiveAction {
+
+        private static final long serialVersionUID = 1L;
+
+        private final int[] arr;
+
+        private final int[] buf;
+
+        private final int low;
+
+        private final int high;
+
+        private final int digit;
+
+        private final boolean inBuf;
+
+        private final int maxChunks;
+
+        IntTask(int[] arr, int[] buf, int low, int high, int digit, boolean inBuf, int maxChunks) {
+            this.arr = arr;
+            this.buf = buf;
+            this.low = low;
+            this.high = high;
+            this.digit = digit;
+            this.inBuf = inBuf;
+            this.maxChunks = maxChunks;
+        }
+
+        @Override
+        protected void compute() {
+
+            int[] src = inBuf ? buf : arr;
+            int[] dst = inBuf ? arr : buf;
+            int size = high - low + 1;
+            int chunks = Math.max(1, Math.min(maxChunks, size / MIN_CHUNK_SIZE));
+            int chunkSize = (size + chunks - 1) / chunks;
+            int[][] counts = new int[chunks][RadixSort.RADIX];
+            IntChunkTask[] tasks = new IntChunkTask[chunks];
+
+            int d = digit;
+            while (true) {
+
+                // 区间较小时改用LSD基数排序处理剩余的位；所有位都已处理完时区间内元素全部相等
+                if (d < 0 || size < PARALLEL_THRESHOLD) {
+                    if (d >= 0) {
+                        RadixSort.sort(src, low, high, dst, low, d + 1);
+                    }
+                    if (inBuf) {
+                        System.arraycopy(buf, low, arr, low, size);
+                    }
+                    return;
+                }
+
+                // 1. 并行统计直方图
+                for (int c = 0; c < chunks; c++) {
+                    int from = low + c * chunkSize;
+                    int to = Math.min(high, from + chunkSize - 1);
+                    Arrays.fill(counts[c], 0);
+                    tasks[c] = new IntChunkTask(src, null, from, to, d, counts[c]);
+                }
+                invokeAll(tasks);
+
+                // 所有元素该位相同时不分发，直接处理下一位
+                if (!singleBucket(counts, RadixSort.digit(src[low], d), size)) {
+                    break;
+                }
+                d--;
+            }
+
+            // 2. 前缀和：counts[c][r]改写为第c块在第r个桶中的写入位置
+            int[] bucketLow = new int[RadixSort.RADIX + 1];
+            int offset = low;
+            for (int r = 0; r < RadixSort.RADIX; r++) {
+                bucketLow[r] = offset;
+                for (int c = 0; c < chunks; c++) {
+                    int count = counts[c][r];
+                    counts[c][r] = offset;
+                    offset += count;
+                }
+            }
+            bucketLow[RadixSort.RADIX] = offset;
+
+            // 3. 并行分发
+            for (int c = 0; c < chunks; c++) {
+                tasks[c] = new IntChunkTask(src, dst, tasks[c].low, tasks[c].high, d, counts[c]);
+            }
+            invokeAll(tasks);
+
+            // 4. 每个桶继续处理下一位
+            List<IntTask> buckets = new ArrayList<>();
+            for (int r = 0; r < RadixSort.RADIX; r++) {
+                if (bucketLow[r + 1] > bucketLow[r]) {
+                    buckets.add(new IntTask(arr, buf, bucketLow[r], bucketLow[r + 1] - 1, d - 1, !inBuf,
+                            maxChunks));
+                }
+            }
+            invokeAll(buckets);
+        }
+    }
+
+    /**
+     * 分块任务：dst为null时统计直方图，否则按offsets分发到dst
+     */
+    private static class IntChunkTask extends RecursiveAction {
+
+        private static final long serialVersionUID = 1L;
+
+        private final int[] src;
+
+        private final int[] dst;
+
+        private final int low;
+
+        private final int high;
+
+        private final int digit;
+
+        private final int[] offsets;
+
+        IntChunkTask(int[] src, int[] dst, int low, int high, int digit, int[] offsets) {
+            this.src = src;
+            this.dst = dst;
+            this.low = low;
+            this.high = high;
+            this.digit = digit;
+            this.offsets = offsets;
+        }
+
+        @Override
+        protected void compute() {
+
+            if (null == dst) {
+                for (int i = low; i <= high; i++) {
+                    offsets[RadixSort.digit(src[i], digit)]++;
+                }
+                return;
+            }
+
+            for (int i = low; i <= high; i++) {
+                int value = src[i];
+                dst[offsets[RadixSort.digit(value, digit)]++] = value;
+            }
+        }
+    }
+
+    private static class LongTask extends RecursiveAction {
+
+        private static final long serialVersionUID = 1L;
+
+        private final long[] arr;
+
+        private final long[] buf;
+
+        private final int low;
+
+        private final int high;
+
+        private final int digit;
+
+        private final boolean inBuf;
+
+        private final int maxChunks;
+
+        LongTask(long[] arr, long[] buf, int low, int high, int digit, boolean inBuf, int maxChunks) {
+            this.arr = arr;
+            this.buf = buf;
+            this.low = low;
+            this.high = high;
+            this.digit = digit;
+            this.inBuf = inBuf;
+            this.maxChunks = maxChunks;
+        }
+
+        @Override
+        protected void compute() {
+
+            long[] src = inBuf ? buf : arr;
+            long[] dst = inBuf ? arr : buf;
+            int size = high - low + 1;
+            int chunks = Math.max(1, Math.min(maxChunks, size / MIN_CHUNK_SIZE));
+            int chunkSize = (size + chunks - 1) / chunks;
+            int[][] counts = new int[chunks][RadixSort.RADIX];
+            LongChunkTask[] tasks = new LongChunkTask[chunks];
+
+            int d = digit;
+            while (true) {
+
+                if (d < 0 || size < PARALLEL_THRESHOLD) {
+                    if (d >= 0) {
+                        RadixSort.sort(src, low, high, dst, low, d + 1);
+                    }
+                    if (inBuf) {
+                        System.arraycopy(buf, low, arr, low, size);
+                    }
+                    return;
+                }
+
+                for (int c = 0; c < chunks; c++) {
+                    int from = low + c * chunkSize;
+                    int to = Math.min(high, from + chunkSize - 1);
+                    Arrays.fill(counts[c], 0);
+                    tasks[c] = new LongChunkTask(src, null, from, to, d, counts[c]);
+                }
+                invokeAll(tasks);
+
+                if (!singleBucket(counts, RadixSort.digit(src[low], d), size)) {
+                    break;
+                }
+                d--;
+            }
+
+            int[] bucketLow = new int[RadixSort.RADIX + 1];
+            int offset = low;
+            for (int r = 0; r < RadixSort.RADIX; r++) {
+                bucketLow[r] = offset;
+                for (int c = 0; c < chunks; c++) {
+                    int count = counts[c][r];
+                    counts[c][r] = offset;
+                    offset += count;
+                }
+            }
+            bucketLow[RadixSort.RADIX] = offset;
+
+            for (int c = 0; c < chunks; c++) {
+                tasks[c] = new LongChunkTask(src, dst, tasks[c].low, tasks[c].high, d, counts[c]);
+            }
+            invokeAll(tasks);
+
+            List<LongTask> buckets = new ArrayList<>();
+            for (int r = 0; r < RadixSort.RADIX; r++) {
+                if (bucketLow[r + 1] > bucketLow[r]) {
+                    buckets.add(new LongTask(arr, buf, bucketLow[r], bucketLow[r + 1] - 1, d - 1, !inBuf,
+                            maxChunks));
+                }
+            }
+            invokeAll(buckets);
+        }
+    }
+
+    private static class LongChunkTask extends RecursiveAction {
+
+        private static final long serialVersionUID = 1L;
+
+        private final long[] src;
+
+        private final long[] dst;
+
+        private final int low;
+
+        private final int high;
+
+        private final int digit;
+
+        private final int[] offsets;
+
+        LongChunkTask(long[] src, long[] dst, int low, int high, int digit, int[] offsets) {
+            this.src = src;
+            this.dst = dst;
+            this.low = low;
+            this.high = high;
+            this.digit = digit;
+            this.offsets = offsets;
+        }
+
+        @Override
+        protected void compute() {
+
+            if (null == dst) {
+                for (int i = low; i <= high; i++) {
+                    offsets[RadixSort.digit(src[i], digit)]++;
+                }
+                return;
+            }
+
+            for (int i = low; i <= high; i++) {
+                long value = src[i];
+                dst[offsets[RadixSort.digit(value, digit)]++] = value;
+            }
+        }
+    }
+
+    /**
+     * 简单对比：QuickSort、QuickSort.parallelSort、Arrays.parallelSort与本实现的耗时
+     */
+    public static void main(String[] args) {
+
+        int size = args.length > 0 ? Integer.parseInt(args[0]) : 1 << 24;
+        Random random = new Random(1);
+        int[] origin = new int[size];
+        for (int i = 0; i < size; i++) {
+            origin[i] = random.nextInt();
+        }
+
+        for (int round = 0; round < 3; round++) {
+
+            int[] arr = origin.clone();
+            long start = System.nanoTime();
+            QuickSort.sort(arr, 0, arr.length - 1);
+            System.out.printf("QuickSort.sort:           %d ms%n", (System.nanoTime() - start) / 1000000);
+
+            arr = origin.clone();
+            start = System.nanoTime();
+            QuickSort.parallelSort(arr);
+            System.out.printf("QuickSort.parallelSort:   %d ms%n", (System.nanoTime() - start) / 1000000);
+
+            arr = origin.clone();
+            start = System.nanoTime();
+            Arrays.parallelSort(arr);
+            System.out.printf("Arrays.parallelSort:      %d ms%n", (System.nanoTime() - start) / 1000000);
+
+            arr = origin.clone();
+            start = System.nanoTime();
+            sort(arr);
+            System.out.printf("ParallelRadixSort.sort:   %d ms%n", (System.nanoTime() - start) / 1000000);
+        }
+    }
+}
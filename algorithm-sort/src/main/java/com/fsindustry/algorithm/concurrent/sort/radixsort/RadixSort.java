@@ -0,0 +1,234 @@
+package com.fsindustry.algorithm.concurrent.sort.radixsort;
+
+import java.util.Arrays;
+
+import com.fsindustry.algorithm.concurrent.sort.quicksort.IntroSort;
+
+/**
+ * 低位优先（LSD）基数排序：每趟处理8个bit
+ * <p>
+ * 1. 一次扫描统计所有趟的直方图，某一趟所有元素该位相同时跳过该趟；
+ * 2. 最高位翻转符号位，使负数排在正数之前；
+ * 3. 调用方可传入辅助数组，直方图使用线程内复用的计数数组，重复排序时不再分配内存；
+ */
+public class RadixSort {
+
+    /**
+     * 每趟处理的bit数
+     */
+    static final int BITS = 8;
+
+    /**
+     * 基数
+     */
+    static final int RADIX = 1 << BITS;
+
+    static final int MASK = RADIX - 1;
+
+    /**
+     * 最高位的符号位
+     */
+    static final int SIGN = RADIX >>> 1;
+
+    /**
+     * int的趟数
+     */
+    static final int INT_DIGITS = Integer.SIZE / BITS;
+
+    /**
+     * long的趟数
+     */
+    static final int LONG_DIGITS = Long.SIZE / BITS;
+
+    /**
+     * 区间长度小于该值时使用内省排序
+     */
+    static final int RADIX_THRESHOLD = 256;
+
+    /**
+     * 每个线程复用的直方图，长度足够容纳long的所有趟
+     */
+    private static final ThreadLocal<int[]> COUNTS = ThreadLocal.withInitial(() -> new int[LONG_DIGITS * RADIX]);
+
+    /**
+     * 当前线程的直方图，前digits趟已清零
+     */
+    private static int[] counts(int digits) {
+        int[] counts = COUNTS.get();
+        Arrays.fill(counts, 0, digits * RADIX, 0);
+        return counts;
+    }
+
+    public static void sort(int[] arr) {
+        sort(arr, new int[arr.length]);
+    }
+
+    public static void sort(int[] arr, int[] buf) {
+        sort(arr, 0, arr.length - 1, buf);
+    }
+
+    /**
+     * 排序：对[low, high]区间排序，buf为辅助数组，长度不小于区间长度
+     */
+    public static void sort(int[] arr, int low, int high, int[] buf) {
+
+        if (buf.length < high - low + 1) {
+            throw new IllegalArgumentException("buf is too small: " + buf.length);
+        }
+
+        sort(arr, low, high, buf, 0, INT_DIGITS);
+    }
+
+    /**
+     * 按最低的digits个位排序，最高位（第INT_DIGITS位）按有符号处理
+     */
+    static void sort(int[] arr, int low, int high, int[] buf, int bufLow, int digits) {
+
+        int size = high - low + 1;
+        if (size < RADIX_THRESHOLD) {
+            IntroSort.sort(arr, low, high);
+            return;
+        }
+
+        // 一次扫描统计所有趟的直方图
+        int[] counts = counts(digits);
+        for (int i = low; i <= high; i++) {
+            int value = arr[i];
+            for (int d = 0; d < digits; d++) {
+                counts[d * RADIX + digit(value, d)]++;
+            }
+        }
+
+        int[] src = arr;
+        int srcLow = low;
+        int[] dst = buf;
+        int dstLow = bufLow;
+        for (int d = 0; d < digits; d++) {
+
+            // 所有元素该位相同，跳过该趟
+            int base = d * RADIX;
+            if (counts[base + digit(src[srcLow], d)] == size) {
+                continue;
+            }
+
+            // 前缀和计算每个桶的起始位置
+            int sum = 0;
+            for (int r = base; r < base + RADIX; r++) {
+                int count = counts[r];
+                counts[r] = sum;
+                sum += count;
+            }
+
+            for (int i = srcLow; i < srcLow + size; i++) {
+                int value = src[i];
+                dst[dstLow + counts[base + digit(value, d)]++] = value;
+            }
+
+            int[] tmp = src;
+            src = dst;
+            dst = tmp;
+            int tmpLow = srcLow;
+            srcLow = dstLow;
+            dstLow = tmpLow;
+        }
+
+        if (src != arr) {
+            System.arraycopy(src, srcLow, arr, low, size);
+        }
+    }
+
+    /**
+     * 取第d位，最高位翻转符号位
+     */
+    static int digit(int value, int d) {
+        int digit = (value >>> (d * BITS)) & MASK;
+        return d == INT_DIGITS - 1 ? digit ^ SIGN : digit;
+    }
+
+    public static void sort(long[] arr) {
+        sort(arr, new long[arr.length]);
+    }
+
+    public static void sort(long[] arr, long[] buf) {
+        sort(arr, 0, arr.length - 1, buf);
+    }
+
+    /**
+     * 排序：对[low, high]区间排序，buf为辅助数组，长度不小于区间长度
+     */
+    public static void sort(long[] arr, int low, int high, long[] buf) {
+
+        if (buf.length < high - low + 1) {
+            throw new IllegalArgumentException("buf is too small: " + buf.length);
+        }
+
+        sort(arr, low, high, buf, 0, LONG_DIGITS);
+    }
+
+    /**
+     * 按最低的digits个位排序，最高位（第LONG_DIGITS位）按有符号处理
+     */
+    static void sort(long[] arr, int low, int high, long[] buf, int bufLow, int digits) {
+
+        int size = high - low + 1;
+        if (size < RADIX_THRESHOLD) {
+            IntroSort.sort(arr, low, high);
+            return;
+        }
+
+        int[] counts = counts(digits);
+        for (int i = low; i <= high; i++) {
+            long value = arr[i];
+            for (int d = 0; d < digits; d++) {
+                counts[d * RADIX + digit(value, d)]++;
+            }
+        }
+
+        long[] src = arr;
+        int srcLow = low;
+        long[] dst = buf;
+        int dstLow = bufLow;
+        for (int d = 0; d < digits; d++) {
+
+            int base = d * RADIX;
+            if (counts[base + digit(src[srcLow], d)] == size) {
+                continue;
+            }
+
+            int sum = 0;
+            for (int r = base; r < base + RADIX; r++) {
+                int count = counts[r];
+                counts[r] = sum;
+                sum += count;
+            }
+
+            for (int i = srcLow; i < srcLow + size; i++) {
+                long value = src[i];
+                dst[dstLow + counts[base + digit(value, d)]++] = value;
+            }
+
+            long[] tmp = src;
+            src = dst;
+            dst = tmp;
+            int tmpLow = srcLow;
+            srcLow = dstLow;
+            dstLow = tmpLow;
+        }
+
+        if (src != arr) {
+            System.arraycopy(src, srcLow, arr, low, size);
+        }
+    }
+
+    static int digit(long value, int d) {
+        int digit = (int) (value >>> (d * BITS)) & MASK;
+        return d == LONG_DIGITS - 1 ? digit ^ SIGN : digit;
+    }
+
+    public static void main(String[] args) {
+
+        int[] arr = {3, -6, 5, 4, -7, 9, 8, 0, 2, 1};
+        sort(arr);
+        System.out.println(Arrays.toString(arr));
+    }
+}
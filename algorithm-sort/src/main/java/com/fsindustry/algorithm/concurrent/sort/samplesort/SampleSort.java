@@ -0,0 +1,300 @@
+package com.fsindustry.algorithm.concurrent.sort.samplesort;
+
+import java.lang.reflect.Array;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+
+import com.fsindustry.algorithm.concurrent.sort.mergesort.AdaptiveMergeSort;
+
+/**
+ * 并行样本排序：
+ * <p>
+ * 1. 随机抽样并排序，等距选出bucketCount-1个分割元素；
+ * 2. 将区间切块，每块并行对元素二分定位所属的桶，并统计直方图；
+ * 3. 对直方图做前缀和，各块并行分发到辅助数组；
+ * 4. 每个桶作为子任务并行排序，桶仍然较大时继续递归样本排序；
+ * <p>
+ * 分发时各块按原顺序写入桶，桶内使用稳定排序，因此整体排序是稳定的
+ */
+public class SampleSort {
+
+    /**
+     * 区间长度小于该值时使用串行排序
+     */
+    public static final int PARALLEL_THRESHOLD = 1 << 13;
+
+    /**
+     * 过采样倍数：每个桶抽取的样本数
+     */
+    static final int OVERSAMPLING = 16;
+
+    /**
+     * 最大桶数，桶编号可以用一个byte保存
+     */
+    static final int MAX_BUCKETS = 256;
+
+    /**
+     * 每个分块的最小长度
+     */
+    static final int MIN_CHUNK_SIZE = 1 << 12;
+
+    public static <T extends Comparable<? super T>> void sort(T[] arr) {
+        sort(arr, Comparator.<T>naturalOrder(), ForkJoinPool.commonPool());
+    }
+
+    public static <T> void sort(T[] arr, Comparator<? super T> comparator) {
+        sort(arr, comparator, ForkJoinPool.commonPool());
+    }
+
+    public static <T> void sort(T[] arr, Comparator<? super T> comparator, ForkJoinPool pool) {
+
+        if (arr.length < 2) {
+            return;
+        }
+
+        @SuppressWarnings("unchecked")
+        T[] buf = (T[]) Array.newInstance(arr.getClass().getComponentType(), arr.length);
+        int buckets = Math.min(MAX_BUCKETS, pool.getParallelism() * 4);
+        pool.invoke(new SortTask<>(arr, buf, 0, arr.length - 1, comparator, buckets));
+    }
+
+    /**
+     * 串行排序：使用稳定的自适应归并排序
+     */
+    static <T> void sequentialSort(T[] arr, int low, int high, Comparator<? super T> comparator) {
+        AdaptiveMergeSort.sort(arr, low, high, comparator, null);
+    }
+
+    /**
+     * 对[low, high]区间排序，排序结果写回arr，buf的同一区间作为辅助空间
+     */
+    private static class SortTask<T> extends RecursiveAction {
+
+        private static final long serialVersionUID = 1L;
+
+        private final T[] arr;
+
+        private final T[] buf;
+
+        private final int low;
+
+        private final int high;
+
+        private final Comparator<? super T> comparator;
+
+        private final int bucketCount;
+
+        SortTask(T[] arr, T[] buf, int low, int high, Comparator<? super T> comparator, int bucketCount) {
+            this.arr = arr;
+            this.buf = buf;
+            this.low = low;
+            this.high = high;
+            this.comparator = comparator;
+            this.bucketCount = bucketCount;
+        }
+
+        @Override
+        protected void compute() {
+
+            int size = high - low + 1;
+            int buckets = Math.min(bucketCount, size / MIN_CHUNK_SIZE);
+            if (size < PARALLEL_THRESHOLD || buckets < 2) {
+                sequentialSort(arr, low, high, comparator);
+                return;
+            }
+
+            // 1. 抽样选出分割元素
+            T[] splitters = splitters(buckets);
+
+            // 2. 并行定位每个元素所属的桶并统计直方图
+            int chunks = Math.max(1, Math.min(buckets, size / MIN_CHUNK_SIZE));
+            int chunkSize = (size + chunks - 1) / chunks;
+            byte[] oracle = new byte[size];
+            int[][] counts = new int[chunks][buckets];
+            List<ChunkTask<T>> tasks = new ArrayList<>(chunks);
+            for (int c = 0; c < chunks; c++) {
+                int from = low + c * chunkSize;
+                int to = Math.min(high, from + chunkSize - 1);
+                tasks.add(new ChunkTask<>(this, splitters, oracle, from, to, counts[c], false));
+            }
+            invokeAll(tasks);
+
+            // 3. 前缀和：counts[c][b]改写为第c块在第b个桶中的写入位置
+            int[] bucketLow = new int[buckets + 1];
+            int offset = low;
+            for (int b = 0; b < buckets; b++) {
+                bucketLow[b] = offset;
+                for (int c = 0; c < chunks; c++) {
+                    int count = counts[c][b];
+                    counts[c][b] = offset;
+                    offset += count;
+                }
+            }
+            bucketLow[buckets] = offset;
+
+            // 4. 并行分发到buf，再拷贝回arr
+            for (int c = 0; c < chunks; c++) {
+                ChunkTask<T> task = tasks.get(c);
+                tasks.set(c, new ChunkTask<>(this, splitters, oracle, task.low, task.high, counts[c], true));
+            }
+            invokeAll(tasks);
+            System.arraycopy(buf, low, arr, low, size);
+
+            // 5. 并行排序每个桶；桶没有变小时（大量相等元素）改用串行排序，保证递归终止
+            List<RecursiveAction> bucketTasks = new ArrayList<>(buckets);
+            for (int b = 0; b < buckets; b++) {
+
+                final int from = bucketLow[b];
+                final int to = bucketLow[b + 1] - 1;
+                if (from >= to) {
+                    continue;
+                }
+
+                if (to - from + 1 < size) {
+                    bucketTasks.add(new SortTask<>(arr, buf, from, to, comparator, bucketCount));
+                } else {
+                    bucketTasks.add(new RecursiveAction() {
+
+                        private static final long serialVersionUID = 1L;
+
+                        @Override
+                        protected void compute() {
+                            sequentialSort(arr, from, to, comparator);
+                        }
+                    });
+                }
+            }
+            invokeAll(bucketTasks);
+        }
+
+        /**
+         * 随机抽取buckets * OVERSAMPLING个样本，排序后等距选出buckets - 1个分割元素
+         */
+        private T[] splitters(int buckets) {
+
+            int sampleSize = buckets * OVERSAMPLING;
+            T[] sample = Arrays.copyOf(arr, sampleSize);
+            Random random = new Random(low ^ ((long) high << 32));
+            int size = high - low + 1;
+            for (int i = 0; i < sampleSize; i++) {
+                sample[i] = arr[low + random.nextInt(size)];
+            }
+            AdaptiveMergeSort.sort(sample, comparator);
+
+            T[] splitters = Arrays.copyOf(sample, buckets - 1);
+            for (int i = 0; i < buckets - 1; i++) {
+                splitters[i] = sample[(i + 1) * OVERSAMPLING];
+            }
+            return splitters;
+        }
+    }
+
+    /**
+     * 分块任务：scatter为false时定位桶并统计直方图，否则按offsets分发到buf
+     */
+    private static class ChunkTask<T> extends RecursiveAction {
+
+        private static final long serialVersionUID = 1L;
+
+        private final SortTask<T> parent;
+
+        private final T[] splitters;
+
+        private final byte[] oracle;
+
+        private final int low;
+
+        private final int high;
+
+        private final int[] offsets;
+
+        private final boolean scatter;
+
+        ChunkTask(SortTask<T> parent, T[] splitters, byte[] oracle, int low, int high, int[] offsets,
+                  boolean scatter) {
+            this.parent = parent;
+            this.splitters = splitters;
+            this.oracle = oracle;
+            this.low = low;
+            this.high = high;
+            this.offsets = offsets;
+            this.scatter = scatter;
+        }
+
+        @Override
+        protected void compute() {
+
+            T[] arr = parent.arr;
+            int base = parent.low;
+
+            if (scatter) {
+                T[] buf = parent.buf;
+                for (int i = low; i <= high; i++) {
+                    buf[offsets[oracle[i - base] & 0xFF]++] = arr[i];
+                }
+                return;
+            }
+
+            Comparator<? super T> comparator = parent.comparator;
+            for (int i = low; i <= high; i++) {
+                int bucket = bucketOf(arr[i], comparator);
+                oracle[i - base] = (byte) bucket;
+                offsets[bucket]++;
+            }
+        }
+
+        /**
+         * 二分查找：返回不大于value的分割元素个数，相等元素总是落入同一个桶
+         */
+        private int bucketOf(T value, Comparator<? super T> comparator) {
+
+            int low = 0;
+            int high = splitters.length;
+            while (low < high) {
+                int mid = (low + high) >>> 1;
+                if (comparator.compare(splitters[mid], value) <= 0) {
+                    low = mid + 1;
+                } else {
+                    high = mid;
+                }
+            }
+            return low;
+        }
+    }
+
+    /**
+     * 简单对比：Arrays.sort、Arrays.parallelSort与本实现的耗时
+     */
+    public static void main(String[] args) {
+
+        int size = args.length > 0 ? Integer.parseInt(args[0]) : 1 << 22;
+        Random random = new Random(1);
+        Integer[] origin = new Integer[size];
+        for (int i = 0; i < size; i++) {
+            origin[i] = random.nextInt();
+        }
+
+        for (int round = 0; round < 3; round++) {
+
+            Integer[] arr = origin.clone();
+            long start = System.nanoTime();
+            Arrays.sort(arr);
+            System.out.printf("Arrays.sort:          %d ms%n", (System.nanoTime() - start) / 1000000);
+
+            arr = origin.clone();
+            start = System.nanoTime();
+            Arrays.parallelSort(arr);
+            System.out.printf("Arrays.parallelSort:  %d ms%n", (System.nanoTime() - start) / 1000000);
+
+            arr = origin.clone();
+            start = System.nanoTime();
+            sort(arr);
+            System.out.printf("SampleSort.sort:      %d ms%n", (System.nanoTime() - start) / 1000000);
+        }
+    }
+}
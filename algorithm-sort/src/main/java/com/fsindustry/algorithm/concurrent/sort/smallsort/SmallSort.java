@@ -0,0 +1,612 @@
+package com.fsindustry.algorithm.concurrent.sort.smallsort;
+
+import java.util.Arrays;
+
+import com.fsindustry.algorithm.concurrent.sort.quicksort.IntroSort;
+
+/**
+ * 小数组排序：各排序算法共用的小区间内核，也适合大量短数组的排序
+ * <p>
+ * 1. 长度不超过16时使用Batcher奇偶归并排序网络，比较交换用Math.min/max实现，没有分支；
+ * 2. 长度不超过THRESHOLD时使用二分插入排序，查找插入位置的循环内无分支，元素整体用arraycopy后移；
+ * 3. 更长的区间交给IntroSort；
+ * <p>
+ * THRESHOLD可通过系统属性fsindustry.sort.smallThreshold在[MIN_THRESHOLD, MAX_THRESHOLD]内调整
+ */
+public class SmallSort {
+
+    /**
+     * 排序网络支持的最大长度
+     */
+    static final int NETWORK_SIZE = 16;
+
+    static final int MIN_THRESHOLD = 4;
+
+    /**
+     * 插入排序为O(n^2)，阈值过大会使快速排序、内省排序、快速选择整体退化
+     */
+    static final int MAX_THRESHOLD = 256;
+
+    /**
+     * 区间长度不超过该值时使用小数组排序
+     */
+    public static final int THRESHOLD = Math.min(MAX_THRESHOLD,
+            Math.max(MIN_THRESHOLD, Integer.getInteger("fsindustry.sort.smallThreshold", 32)));
+
+    /**
+     * NETWORKS[n]为长度n的排序网络，比较器(i, j)依次存放，i < j
+     */
+    static final int[][] NETWORKS = new int[NETWORK_SIZE + 1][];
+
+    static {
+        for (int n = 0; n <= NETWORK_SIZE; n++) {
+            NETWORKS[n] = network(n);
+        }
+    }
+
+    /**
+     * 生成长度n的排序网络：取不小于n的2的幂生成Batcher网络，去掉j >= n的比较器，
+     * 相当于在末尾补充无穷大元素，这些元素不会移动
+     */
+    static int[] network(int n) {
+
+        int size = 1;
+        while (size < n) {
+            size <<= 1;
+        }
+
+        int[] pairs = new int[size * size];
+        int count = 0;
+        for (int p = 1; p < size; p <<= 1) {
+            for (int k = p; k >= 1; k >>= 1) {
+                for (int j = k % p; j + k < size; j += 2 * k) {
+                    for (int i = 0; i < k && i + j + k < size; i++) {
+                        int a = i + j;
+                        int b = i + j + k;
+                        if (a / (2 * p) == b / (2 * p) && b < n) {
+                            pairs[count++] = a;
+                            pairs[count++] = b;
+                        }
+                    }
+                }
+            }
+        }
+
+        return Arrays.copyOf(pairs, count);
+    }
+
+    private static void checkRange(int length, int low, int high) {
+        if (low < 0 || high >= length || low > high + 1) {
+            throw new IllegalArgumentException("illegal range [" + low + ", " + high + "] of " + length);
+        }
+    }
+
+    public static void sortSmall(int[] arr) {
+        sortSmall(arr, 0, arr.length - 1);
+    }
+
+    /**
+     * 排序：区间超过THRESHOLD时交给IntroSort
+     */
+    public static void sortSmall(int[] arr, int low, int high) {
+
+        checkRange(arr.length, low, high);
+        if (high - low + 1 > THRESHOLD) {
+            IntroSort.sort(arr, low, high);
+            return;
+        }
+
+        sort(arr, low, high);
+    }
+
+    /**
+     * 小区间排序内核：不检查区间，区间长度应不超过THRESHOLD
+     */
+    public static void sort(int[] arr, int low, int high) {
+
+        int size = high - low + 1;
+        if (size <= NETWORK_SIZE) {
+            network(arr, low, size);
+        } else {
+            binaryInsertionSort(arr, low, high);
+        }
+    }
+
+    private static void network(int[] arr, int low, int size) {
+
+        int[] net = NETWORKS[size];
+        for (int c = 0; c < net.length; c += 2) {
+            int i = low + net[c];
+            int j = low + net[c + 1];
+            int a = arr[i];
+            int b = arr[j];
+            arr[i] = Math.min(a, b);
+            arr[j] = Math.max(a, b);
+        }
+    }
+
+    private static void binaryInsertionSort(int[] arr, int low, int high) {
+
+        for (int i = low + 1; i <= high; i++) {
+
+            int key = arr[i];
+            if (arr[i - 1] <= key) {
+                continue;
+            }
+
+            // 在[low, i)中查找第一个大于key的位置，循环体内无分支
+            int base = low;
+            int n = i - low;
+            while (n > 1) {
+                int half = n >>> 1;
+                base = arr[base + half - 1] <= key ? base + half : base;
+                n -= half;
+            }
+            if (arr[base] <= key) {
+                base++;
+            }
+
+            System.arraycopy(arr, base, arr, base + 1, i - base);
+            arr[base] = key;
+        }
+    }
+
+    /**
+     * 排序：long数组
+     */
+    public static void sortSmall(long[] arr) {
+        sortSmall(arr, 0, arr.length - 1);
+    }
+
+    public static void sortSmall(long[] arr, int low, int high) {
+
+        checkRange(arr.length, low, high);
+        if (high - low + 1 > THRESHOLD) {
+            IntroSort.sort(arr, low, high);
+            return;
+        }
+
+        sort(arr, low, high);
+    }
+
+    /**
+     * 小区间排序内核：不检查区间，区间长度应不超过THRESHOLD
+     */
+    public static void sort(long[] arr, int low, int high) {
+
+        int size = high - low + 1;
+        if (size <= NETWORK_SIZE) {
+            network(arr, low, size);
+        } else {
+            binaryInsertionSort(arr, low, high);
+        }
+    }
+
+    private static void network(long[] arr, int low, int size) {
+
+        int[] net = NETWORKS[size];
+        for (int c = 0; c < net.length; c += 2) {
+            int i = low + net[c];
+            int j = low + net[c + 1];
+            long a = arr[i];
+            long b = arr[j];
+            arr[i] = Math.min(a, b);
+            arr[j] = Math.max(a, b);
+        }
+    }
+
+    private static void binaryInsertionSort(long[] arr, int low, int high) {
+
+        for (int i = low + 1; i <= high; i++) {
+
+            long key = arr[i];
+            if (arr[i - 1] <= key) {
+                continue;
+            }
+
+            // 在[low, i)中查找第一个大于key的位置，循环体内无分支
+            int base = low;
+            int n = i - low;
+            while (n > 1) {
+                int half = n >>> 1;
+                base = arr[base + half - 1] <= key ? base + half : base;
+                n -= half;
+            }
+            if (arr[base] <= key) {
+                base++;
+            }
+
+            System.arraycopy(arr, base, arr, base + 1, i - base);
+            arr[base] = key;
+        }
+    }
+
+    /**
+     * 排序：short数组
+     */
+    public static void sortSmall(short[] arr) {
+        sortSmall(arr, 0, arr.length - 1);
+    }
+
+    public static void sortSmall(short[] arr, int low, int high) {
+
+        checkRange(arr.length, low, high);
+        if (high - low + 1 > THRESHOLD) {
+            IntroSort.sort(arr, low, high);
+            return;
+        }
+
+        sort(arr, low, high);
+    }
+
+    /**
+     * 小区间排序内核：不检查区间，区间长度应不超过THRESHOLD
+     */
+    public static void sort(short[] arr, int low, int high) {
+
+        int size = high - low + 1;
+        if (size <= NETWORK_SIZE) {
+            network(arr, low, size);
+        } else {
+            binaryInsertionSort(arr, low, high);
+        }
+    }
+
+    private static void network(short[] arr, int low, int size) {
+
+        int[] net = NETWORKS[size];
+        for (int c = 0; c < net.length; c += 2) {
+            int i = low + net[c];
+            int j = low + net[c + 1];
+            int a = arr[i];
+            int b = arr[j];
+            arr[i] = (short) Math.min(a, b);
+            arr[j] = (short) Math.max(a, b);
+        }
+    }
+
+    private static void binaryInsertionSort(short[] arr, int low, int high) {
+
+        for (int i = low + 1; i <= high; i++) {
+
+            short key = arr[i];
+            if (arr[i - 1] <= key) {
+                continue;
+            }
+
+            // 在[low, i)中查找第一个大于key的位置，循环体内无分支
+            int base = low;
+            int n = i - low;
+            while (n > 1) {
+                int half = n >>> 1;
+                base = arr[base + half - 1] <= key ? base + half : base;
+                n -= half;
+            }
+            if (arr[base] <= key) {
+                base++;
+            }
+
+            System.arraycopy(arr, base, arr, base + 1, i - base);
+            arr[base] = key;
+        }
+    }
+
+    /**
+     * 排序：char数组
+     */
+    public static void sortSmall(char[] arr) {
+        sortSmall(arr, 0, arr.length - 1);
+    }
+
+    public static void sortSmall(char[] arr, int low, int high) {
+
+        checkRange(arr.length, low, high);
+        if (high - low + 1 > THRESHOLD) {
+            IntroSort.sort(arr, low, high);
+            return;
+        }
+
+        sort(arr, low, high);
+    }
+
+    /**
+     * 小区间排序内核：不检查区间，区间长度应不超过THRESHOLD
+     */
+    public static void sort(char[] arr, int low, int high) {
+
+        int size = high - low + 1;
+        if (size <= NETWORK_SIZE) {
+            network(arr, low, size);
+        } else {
+            binaryInsertionSort(arr, low, high);
+        }
+    }
+
+    private static void network(char[] arr, int low, int size) {
+
+        int[] net = NETWORKS[size];
+        for (int c = 0; c < net.length; c += 2) {
+            int i = low + net[c];
+            int j = low + net[c + 1];
+            int a = arr[i];
+            int b = arr[j];
+            arr[i] = (char) Math.min(a, b);
+            arr[j] = (char) Math.max(a, b);
+        }
+    }
+
+    private static void binaryInsertionSort(char[] arr, int low, int high) {
+
+        for (int i = low + 1; i <= high; i++) {
+
+            char key = arr[i];
+            if (arr[i - 1] <= key) {
+                continue;
+            }
+
+            // 在[low, i)中查找第一个大于key的位置，循环体内无分支
+            int base = low;
+            int n = i - low;
+            while (n > 1) {
+                int half = n >>> 1;
+                base = arr[base + half - 1] <= key ? base + half : base;
+                n -= half;
+            }
+            if (arr[base] <= key) {
+                base++;
+            }
+
+            System.arraycopy(arr, base, arr, base + 1, i - base);
+            arr[base] = key;
+        }
+    }
+
+    /**
+     * 排序：byte数组
+     */
+    public static void sortSmall(byte[] arr) {
+        sortSmall(arr, 0, arr.length - 1);
+    }
+
+    public static void sortSmall(byte[] arr, int low, int high) {
+
+        checkRange(arr.length, low, high);
+        if (high - low + 1 > THRESHOLD) {
+            IntroSort.sort(arr, low, high);
+            return;
+        }
+
+        sort(arr, low, high);
+    }
+
+    /**
+     * 小区间排序内核：不检查区间，区间长度应不超过THRESHOLD
+     */
+    public static void sort(byte[] arr, int low, int high) {
+
+        int size = high - low + 1;
+        if (size <= NETWORK_SIZE) {
+            network(arr, low, size);
+        } else {
+            binaryInsertionSort(arr, low, high);
+        }
+    }
+
+    private static void network(byte[] arr, int low, int size) {
+
+        int[] net = NETWORKS[size];
+        for (int c = 0; c < net.length; c += 2) {
+            int i = low + net[c];
+            int j = low + net[c + 1];
+            int a = arr[i];
+            int b = arr[j];
+            arr[i] = (byte) Math.min(a, b);
+            arr[j] = (byte) Math.max(a, b);
+        }
+    }
+
+    private static void binaryInsertionSort(byte[] arr, int low, int high) {
+
+        for (int i = low + 1; i <= high; i++) {
+
+            byte key = arr[i];
+            if (arr[i - 1] <= key) {
+                continue;
+            }
+
+            // 在[low, i)中查找第一个大于key的位置，循环体内无分支
+            int base = low;
+            int n = i - low;
+            while (n > 1) {
+                int half = n >>> 1;
+                base = arr[base + half - 1] <= key ? base + half : base;
+                n -= half;
+            }
+            if (arr[base] <= key) {
+                base++;
+            }
+
+            System.arraycopy(arr, base, arr, base + 1, i - base);
+            arr[base] = key;
+        }
+    }
+
+    /**
+     * 排序：float数组
+     */
+    public static void sortSmall(float[] arr) {
+        sortSmall(arr, 0, arr.length - 1);
+    }
+
+    /**
+     * 排序：与Arrays.sort一致，-0.0排在0.0之前，NaN排在末尾
+     */
+    public static void sortSmall(float[] arr, int low, int high) {
+
+        // 二分插入排序不区分-0.0与0.0，超出排序网络长度的区间交给IntroSort
+        checkRange(arr.length, low, high);
+        if (high - low + 1 > NETWORK_SIZE) {
+            IntroSort.sort(arr, low, high);
+            return;
+        }
+
+        // NaN移到末尾，其余元素使用Math.min/max比较，-0.0排在0.0之前
+        int end = high;
+        for (int i = high; i >= low; i--) {
+            if (Float.isNaN(arr[i])) {
+                float tmp = arr[i];
+                arr[i] = arr[end];
+                arr[end--] = tmp;
+            }
+        }
+        high = end;
+
+        sort(arr, low, high);
+    }
+
+    /**
+     * 小区间排序内核：不检查区间，区间长度应不超过THRESHOLD；区间内不能含NaN，超过16个元素时-0.0与0.0视为相等
+     */
+    public static void sort(float[] arr, int low, int high) {
+
+        int size = high - low + 1;
+        if (size <= NETWORK_SIZE) {
+            network(arr, low, size);
+        } else {
+            binaryInsertionSort(arr, low, high);
+        }
+    }
+
+    private static void network(float[] arr, int low, int size) {
+
+        int[] net = NETWORKS[size];
+        for (int c = 0; c < net.length; c += 2) {
+            int i = low + net[c];
+            int j = low + net[c + 1];
+            float a = arr[i];
+            float b = arr[j];
+            arr[i] = Math.min(a, b);
+            arr[j] = Math.max(a, b);
+        }
+    }
+
+    private static void binaryInsertionSort(float[] arr, int low, int high) {
+
+        for (int i = low + 1; i <= high; i++) {
+
+            float key = arr[i];
+            if (arr[i - 1] <= key) {
+                continue;
+            }
+
+            // 在[low, i)中查找第一个大于key的位置，循环体内无分支
+            int base = low;
+            int n = i - low;
+            while (n > 1) {
+                int half = n >>> 1;
+                base = arr[base + half - 1] <= key ? base + half : base;
+                n -= half;
+            }
+            if (arr[base] <= key) {
+                base++;
+            }
+
+            System.arraycopy(arr, base, arr, base + 1, i - base);
+            arr[base] = key;
+        }
+    }
+
+    /**
+     * 排序：double数组
+     */
+    public static void sortSmall(double[] arr) {
+        sortSmall(arr, 0, arr.length - 1);
+    }
+
+    /**
+     * 排序：与Arrays.sort一致，-0.0排在0.0之前，NaN排在末尾
+     */
+    public static void sortSmall(double[] arr, int low, int high) {
+
+        // 二分插入排序不区分-0.0与0.0，超出排序网络长度的区间交给IntroSort
+        checkRange(arr.length, low, high);
+        if (high - low + 1 > NETWORK_SIZE) {
+            IntroSort.sort(arr, low, high);
+            return;
+        }
+
+        // NaN移到末尾，其余元素使用Math.min/max比较，-0.0排在0.0之前
+        int end = high;
+        for (int i = high; i >= low; i--) {
+            if (Double.isNaN(arr[i])) {
+                double tmp = arr[i];
+                arr[i] = arr[end];
+                arr[end--] = tmp;
+            }
+        }
+        high = end;
+
+        sort(arr, low, high);
+    }
+
+    /**
+     * 小区间排序内核：不检查区间，区间长度应不超过THRESHOLD；区间内不能含NaN，超过16个元素时-0.0与0.0视为相等
+     */
+    public static void sort(double[] arr, int low, int high) {
+
+        int size = high - low + 1;
+        if (size <= NETWORK_SIZE) {
+            network(arr, low, size);
+        } else {
+            binaryInsertionSort(arr, low, high);
+        }
+    }
+
+    private static void network(double[] arr, int low, int size) {
+
+        int[] net = NETWORKS[size];
+        for (int c = 0; c < net.length; c += 2) {
+            int i = low + net[c];
+            int j = low + net[c + 1];
+            double a = arr[i];
+            double b = arr[j];
+            arr[i] = Math.min(a, b);
+            arr[j] = Math.max(a, b);
+        }
+    }
+
+    private static void binaryInsertionSort(double[] arr, int low, int high) {
+
+        for (int i = low + 1; i <= high; i++) {
+
+            double key = arr[i];
+            if (arr[i - 1] <= key) {
+                continue;
+            }
+
+            // 在[low, i)中查找第一个大于key的位置，循环体内无分支
+            int base = low;
+            int n = i - low;
+            while (n > 1) {
+                int half = n >>> 1;
+                base = arr[base + half - 1] <= key ? base + half : base;
+                n -= half;
+            }
+            if (arr[base] <= key) {
+                base++;
+            }
+
+            System.arraycopy(arr, base, arr, base + 1, i - base);
+            arr[base] = key;
+        }
+    }
+
+    public static void main(String[] args) {
+
+        int[] arr = {3, 6, 5, 4, 7, 9, 8, 0, 2, 1};
+        sortSmall(arr);
+        System.out.println(Arrays.toString(arr));
+
+        System.out.println("comparators of 16: " + NETWORKS[NETWORK_SIZE].length / 2);
+    }
+}
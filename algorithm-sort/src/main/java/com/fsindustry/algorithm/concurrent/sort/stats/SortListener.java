@@ -0,0 +1,9 @@
+package com.fsindustry.algorithm.concurrent.sort.stats;
+
+/**
+ * 排序统计监听器：每次排序结束时回调，在排序线程中执行
+ */
+public interface SortListener {
+
+    void onSort(SortStats stats);
+}
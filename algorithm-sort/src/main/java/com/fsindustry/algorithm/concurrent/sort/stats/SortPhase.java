@@ -0,0 +1,27 @@
+package com.fsindustry.algorithm.concurrent.sort.stats;
+
+/**
+ * 排序阶段
+ */
+public enum SortPhase {
+
+    /**
+     * 快速排序切分
+     */
+    PARTITION,
+
+    /**
+     * 小区间排序
+     */
+    SMALL_SORT,
+
+    /**
+     * 建堆
+     */
+    HEAPIFY,
+
+    /**
+     * 堆排序的下沉排序
+     */
+    SORTDOWN
+}
@@ -0,0 +1,288 @@
+package com.fsindustry.algorithm.concurrent.sort.stats;
+
+/**
+ * 排序统计：比较次数、交换次数、移动次数、递归深度、切分不均衡度、各阶段耗时
+ * <p>
+ * 通过系统属性fsindustry.sort.stats=true开启；ENABLED为static final，
+ * 关闭时各统计方法被JIT内联后成为空操作，不影响排序性能。
+ * <p>
+ * 统计对象保存在ThreadLocal中，排序入口调用begin、出口调用end，
+ * 嵌套调用（如内省排序退化为堆排序）计入最外层排序；结束时回调SortListener。
+ * 并行排序的子任务在工作线程上通过attach挂接子统计对象，detach时合并到外层
+ */
+public final class SortStats {
+
+    /**
+     * 是否开启统计
+     */
+    public static final boolean ENABLED = Boolean.getBoolean("fsindustry.sort.stats");
+
+    private static final ThreadLocal<SortStats> CURRENT = new ThreadLocal<>();
+
+    private static volatile SortListener listener;
+
+    private final String algorithm;
+
+    private final int size;
+
+    /**
+     * 嵌套层数
+     */
+    private int nesting;
+
+    /**
+     * 子统计对象合并的目标，以及挂接前当前线程上的统计对象
+     */
+    private SortStats parent;
+
+    private SortStats previous;
+
+    private long compares;
+
+    private long swaps;
+
+    private long moves;
+
+    private int maxDepth;
+
+    private long partitions;
+
+    /**
+     * 所有切分的区间长度之和
+     */
+    private long partitioned;
+
+    /**
+     * 所有切分两侧长度之差的和
+     */
+    private long imbalance;
+
+    private final long[] phaseNanos = new long[SortPhase.values().length];
+
+    private long startNanos;
+
+    private long totalNanos;
+
+    private SortStats(String algorithm, int size) {
+        this.algorithm = algorithm;
+        this.size = size;
+    }
+
+    public static void setListener(SortListener sortListener) {
+        listener = sortListener;
+    }
+
+    /**
+     * 开始一次排序：当前线程已有排序进行中时，返回外层的统计对象
+     */
+    public static SortStats begin(String algorithm, int size) {
+
+        if (!ENABLED) {
+            return null;
+        }
+
+        SortStats stats = CURRENT.get();
+        if (null == stats) {
+            stats = new SortStats(algorithm, size);
+            stats.startNanos = System.nanoTime();
+            CURRENT.set(stats);
+        }
+        stats.nesting++;
+        return stats;
+    }
+
+    /**
+     * 结束一次排序：最外层结束时回调监听器
+     */
+    public static void end(SortStats stats) {
+
+        if (!ENABLED || null == stats || --stats.nesting > 0) {
+            return;
+        }
+
+        stats.totalNanos = System.nanoTime() - stats.startNanos;
+        CURRENT.remove();
+
+        SortListener l = listener;
+        if (null != l) {
+            l.onSort(stats);
+        }
+    }
+
+    /**
+     * 在当前线程上挂接parent的子统计对象，用于并行排序的子任务；
+     * 未开启统计或parent为null时返回null
+     */
+    public static SortStats attach(SortStats parent) {
+
+        if (!ENABLED || null == parent) {
+            return null;
+        }
+
+        SortStats child = new SortStats(parent.algorithm, parent.size);
+        child.parent = parent;
+        child.previous = CURRENT.get();
+        CURRENT.set(child);
+        return child;
+    }
+
+    /**
+     * 恢复挂接前的统计对象，并把子统计对象合并到parent
+     */
+    public static void detach(SortStats child) {
+
+        if (!ENABLED || null == child) {
+            return;
+        }
+
+        if (null == child.previous) {
+            CURRENT.remove();
+        } else {
+            CURRENT.set(child.previous);
+        }
+        child.parent.merge(child);
+    }
+
+    private synchronized void merge(SortStats child) {
+
+        compares += child.compares;
+        swaps += child.swaps;
+        moves += child.moves;
+        maxDepth = Math.max(maxDepth, child.maxDepth);
+        partitions += child.partitions;
+        partitioned += child.partitioned;
+        imbalance += child.imbalance;
+        for (int i = 0; i < phaseNanos.length; i++) {
+            phaseNanos[i] += child.phaseNanos[i];
+        }
+    }
+
+    public static void compare() {
+        if (ENABLED) {
+            SortStats stats = CURRENT.get();
+            if (null != stats) {
+                stats.compares++;
+            }
+        }
+    }
+
+    public static void swap() {
+        if (ENABLED) {
+            SortStats stats = CURRENT.get();
+            if (null != stats) {
+                stats.swaps++;
+            }
+        }
+    }
+
+    public static void move() {
+        if (ENABLED) {
+            SortStats stats = CURRENT.get();
+            if (null != stats) {
+                stats.moves++;
+            }
+        }
+    }
+
+    /**
+     * 记录递归深度，保留最大值
+     */
+    public static void depth(int depth) {
+        if (ENABLED) {
+            SortStats stats = CURRENT.get();
+            if (null != stats && depth > stats.maxDepth) {
+                stats.maxDepth = depth;
+            }
+        }
+    }
+
+    /**
+     * 记录一次切分：left、right为两侧（不含枢轴）的元素个数
+     */
+    public static void partition(int left, int right) {
+        if (ENABLED) {
+            SortStats stats = CURRENT.get();
+            if (null != stats) {
+                stats.partitions++;
+                stats.partitioned += left + right;
+                stats.imbalance += Math.abs(left - right);
+            }
+        }
+    }
+
+    /**
+     * 阶段开始：返回起始时间，关闭时返回0
+     */
+    public static long phaseStart() {
+        return ENABLED ? System.nanoTime() : 0;
+    }
+
+    public static void phaseEnd(SortPhase phase, long start) {
+        if (ENABLED) {
+            SortStats stats = CURRENT.get();
+            if (null != stats) {
+                stats.phaseNanos[phase.ordinal()] += System.nanoTime() - start;
+            }
+        }
+    }
+
+    public String algorithm() {
+        return algorithm;
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public long compares() {
+        return compares;
+    }
+
+    public long swaps() {
+        return swaps;
+    }
+
+    public long moves() {
+        return moves;
+    }
+
+    public int maxDepth() {
+        return maxDepth;
+    }
+
+    public long partitions() {
+        return partitions;
+    }
+
+    /**
+     * 平均不均衡度：0表示每次都对半切分，接近1表示每次切分都有一侧为空（对抗输入）
+     */
+    public double imbalance() {
+        return partitioned == 0 ? 0 : (double) imbalance / partitioned;
+    }
+
+    public long nanos(SortPhase phase) {
+        return phaseNanos[phase.ordinal()];
+    }
+
+    public long totalNanos() {
+        return totalNanos;
+    }
+
+    @Override
+    public String toString() {
+
+        StringBuilder sb = new StringBuilder(algorithm)
+                .append("{size=").append(size)
+                .append(", compares=").append(compares)
+                .append(", swaps=").append(swaps)
+                .append(", moves=").append(moves)
+                .append(", maxDepth=").append(maxDepth)
+                .append(", partitions=").append(partitions)
+                .append(", imbalance=").append(String.format("%.3f", imbalance()));
+        for (SortPhase phase : SortPhase.values()) {
+            sb.append(", ").append(phase.name().toLowerCase()).append("Nanos=").append(nanos(phase));
+        }
+        return sb.append(", totalNanos=").append(totalNanos).append('}').toString();
+    }
+}
@@ -0,0 +1,243 @@
+package com.fsindustry.algorithm.concurrent.sort.stringsort;
+
+import java.util.Arrays;
+
+/**
+ * 高位优先（MSD）字符串排序：
+ * <p>
+ * 按第d位将区间分发到256个桶（另加一个“已到末尾”的桶），再递归处理每个桶的第d+1位，
+ * 公共前缀只扫描一次，总代价与区分字符串所需的字符数成正比；小区间改用插入排序。
+ * <p>
+ * String按UTF-16编码单元排序，每个char拆为高、低两个字节依次处理，结果与String.compareTo一致；
+ * byte[]按无符号字节的字典序排序。
+ * <p>
+ * 所有元素落在同一个桶时（如ASCII字符的高字节）跳过分发，直接处理下一位；
+ * 计数数组按位数d复用，不在每次递归时分配
+ */
+public class MsdStringSort {
+
+    /**
+     * 基数
+     */
+    static final int RADIX = 256;
+
+    /**
+     * 区间长度不超过该值时使用插入排序
+     */
+    static final int CUTOFF = 15;
+
+    public static void sort(String[] arr) {
+        String[] aux = new String[arr.length];
+        sort(arr, 0, arr.length - 1, 0, aux, new Counts());
+    }
+
+    /**
+     * 第d个字节：char索引为d/2，偶数取高字节，奇数取低字节；超出末尾返回-1
+     */
+    private static int byteAt(String s, int d) {
+
+        int i = d >>> 1;
+        if (i >= s.length()) {
+            return -1;
+        }
+
+        char c = s.charAt(i);
+        return (d & 1) == 0 ? c >>> 8 : c & 0xFF;
+    }
+
+    private static void sort(String[] arr, int low, int high, int d, String[] aux, Counts counts) {
+
+        int[] count;
+        while (true) {
+
+            if (high <= low + CUTOFF) {
+                insertionSort(arr, low, high, d);
+                return;
+            }
+
+            // 统计频率，count[r + 2]对应字节r，count[1]对应已到末尾
+            count = counts.at(d);
+            for (int i = low; i <= high; i++) {
+                count[byteAt(arr[i], d) + 2]++;
+            }
+
+            // 只有一个非空桶：全部到达末尾则已有序，否则直接处理下一位
+            int first = byteAt(arr[low], d);
+            if (count[first + 2] != high - low + 1) {
+                break;
+            }
+            if (first < 0) {
+                return;
+            }
+            d++;
+        }
+
+
+        // 频率转换为起始索引
+        for (int r = 0; r < RADIX + 1; r++) {
+            count[r + 1] += count[r];
+        }
+
+        // 分发
+        for (int i = low; i <= high; i++) {
+            aux[count[byteAt(arr[i], d) + 1]++] = arr[i];
+        }
+
+        // 回写
+        System.arraycopy(aux, 0, arr, low, high - low + 1);
+
+        // 递归处理每个字节对应的桶，已到末尾的桶已经有序
+        for (int r = 0; r < RADIX; r++) {
+            sort(arr, low + count[r], low + count[r + 1] - 1, d + 1, aux, counts);
+        }
+    }
+
+    /**
+     * 插入排序：前d个字节已相同
+     */
+    private static void insertionSort(String[] arr, int low, int high, int d) {
+
+        for (int i = low + 1; i <= high; i++) {
+            String key = arr[i];
+            int j = i - 1;
+            while (j >= low && less(key, arr[j], d)) {
+                arr[j + 1] = arr[j];
+                j--;
+            }
+            arr[j + 1] = key;
+        }
+    }
+
+    /**
+     * 从第d个字节所在的char开始比较
+     */
+    private static boolean less(String v, String w, int d) {
+
+        int n = Math.min(v.length(), w.length());
+        for (int i = d >>> 1; i < n; i++) {
+            char a = v.charAt(i);
+            char b = w.charAt(i);
+            if (a != b) {
+                return a < b;
+            }
+        }
+        return v.length() < w.length();
+    }
+
+    public static void sort(byte[][] arr) {
+        byte[][] aux = new byte[arr.length][];
+        sort(arr, 0, arr.length - 1, 0, aux, new Counts());
+    }
+
+    /**
+     * 第d个无符号字节，超出末尾返回-1
+     */
+    private static int byteAt(byte[] s, int d) {
+        return d < s.length ? s[d] & 0xFF : -1;
+    }
+
+    private static void sort(byte[][] arr, int low, int high, int d, byte[][] aux, Counts counts) {
+
+        int[] count;
+        while (true) {
+
+            if (high <= low + CUTOFF) {
+                insertionSort(arr, low, high, d);
+                return;
+            }
+
+            count = counts.at(d);
+            for (int i = low; i <= high; i++) {
+                count[byteAt(arr[i], d) + 2]++;
+            }
+
+            int first = byteAt(arr[low], d);
+            if (count[first + 2] != high - low + 1) {
+                break;
+            }
+            if (first < 0) {
+                return;
+            }
+            d++;
+        }
+
+
+        for (int r = 0; r < RADIX + 1; r++) {
+            count[r + 1] += count[r];
+        }
+
+        for (int i = low; i <= high; i++) {
+            aux[count[byteAt(arr[i], d) + 1]++] = arr[i];
+        }
+
+        System.arraycopy(aux, 0, arr, low, high - low + 1);
+
+        for (int r = 0; r < RADIX; r++) {
+            sort(arr, low + count[r], low + count[r + 1] - 1, d + 1, aux, counts);
+        }
+    }
+
+    private static void insertionSort(byte[][] arr, int low, int high, int d) {
+
+        for (int i = low + 1; i <= high; i++) {
+            byte[] key = arr[i];
+            int j = i - 1;
+            while (j >= low && less(key, arr[j], d)) {
+                arr[j + 1] = arr[j];
+                j--;
+            }
+            arr[j + 1] = key;
+        }
+    }
+
+    /**
+     * 从第d个字节开始按无符号字节比较
+     */
+    static boolean less(byte[] v, byte[] w, int d) {
+
+        int n = Math.min(v.length, w.length);
+        for (int i = d; i < n; i++) {
+            int a = v[i] & 0xFF;
+            int b = w[i] & 0xFF;
+            if (a != b) {
+                return a < b;
+            }
+        }
+        return v.length < w.length;
+    }
+
+    /**
+     * 按位数d复用的计数数组：处理第d位时，子区间只使用d + 1及更深的数组
+     */
+    private static final class Counts {
+
+        private int[][] byDepth = new int[16][];
+
+        /**
+         * 第d位的计数数组，已清零
+         */
+        int[] at(int d) {
+
+            if (d >= byDepth.length) {
+                byDepth = Arrays.copyOf(byDepth, Math.max(d + 1, 2 * byDepth.length));
+            }
+
+            int[] count = byDepth[d];
+            if (null == count) {
+                count = new int[RADIX + 2];
+                byDepth[d] = count;
+            } else {
+                Arrays.fill(count, 0);
+            }
+            return count;
+        }
+    }
+
+    public static void main(String[] args) {
+
+        String[] arr = {"she", "sells", "seashells", "by", "the", "sea", "shore", "the", "shells", "she", "sells",
+                "are", "surely", "seashells"};
+        sort(arr);
+        System.out.println(Arrays.toString(arr));
+    }
+}
@@ -0,0 +1,233 @@
+package com.fsindustry.algorithm.concurrent.sort.stringsort;
+
+import java.util.Arrays;
+
+/**
+ * 三向字符串快速排序：
+ * <p>
+ * 按第d个字符三向切分，小于、大于部分继续按第d个字符排序，等于部分按第d+1个字符排序；
+ * 不需要辅助数组和计数数组，适合长公共前缀、字符集较大的场景
+ */
+public class ThreeWayStringQuickSort {
+
+    /**
+     * 区间长度不超过该值时使用插入排序
+     */
+    static final int CUTOFF = 15;
+
+    public static void sort(String[] arr) {
+        sort(arr, 0, arr.length - 1, 0);
+    }
+
+    /**
+     * 第d个字符，超出末尾返回-1
+     */
+    private static int charAt(String s, int d) {
+        return d < s.length() ? s.charAt(d) : -1;
+    }
+
+    private static void sort(String[] arr, int low, int high, int d) {
+
+        while (high > low + CUTOFF) {
+
+            // 三数取中选取枢轴字符
+            exch(arr, low, median3(arr, low, low + ((high - low) >>> 1), high, d));
+            int key = charAt(arr[low], d);
+
+            int lt = low;
+            int gt = high;
+            int i = low + 1;
+            while (i <= gt) {
+                int t = charAt(arr[i], d);
+                if (t < key) {
+                    exch(arr, lt++, i++);
+                } else if (t > key) {
+                    exch(arr, i, gt--);
+                } else {
+                    i++;
+                }
+            }
+
+            // [low, lt)、(gt, high]仍按第d个字符排序，[lt, gt]按下一个字符排序（key为-1时已全部相等）；
+            // 递归处理较小的两部分，循环处理最大的部分：递归的部分不超过一半，栈深度不超过log(n)，
+            // 与公共前缀的长度无关
+            int less = lt - low;
+            int equal = gt - lt + 1;
+            int greater = high - gt;
+            if (key >= 0 && equal >= less && equal >= greater) {
+                sort(arr, low, lt - 1, d);
+                sort(arr, gt + 1, high, d);
+                low = lt;
+                high = gt;
+                d++;
+            } else if (less >= greater) {
+                if (key >= 0) {
+                    sort(arr, lt, gt, d + 1);
+                }
+                sort(arr, gt + 1, high, d);
+                high = lt - 1;
+            } else {
+                sort(arr, low, lt - 1, d);
+                if (key >= 0) {
+                    sort(arr, lt, gt, d + 1);
+                }
+                low = gt + 1;
+            }
+        }
+
+        insertionSort(arr, low, high, d);
+    }
+
+    private static int median3(String[] arr, int i, int j, int k, int d) {
+
+        int a = charAt(arr[i], d);
+        int b = charAt(arr[j], d);
+        int c = charAt(arr[k], d);
+
+        if (a < b) {
+            if (b < c) {
+                return j;
+            }
+            return a < c ? k : i;
+        }
+
+        if (c < b) {
+            return j;
+        }
+        return c < a ? k : i;
+    }
+
+    private static void insertionSort(String[] arr, int low, int high, int d) {
+
+        for (int i = low + 1; i <= high; i++) {
+            String key = arr[i];
+            int j = i - 1;
+            while (j >= low && less(key, arr[j], d)) {
+                arr[j + 1] = arr[j];
+                j--;
+            }
+            arr[j + 1] = key;
+        }
+    }
+
+    /**
+     * 从第d个字符开始比较
+     */
+    private static boolean less(String v, String w, int d) {
+
+        int n = Math.min(v.length(), w.length());
+        for (int i = d; i < n; i++) {
+            char a = v.charAt(i);
+            char b = w.charAt(i);
+            if (a != b) {
+                return a < b;
+            }
+        }
+        return v.length() < w.length();
+    }
+
+    private static void exch(Object[] arr, int i, int j) {
+        Object tmp = arr[i];
+        arr[i] = arr[j];
+        arr[j] = tmp;
+    }
+
+    public static void sort(byte[][] arr) {
+        sort(arr, 0, arr.length - 1, 0);
+    }
+
+    /**
+     * 第d个无符号字节，超出末尾返回-1
+     */
+    private static int byteAt(byte[] s, int d) {
+        return d < s.length ? s[d] & 0xFF : -1;
+    }
+
+    private static void sort(byte[][] arr, int low, int high, int d) {
+
+        while (high > low + CUTOFF) {
+
+            exch(arr, low, median3(arr, low, low + ((high - low) >>> 1), high, d));
+            int key = byteAt(arr[low], d);
+
+            int lt = low;
+            int gt = high;
+            int i = low + 1;
+            while (i <= gt) {
+                int t = byteAt(arr[i], d);
+                if (t < key) {
+                    exch(arr, lt++, i++);
+                } else if (t > key) {
+                    exch(arr, i, gt--);
+                } else {
+                    i++;
+                }
+            }
+
+            int less = lt - low;
+            int equal = gt - lt + 1;
+            int greater = high - gt;
+            if (key >= 0 && equal >= less && equal >= greater) {
+                sort(arr, low, lt - 1, d);
+                sort(arr, gt + 1, high, d);
+                low = lt;
+                high = gt;
+                d++;
+            } else if (less >= greater) {
+                if (key >= 0) {
+                    sort(arr, lt, gt, d + 1);
+                }
+                sort(arr, gt + 1, high, d);
+                high = lt - 1;
+            } else {
+                sort(arr, low, lt - 1, d);
+                if (key >= 0) {
+                    sort(arr, lt, gt, d + 1);
+                }
+                low = gt + 1;
+            }
+        }
+
+        insertionSort(arr, low, high, d);
+    }
+
+    private static int median3(byte[][] arr, int i, int j, int k, int d) {
+
+        int a = byteAt(arr[i], d);
+        int b = byteAt(arr[j], d);
+        int c = byteAt(arr[k], d);
+
+        if (a < b) {
+            if (b < c) {
+                return j;
+            }
+            return a < c ? k : i;
+        }
+
+        if (c < b) {
+            return j;
+        }
+        return c < a ? k : i;
+    }
+
+    private static void insertionSort(byte[][] arr, int low, int high, int d) {
+
+        for (int i = low + 1; i <= high; i++) {
+            byte[] key = arr[i];
+            int j = i - 1;
+            while (j >= low && MsdStringSort.less(key, arr[j], d)) {
+                arr[j + 1] = arr[j];
+                j--;
+            }
+            arr[j + 1] = key;
+        }
+    }
+
+    public static void main(String[] args) {
+
+        String[] arr = {"she", "sells", "seashells", "by", "the", "sea", "shore", "the", "shells", "she", "sells",
+                "are", "surely", "seashells"};
+        sort(arr);
+        System.out.println(Arrays.toString(arr));
+    }
+}
@@ -0,0 +1,35 @@
+package com.fsindustry.algorithm.concurrent.sort;
+
+import java.util.Random;
+
+/**
+ * 测试数据：使用固定种子生成，失败时可以复现
+ */
+public class TestData {
+
+    /**
+     * [0, bound)内的随机int数组，种子由size和bound决定
+     */
+    public static int[] randomArr(int size, int bound) {
+
+        Random random = new Random(31L * size + bound);
+        int[] arr = new int[size];
+        for (int i = 0; i < size; i++) {
+            arr[i] = random.nextInt(bound);
+        }
+        return arr;
+    }
+
+    /**
+     * 与randomArr相同的数据，装箱为Integer数组
+     */
+    public static Integer[] randomBoxedArr(int size, int bound) {
+
+        int[] ints = randomArr(size, bound);
+        Integer[] arr = new Integer[size];
+        for (int i = 0; i < size; i++) {
+            arr[i] = ints[i];
+        }
+        return arr;
+    }
+}
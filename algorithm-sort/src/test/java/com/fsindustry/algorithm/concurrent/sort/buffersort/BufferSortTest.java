@@ -0,0 +1,116 @@
+package com.fsindustry.algorithm.concurrent.sort.buffersort;
+
+import java.nio.ByteBuffer;
+import java.nio.IntBuffer;
+import java.nio.LongBuffer;
+import java.util.Arrays;
+import java.util.Random;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+/**
+ * BufferSort测试
+ */
+public class BufferSortTest {
+
+    private static final int SIZE = 1 << 18;
+
+    private IntBuffer directInts(int[] arr) {
+        IntBuffer buf = ByteBuffer.allocateDirect(arr.length * Integer.BYTES).asIntBuffer();
+        buf.put(arr);
+        buf.clear();
+        return buf;
+    }
+
+    private LongBuffer directLongs(long[] arr) {
+        LongBuffer buf = ByteBuffer.allocateDirect(arr.length * Long.BYTES).asLongBuffer();
+        buf.put(arr);
+        buf.clear();
+        return buf;
+    }
+
+    private int[] toArray(IntBuffer buf) {
+        int[] arr = new int[buf.limit()];
+        buf.get(arr);
+        buf.clear();
+        return arr;
+    }
+
+    private long[] toArray(LongBuffer buf) {
+        long[] arr = new long[buf.limit()];
+        buf.get(arr);
+        buf.clear();
+        return arr;
+    }
+
+    @Test
+    public void sortInt() throws Exception {
+
+        Random random = new Random(1);
+        int[] arr = new int[SIZE];
+        for (int i = 0; i < SIZE; i++) {
+            arr[i] = random.nextInt();
+        }
+
+        int[] expected = arr.clone();
+        Arrays.sort(expected);
+
+        IntBuffer intro = directInts(arr);
+        BufferSort.introSort(intro);
+        Assert.assertArrayEquals(expected, toArray(intro));
+
+        IntBuffer radix = directInts(arr);
+        BufferSort.radixSort(radix, ByteBuffer.allocateDirect(SIZE * Integer.BYTES).asIntBuffer());
+        Assert.assertArrayEquals(expected, toArray(radix));
+    }
+
+    @Test
+    public void sortIntRange() throws Exception {
+
+        // 大量重复、有序输入
+        int[] arr = new int[SIZE];
+        for (int i = 0; i < SIZE; i++) {
+            arr[i] = i % 3 == 0 ? i : SIZE - i;
+        }
+
+        int low = 100;
+        int high = SIZE - 101;
+        int[] expected = arr.clone();
+        Arrays.sort(expected, low, high + 1);
+
+        IntBuffer intro = directInts(arr);
+        BufferSort.introSort(intro, low, high);
+        Assert.assertArrayEquals(expected, toArray(intro));
+
+        IntBuffer radix = directInts(arr);
+        BufferSort.radixSort(radix, low, high, IntBuffer.allocate(high - low + 1));
+        Assert.assertArrayEquals(expected, toArray(radix));
+    }
+
+    @Test
+    public void sortLong() throws Exception {
+
+        Random random = new Random(2);
+        long[] arr = new long[SIZE];
+        for (int i = 0; i < SIZE; i++) {
+            arr[i] = i % 2 == 0 ? random.nextLong() : random.nextInt(100) - 50;
+        }
+
+        long[] expected = arr.clone();
+        Arrays.sort(expected);
+
+        LongBuffer intro = directLongs(arr);
+        BufferSort.introSort(intro);
+        Assert.assertArrayEquals(expected, toArray(intro));
+
+        LongBuffer radix = directLongs(arr);
+        BufferSort.radixSort(radix, 0, SIZE - 1, ByteBuffer.allocateDirect(SIZE * Long.BYTES).asLongBuffer());
+        Assert.assertArrayEquals(expected, toArray(radix));
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void scratchTooSmall() throws Exception {
+        BufferSort.radixSort(IntBuffer.allocate(1000), IntBuffer.allocate(999));
+    }
+}
@@ -0,0 +1,133 @@
+package com.fsindustry.algorithm.concurrent.sort.externalsort;
+
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.Arrays;
+import java.util.Random;
+
+import org.junit.Assert;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import com.fsindustry.algorithm.concurrent.common.io.BinaryIn;
+import com.fsindustry.algorithm.concurrent.common.io.BinaryOut;
+
+/**
+ * ExternalSort测试
+ */
+public class ExternalSortTest {
+
+    private static final int SIZE = 100000;
+
+    @Rule
+    public TemporaryFolder folder = new TemporaryFolder();
+
+    @Test
+    public void sortInts() throws Exception {
+
+        Random random = new Random(1);
+        int[] expected = new int[SIZE];
+        File input = folder.newFile("ints.bin");
+        BinaryOut out = new BinaryOut(input.getPath());
+        for (int i = 0; i < SIZE; i++) {
+            expected[i] = random.nextInt();
+            out.write(expected[i]);
+        }
+        out.close();
+        Arrays.sort(expected);
+
+        // 每块1024个int，共98个顺串，fanIn为4时需要多趟归并
+        File tmpDir = folder.newFolder("runs");
+        File output = folder.newFile("ints.sorted");
+        new ExternalSort(8 << 10, 4, tmpDir).sortInts(input, output);
+
+        try (InputStream is = new FileInputStream(output)) {
+            BinaryIn in = new BinaryIn(is);
+            for (int i = 0; i < SIZE; i++) {
+                Assert.assertEquals(expected[i], in.readInt());
+            }
+            Assert.assertTrue(in.isEmpty());
+        }
+
+        String[] left = tmpDir.list();
+        Assert.assertNotNull(left);
+        Assert.assertEquals(0, left.length);
+    }
+
+    @Test
+    public void sortLongs() throws Exception {
+
+        Random random = new Random(2);
+        long[] expected = new long[SIZE];
+        File input = folder.newFile("longs.bin");
+        BinaryOut out = new BinaryOut(input.getPath());
+        for (int i = 0; i < SIZE; i++) {
+            expected[i] = random.nextLong();
+            out.write(expected[i]);
+        }
+        out.close();
+        Arrays.sort(expected);
+
+        File output = folder.newFile("longs.sorted");
+        new ExternalSort(64 << 10, 16, folder.newFolder("runs")).sortLongs(input, output);
+
+        try (InputStream is = new FileInputStream(output)) {
+            BinaryIn in = new BinaryIn(is);
+            for (int i = 0; i < SIZE; i++) {
+                Assert.assertEquals(expected[i], in.readLong());
+            }
+            Assert.assertTrue(in.isEmpty());
+        }
+    }
+
+    @Test
+    public void sortEmpty() throws Exception {
+
+        File input = folder.newFile("empty.bin");
+        File output = folder.newFile("empty.sorted");
+        new ExternalSort().sortInts(input, output);
+
+        Assert.assertEquals(0, output.length());
+    }
+
+    @Test
+    public void sortSmallInputWithHugeBudget() throws Exception {
+
+        // 缓冲区按元素个数分配，不按内存预算分配
+        Random random = new Random(3);
+        long[] expected = new long[1000];
+        File input = folder.newFile("small.bin");
+        BinaryOut out = new BinaryOut(input.getPath());
+        for (int i = 0; i < expected.length; i++) {
+            expected[i] = random.nextLong();
+            out.write(expected[i]);
+        }
+        out.close();
+        Arrays.sort(expected);
+
+        File output = folder.newFile("small.sorted");
+        new ExternalSort(Long.MAX_VALUE, 16, folder.newFolder("runs")).sortLongs(input, output);
+
+        try (InputStream is = new FileInputStream(output)) {
+            BinaryIn in = new BinaryIn(is);
+            for (long value : expected) {
+                Assert.assertEquals(value, in.readLong());
+            }
+            Assert.assertTrue(in.isEmpty());
+        }
+    }
+
+    @Test(expected = IOException.class)
+    public void rejectsTruncatedInput() throws Exception {
+
+        File input = folder.newFile("truncated.bin");
+        try (FileOutputStream out = new FileOutputStream(input)) {
+            out.write(new byte[]{0, 0, 0, 1, 0, 0});
+        }
+        new ExternalSort().sortInts(input, folder.newFile("truncated.sorted"));
+    }
+}
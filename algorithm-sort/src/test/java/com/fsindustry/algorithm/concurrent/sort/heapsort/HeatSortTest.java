@@ -0,0 +1,120 @@
+package com.fsindustry.algorithm.concurrent.sort.heapsort;
+
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.Random;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+import com.fsindustry.algorithm.concurrent.sort.TestData;
+
+/**
+ * HeatSort测试
+ */
+public class HeatSortTest {
+
+    @Test
+    public void sortComparable() throws Exception {
+
+        Integer[] arr = {3, 6, 5, 4, 7, 9, 8, 0, 2, 1};
+        HeatSort.sort(arr);
+        Assert.assertArrayEquals(new Integer[]{0, 1, 2, 3, 4, 5, 6, 7, 8, 9}, arr);
+    }
+
+    @Test
+    public void sortIntRange() throws Exception {
+
+        Random random = new Random(1);
+        int[] arr = new int[1000];
+        for (int i = 0; i < arr.length; i++) {
+            arr[i] = random.nextInt(100);
+        }
+
+        int[] expected = arr.clone();
+        Arrays.sort(expected, 100, 901);
+
+        HeatSort.sort(arr, 100, 900);
+        Assert.assertArrayEquals(expected, arr);
+    }
+
+    @Test
+    public void sortFloatingPointTotalOrder() throws Exception {
+
+        float[] floats = {1.0f, Float.NaN, -0.0f, 0.0f, -1.0f, Float.NaN, 0.0f, -0.0f, Float.NEGATIVE_INFINITY};
+        float[] expectedFloats = floats.clone();
+        Arrays.sort(expectedFloats);
+        HeatSort.sort(floats, 0, floats.length - 1);
+        Assert.assertArrayEquals(expectedFloats, floats, 0.0f);
+        Assert.assertEquals(Float.floatToRawIntBits(-0.0f), Float.floatToRawIntBits(floats[2]));
+
+        double[] doubles = {0.0d, Double.NaN, -0.0d, 2.0d, -0.0d, Double.POSITIVE_INFINITY, -2.0d};
+        double[] expectedDoubles = doubles.clone();
+        Arrays.sort(expectedDoubles);
+        HeatSort.sort(doubles, 0, doubles.length - 1);
+        for (int i = 0; i < doubles.length; i++) {
+            Assert.assertEquals(Double.doubleToRawLongBits(expectedDoubles[i]), Double.doubleToRawLongBits(doubles[i]));
+        }
+    }
+
+    @Test
+    public void bottomUpSortInt() throws Exception {
+
+        for (int size : new int[]{0, 1, 2, 3, 10, 1000, 100000}) {
+
+            int[] arr = TestData.randomArr(size, size / 3 + 1);
+            int[] expected = arr.clone();
+            Arrays.sort(expected);
+
+            HeatSort.bottomUpSort(arr);
+            Assert.assertArrayEquals(expected, arr);
+        }
+    }
+
+    @Test
+    public void bottomUpSortLongRange() throws Exception {
+
+        Random random = new Random(2);
+        long[] arr = new long[10000];
+        for (int i = 0; i < arr.length; i++) {
+            arr[i] = random.nextLong();
+        }
+
+        long[] expected = arr.clone();
+        Arrays.sort(expected, 500, 9001);
+
+        HeatSort.bottomUpSort(arr, 500, 9000);
+        Assert.assertArrayEquals(expected, arr);
+    }
+
+    @Test
+    public void quaternarySort() throws Exception {
+
+        for (int size : new int[]{0, 1, 2, 5, 6, 17, 1000, 100000}) {
+
+            int[] arr = TestData.randomArr(size, Integer.MAX_VALUE);
+            int[] expected = arr.clone();
+            Arrays.sort(expected);
+
+            HeatSort.quaternarySort(arr);
+            Assert.assertArrayEquals(expected, arr);
+
+            long[] longArr = new long[size];
+            for (int i = 0; i < size; i++) {
+                longArr[i] = -arr[i];
+            }
+            HeatSort.quaternarySort(longArr);
+            for (int i = 0; i < size; i++) {
+                Assert.assertEquals(-expected[size - 1 - i], longArr[i]);
+            }
+        }
+    }
+
+    @Test
+    public void bottomUpSortComparator() throws Exception {
+
+        String[] arr = {"d", "b", "e", "a", "c", "b"};
+        HeatSort.bottomUpSort(arr, Comparator.reverseOrder());
+        Assert.assertArrayEquals(new String[]{"e", "d", "c", "b", "b", "a"}, arr);
+    }
+}
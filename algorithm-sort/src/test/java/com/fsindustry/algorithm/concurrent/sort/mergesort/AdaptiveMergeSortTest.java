@@ -0,0 +1,102 @@
+package com.fsindustry.algorithm.concurrent.sort.mergesort;
+
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.Random;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+import com.fsindustry.algorithm.concurrent.sort.TestData;
+
+/**
+ * AdaptiveMergeSort测试
+ */
+public class AdaptiveMergeSortTest {
+
+    private static final int SIZE = 1 << 18;
+
+    @Test
+    public void sort() throws Exception {
+
+        for (int size : new int[]{0, 1, 2, 31, 32, 33, 1000, SIZE}) {
+
+            Integer[] arr = TestData.randomBoxedArr(size, Integer.MAX_VALUE);
+            Integer[] expected = arr.clone();
+            Arrays.sort(expected);
+
+            AdaptiveMergeSort.sort(arr);
+            Assert.assertArrayEquals(expected, arr);
+        }
+    }
+
+    @Test
+    public void stable() throws Exception {
+
+        // 按高位排序，低位记录原始顺序
+        Integer[] arr = TestData.randomBoxedArr(SIZE, 1000);
+        for (int i = 0; i < SIZE; i++) {
+            arr[i] = arr[i] * SIZE + i;
+        }
+
+        AdaptiveMergeSort.sort(arr, Comparator.comparingInt(v -> v / SIZE));
+        for (int i = 1; i < SIZE; i++) {
+            Assert.assertTrue(arr[i - 1] < arr[i]);
+        }
+    }
+
+    @Test
+    public void presorted() throws Exception {
+
+        Integer[] arr = new Integer[SIZE];
+        for (int i = 0; i < SIZE; i++) {
+            arr[i] = i;
+        }
+
+        AtomicLong comparisons = new AtomicLong();
+        AdaptiveMergeSort.sort(arr, (a, b) -> {
+            comparisons.incrementAndGet();
+            return Integer.compare(a, b);
+        });
+        Assert.assertEquals(SIZE - 1, comparisons.get());
+
+        // 逆序输入翻转为一个顺串
+        for (int i = 0; i < SIZE; i++) {
+            arr[i] = SIZE - i;
+        }
+        comparisons.set(0);
+        AdaptiveMergeSort.sort(arr, (a, b) -> {
+            comparisons.incrementAndGet();
+            return Integer.compare(a, b);
+        });
+        Assert.assertEquals(SIZE - 1, comparisons.get());
+        Assert.assertEquals(1, (int) arr[0]);
+    }
+
+    @Test
+    public void nearlySortedWithWork() throws Exception {
+
+        Random random = new Random(1);
+        Integer[] work = null;
+        for (int round = 0; round < 3; round++) {
+
+            Integer[] arr = new Integer[SIZE];
+            for (int i = 0; i < SIZE; i++) {
+                arr[i] = i;
+            }
+
+            // 尾部少量乱序
+            for (int i = SIZE - 1000; i < SIZE; i++) {
+                arr[i] = random.nextInt(SIZE);
+            }
+
+            Integer[] expected = arr.clone();
+            Arrays.sort(expected);
+
+            work = AdaptiveMergeSort.sort(arr, 0, SIZE - 1, Comparator.<Integer>naturalOrder(), work);
+            Assert.assertArrayEquals(expected, arr);
+            Assert.assertNotNull(work);
+        }
+    }
+}
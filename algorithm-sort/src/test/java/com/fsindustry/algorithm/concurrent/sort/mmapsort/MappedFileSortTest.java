@@ -0,0 +1,86 @@
+package com.fsindustry.algorithm.concurrent.sort.mmapsort;
+
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.InputStream;
+import java.util.Arrays;
+import java.util.Random;
+
+import org.junit.Assert;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import com.fsindustry.algorithm.concurrent.common.io.BinaryIn;
+import com.fsindustry.algorithm.concurrent.common.io.BinaryOut;
+
+/**
+ * MappedFileSort测试
+ */
+public class MappedFileSortTest {
+
+    private static final int SIZE = 100000;
+
+    @Rule
+    public TemporaryFolder folder = new TemporaryFolder();
+
+    @Test
+    public void sortInts() throws Exception {
+
+        Random random = new Random(1);
+        int[] expected = new int[SIZE];
+        File file = folder.newFile("ints.bin");
+        BinaryOut out = new BinaryOut(file.getPath());
+        for (int i = 0; i < SIZE; i++) {
+            expected[i] = random.nextInt();
+            out.write(expected[i]);
+        }
+        out.close();
+        Arrays.sort(expected);
+
+        // 每段64KB，数据跨越多个映射
+        MappedFileSort.sortInts(file, 64 << 10);
+
+        try (InputStream is = new FileInputStream(file)) {
+            BinaryIn in = new BinaryIn(is);
+            for (int i = 0; i < SIZE; i++) {
+                Assert.assertEquals(expected[i], in.readInt());
+            }
+        }
+    }
+
+    @Test
+    public void sortLongs() throws Exception {
+
+        Random random = new Random(2);
+        long[] expected = new long[SIZE];
+        File file = folder.newFile("longs.bin");
+        BinaryOut out = new BinaryOut(file.getPath());
+        for (int i = 0; i < SIZE; i++) {
+            expected[i] = random.nextInt(100) - 50;
+            out.write(expected[i]);
+        }
+        out.close();
+        Arrays.sort(expected);
+
+        MappedFileSort.sortLongs(file, 100 << 10);
+
+        try (InputStream is = new FileInputStream(file)) {
+            BinaryIn in = new BinaryIn(is);
+            for (int i = 0; i < SIZE; i++) {
+                Assert.assertEquals(expected[i], in.readLong());
+            }
+        }
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void illegalFileSize() throws Exception {
+
+        File file = folder.newFile("bad.bin");
+        BinaryOut out = new BinaryOut(file.getPath());
+        out.write((short) 1);
+        out.close();
+
+        MappedFileSort.sortInts(file);
+    }
+}
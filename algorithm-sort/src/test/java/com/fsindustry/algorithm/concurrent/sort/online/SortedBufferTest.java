@@ -0,0 +1,99 @@
+package com.fsindustry.algorithm.concurrent.sort.online;
+
+import java.util.Arrays;
+import java.util.PrimitiveIterator;
+import java.util.Random;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+/**
+ * SortedBuffer测试
+ */
+public class SortedBufferTest {
+
+    @Test
+    public void addBatch() throws Exception {
+
+        Random random = new Random(1);
+        SortedBuffer buffer = new SortedBuffer();
+        int[] all = new int[0];
+        for (int round = 0; round < 500; round++) {
+
+            int[] batch = new int[random.nextInt(200)];
+            for (int i = 0; i < batch.length; i++) {
+                batch[i] = random.nextInt(10000);
+            }
+            buffer.addBatch(batch);
+
+            int oldLength = all.length;
+            all = Arrays.copyOf(all, oldLength + batch.length);
+            System.arraycopy(batch, 0, all, oldLength, batch.length);
+        }
+
+        Arrays.sort(all);
+        Assert.assertEquals(all.length, buffer.size());
+        Assert.assertArrayEquals(all, buffer.toArray());
+
+        // 层长度按至少1.5倍递增，层数为O(log n)
+        Assert.assertTrue(buffer.runCount() <= 2 * (32 - Integer.numberOfLeadingZeros(all.length)));
+    }
+
+    @Test
+    public void iteratorIsSnapshot() throws Exception {
+
+        SortedBuffer buffer = new SortedBuffer();
+        buffer.addBatch(new int[]{5, 3, 1});
+        buffer.addBatch(new int[]{9, 7, 4, 2, 8}, 1, 3);
+
+        PrimitiveIterator.OfInt it = buffer.iterator();
+        buffer.addBatch(new int[]{0});
+
+        int[] seen = new int[6];
+        int count = 0;
+        while (it.hasNext()) {
+            seen[count++] = it.nextInt();
+        }
+        Assert.assertArrayEquals(new int[]{1, 2, 3, 4, 5, 7}, Arrays.copyOf(seen, count));
+        Assert.assertArrayEquals(new int[]{0, 1, 2, 3, 4, 5, 7}, buffer.toArray());
+    }
+
+    @Test
+    public void backgroundCompaction() throws Exception {
+
+        ExecutorService executor = Executors.newSingleThreadExecutor();
+        SortedBuffer buffer = new SortedBuffer(executor);
+
+        // 多个线程并发追加
+        Thread[] writers = new Thread[4];
+        for (int t = 0; t < writers.length; t++) {
+            final int seed = t;
+            writers[t] = new Thread(() -> {
+                Random random = new Random(seed);
+                for (int round = 0; round < 200; round++) {
+                    int[] batch = new int[100];
+                    for (int i = 0; i < batch.length; i++) {
+                        batch[i] = random.nextInt();
+                    }
+                    buffer.addBatch(batch);
+                }
+            });
+            writers[t].start();
+        }
+        for (Thread writer : writers) {
+            writer.join();
+        }
+
+        executor.shutdown();
+        Assert.assertTrue(executor.awaitTermination(1, TimeUnit.MINUTES));
+
+        int[] arr = buffer.toArray();
+        Assert.assertEquals(4 * 200 * 100, arr.length);
+        for (int i = 1; i < arr.length; i++) {
+            Assert.assertTrue(arr[i - 1] <= arr[i]);
+        }
+    }
+}
@@ -0,0 +1,109 @@
+package com.fsindustry.algorithm.concurrent.sort.quicksort;
+
+import java.util.Arrays;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+import com.fsindustry.algorithm.concurrent.sort.TestData;
+import com.fsindustry.algorithm.concurrent.sort.heapsort.HeatSort;
+
+/**
+ * CoSort测试
+ */
+public class CoSortTest {
+
+    private static final int SIZE = 100000;
+
+    @Test
+    public void sortWithIntValues() throws Exception {
+
+        int[] keys = TestData.randomArr(SIZE, 1000);
+        int[] values = new int[SIZE];
+        for (int i = 0; i < SIZE; i++) {
+            values[i] = keys[i] * 7 + 3;
+        }
+
+        int[] expected = keys.clone();
+        Arrays.sort(expected);
+
+        CoSort.sort(keys, values);
+        Assert.assertArrayEquals(expected, keys);
+        for (int i = 0; i < SIZE; i++) {
+            Assert.assertEquals(keys[i] * 7 + 3, values[i]);
+        }
+    }
+
+    @Test
+    public void sortWithLongValues() throws Exception {
+
+        int[] keys = TestData.randomArr(SIZE, Integer.MAX_VALUE);
+        long[] values = new long[SIZE];
+        for (int i = 0; i < SIZE; i++) {
+            values[i] = -(long) keys[i];
+        }
+
+        CoSort.sort(keys, values);
+        for (int i = 0; i < SIZE; i++) {
+            Assert.assertTrue(i == 0 || keys[i - 1] <= keys[i]);
+            Assert.assertEquals(-(long) keys[i], values[i]);
+        }
+    }
+
+    @Test
+    public void sortWithPayloads() throws Exception {
+
+        int[] keys = TestData.randomArr(SIZE, Integer.MAX_VALUE);
+        int[] origin = keys.clone();
+        int[] rowIds = new int[SIZE];
+        int[] doubled = new int[SIZE];
+        for (int i = 0; i < SIZE; i++) {
+            rowIds[i] = i;
+            doubled[i] = keys[i] * 2;
+        }
+
+        CoSort.sort(keys, rowIds, doubled);
+        for (int i = 0; i < SIZE; i++) {
+            Assert.assertTrue(i == 0 || keys[i - 1] <= keys[i]);
+            Assert.assertEquals(keys[i], origin[rowIds[i]]);
+            Assert.assertEquals(keys[i] * 2, doubled[i]);
+        }
+    }
+
+    @Test
+    public void argsort() throws Exception {
+
+        int[] keys = TestData.randomArr(SIZE, 100);
+        int[] origin = keys.clone();
+
+        int[] perm = CoSort.argsort(keys);
+        Assert.assertArrayEquals(origin, keys);
+        for (int i = 1; i < SIZE; i++) {
+            Assert.assertTrue(keys[perm[i - 1]] <= keys[perm[i]]);
+        }
+
+        long[] column = new long[SIZE];
+        for (int i = 0; i < SIZE; i++) {
+            column[i] = keys[i];
+        }
+        int[] permCopy = perm.clone();
+        CoSort.permute(column, perm);
+        Assert.assertArrayEquals(permCopy, perm);
+        for (int i = 1; i < SIZE; i++) {
+            Assert.assertTrue(column[i - 1] <= column[i]);
+        }
+    }
+
+    @Test
+    public void heapCoSort() throws Exception {
+
+        int[] keys = TestData.randomArr(1000, 50);
+        int[] values = keys.clone();
+
+        HeatSort.sort(keys, values, 0, keys.length - 1);
+        Assert.assertArrayEquals(keys, values);
+        for (int i = 1; i < keys.length; i++) {
+            Assert.assertTrue(keys[i - 1] <= keys[i]);
+        }
+    }
+}
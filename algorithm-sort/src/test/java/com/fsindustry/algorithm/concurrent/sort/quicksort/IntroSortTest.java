@@ -0,0 +1,168 @@
+package com.fsindustry.algorithm.concurrent.sort.quicksort;
+
+import java.util.Arrays;
+import java.util.Random;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+/**
+ * IntroSort测试
+ */
+public class IntroSortTest {
+
+    private static final int SIZE = 1 << 20;
+
+    private void assertSorted(int[] arr) {
+
+        int[] expected = arr.clone();
+        Arrays.sort(expected);
+
+        IntroSort.sort(arr);
+        Assert.assertArrayEquals(expected, arr);
+    }
+
+    @Test
+    public void random() throws Exception {
+
+        Random random = new Random(1);
+        int[] arr = new int[SIZE];
+        for (int i = 0; i < SIZE; i++) {
+            arr[i] = random.nextInt();
+        }
+        assertSorted(arr);
+    }
+
+    @Test
+    public void sorted() throws Exception {
+
+        int[] arr = new int[SIZE];
+        for (int i = 0; i < SIZE; i++) {
+            arr[i] = i;
+        }
+        assertSorted(arr);
+    }
+
+    @Test
+    public void reversed() throws Exception {
+
+        int[] arr = new int[SIZE];
+        for (int i = 0; i < SIZE; i++) {
+            arr[i] = SIZE - i;
+        }
+        assertSorted(arr);
+    }
+
+    @Test
+    public void organPipe() throws Exception {
+
+        int[] arr = new int[SIZE];
+        for (int i = 0; i < SIZE; i++) {
+            arr[i] = Math.min(i, SIZE - i);
+        }
+        assertSorted(arr);
+    }
+
+    @Test
+    public void allEqual() throws Exception {
+
+        int[] arr = new int[SIZE];
+        Arrays.fill(arr, 7);
+        assertSorted(arr);
+    }
+
+    @Test
+    public void range() throws Exception {
+
+        int[] arr = {9, 8, 7, 6, 5, 4, 3, 2, 1, 0};
+        IntroSort.sort(arr, 2, 7);
+        Assert.assertArrayEquals(new int[]{9, 8, 2, 3, 4, 5, 6, 7, 1, 0}, arr);
+    }
+
+    @Test
+    public void sortLong() throws Exception {
+
+        Random random = new Random(2);
+        long[] arr = new long[SIZE];
+        for (int i = 0; i < SIZE; i++) {
+            arr[i] = random.nextLong();
+        }
+
+        long[] expected = arr.clone();
+        Arrays.sort(expected);
+
+        IntroSort.sort(arr);
+        Assert.assertArrayEquals(expected, arr);
+    }
+
+    @Test
+    public void sortShortCharByte() throws Exception {
+
+        Random random = new Random(3);
+        short[] shorts = new short[SIZE];
+        char[] chars = new char[SIZE];
+        byte[] bytes = new byte[SIZE];
+        for (int i = 0; i < SIZE; i++) {
+            int value = random.nextInt();
+            shorts[i] = (short) value;
+            chars[i] = (char) value;
+            bytes[i] = (byte) value;
+        }
+
+        short[] expectedShorts = shorts.clone();
+        char[] expectedChars = chars.clone();
+        byte[] expectedBytes = bytes.clone();
+        Arrays.sort(expectedShorts);
+        Arrays.sort(expectedChars);
+        Arrays.sort(expectedBytes);
+
+        IntroSort.sort(shorts);
+        IntroSort.sort(chars);
+        IntroSort.sort(bytes);
+        Assert.assertArrayEquals(expectedShorts, shorts);
+        Assert.assertArrayEquals(expectedChars, chars);
+        Assert.assertArrayEquals(expectedBytes, bytes);
+    }
+
+    @Test
+    public void sortDouble() throws Exception {
+
+        Random random = new Random(4);
+        double[] arr = new double[SIZE];
+        for (int i = 0; i < SIZE; i++) {
+            switch (random.nextInt(8)) {
+                case 0:
+                    arr[i] = Double.NaN;
+                    break;
+                case 1:
+                    arr[i] = -0.0d;
+                    break;
+                case 2:
+                    arr[i] = 0.0d;
+                    break;
+                default:
+                    arr[i] = random.nextGaussian();
+            }
+        }
+
+        double[] expected = arr.clone();
+        Arrays.sort(expected);
+
+        IntroSort.sort(arr);
+        for (int i = 0; i < SIZE; i++) {
+            Assert.assertEquals(Double.doubleToRawLongBits(expected[i]), Double.doubleToRawLongBits(arr[i]));
+        }
+    }
+
+    @Test
+    public void sortFloat() throws Exception {
+
+        float[] arr = {0.0f, Float.NaN, -0.0f, 1.5f, -0.0f, Float.NEGATIVE_INFINITY, 0.0f, -2.5f, Float.NaN};
+        IntroSort.sort(arr);
+
+        float[] expected = {Float.NEGATIVE_INFINITY, -2.5f, -0.0f, -0.0f, 0.0f, 0.0f, 1.5f, Float.NaN, Float.NaN};
+        for (int i = 0; i < arr.length; i++) {
+            Assert.assertEquals(Float.floatToRawIntBits(expected[i]), Float.floatToRawIntBits(arr[i]));
+        }
+    }
+}
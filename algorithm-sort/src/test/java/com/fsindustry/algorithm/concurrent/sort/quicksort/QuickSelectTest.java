@@ -0,0 +1,103 @@
+package com.fsindustry.algorithm.concurrent.sort.quicksort;
+
+import java.util.Arrays;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+import com.fsindustry.algorithm.concurrent.sort.TestData;
+
+/**
+ * QuickSelect测试
+ */
+public class QuickSelectTest {
+
+    @Test
+    public void select() throws Exception {
+
+        int[] arr = TestData.randomArr(100000, Integer.MAX_VALUE);
+        int[] sorted = arr.clone();
+        Arrays.sort(sorted);
+
+        for (int k : new int[]{0, 1, 17, 50000, 99998, 99999}) {
+            Assert.assertEquals(sorted[k], QuickSelect.select(arr, k));
+            for (int i = 0; i < k; i++) {
+                Assert.assertTrue(arr[i] <= arr[k]);
+            }
+            for (int i = k + 1; i < arr.length; i++) {
+                Assert.assertTrue(arr[i] >= arr[k]);
+            }
+        }
+    }
+
+    @Test
+    public void medianOfMedians() throws Exception {
+
+        int[] arr = TestData.randomArr(10000, 100);
+        int[] sorted = arr.clone();
+        Arrays.sort(sorted);
+
+        int idx = QuickSelect.medianOfMedians(arr, 0, arr.length - 1);
+        int rank = Arrays.binarySearch(sorted, arr[idx]);
+        Assert.assertTrue(rank >= 0);
+
+        // 枢轴两侧至少各有约30%的元素
+        int less = 0;
+        int greater = 0;
+        for (int value : sorted) {
+            less += value < arr[idx] ? 1 : 0;
+            greater += value > arr[idx] ? 1 : 0;
+        }
+        Assert.assertTrue(less <= arr.length * 0.7);
+        Assert.assertTrue(greater <= arr.length * 0.7);
+    }
+
+    @Test
+    public void partialSort() throws Exception {
+
+        int[] arr = TestData.randomArr(100000, 1000);
+        int[] sorted = arr.clone();
+        Arrays.sort(sorted);
+
+        QuickSelect.partialSort(arr, 100);
+        Assert.assertArrayEquals(Arrays.copyOf(sorted, 100), Arrays.copyOf(arr, 100));
+    }
+
+    @Test
+    public void multiSelect() throws Exception {
+
+        int[] arr = TestData.randomArr(100000, Integer.MAX_VALUE);
+        int[] sorted = arr.clone();
+        Arrays.sort(sorted);
+
+        int[] ks = {99999, 0, 50000, 50000, 25000, 75000, 99000};
+        int[] values = QuickSelect.select(arr, ks);
+        for (int i = 0; i < ks.length; i++) {
+            Assert.assertEquals(sorted[ks[i]], values[i]);
+            Assert.assertEquals(sorted[ks[i]], arr[ks[i]]);
+        }
+
+        int[] quantiles = QuickSelect.quantiles(arr, new double[]{0.5, 0.99, 1.0});
+        Assert.assertArrayEquals(new int[]{sorted[49999], sorted[98999], sorted[99999]}, quantiles);
+    }
+
+    @Test
+    public void selectAll() throws Exception {
+
+        // 多点选择递归深度耗尽时的回退路径
+        int[] arr = TestData.randomArr(100000, 50);
+        int[] sorted = arr.clone();
+        Arrays.sort(sorted);
+
+        int[] ks = {0, 10, 10, 5000, 5001, 50000, 99998, 99999};
+        QuickSelect.selectAll(arr, 0, arr.length - 1, ks, 0, ks.length - 1);
+        for (int k : ks) {
+            Assert.assertEquals(sorted[k], arr[k]);
+        }
+        for (int i = 0; i < ks.length - 1; i++) {
+            for (int j = ks[i]; j < ks[i + 1]; j++) {
+                Assert.assertTrue(arr[j] <= arr[ks[i + 1]]);
+            }
+        }
+    }
+}
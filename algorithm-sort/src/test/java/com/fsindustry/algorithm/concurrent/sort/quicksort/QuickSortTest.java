@@ -0,0 +1,53 @@
+package com.fsindustry.algorithm.concurrent.sort.quicksort;
+
+import java.util.Arrays;
+import java.util.concurrent.ForkJoinPool;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+import com.fsindustry.algorithm.concurrent.sort.TestData;
+
+/**
+ * QuickSort测试
+ */
+public class QuickSortTest {
+
+    @Test
+    public void sort() throws Exception {
+
+        int[] arr = TestData.randomArr(10000, Integer.MAX_VALUE);
+        int[] expected = arr.clone();
+        Arrays.sort(expected);
+
+        QuickSort.sort(arr, 0, arr.length - 1);
+        Assert.assertArrayEquals(expected, arr);
+    }
+
+    @Test
+    public void parallelSort() throws Exception {
+
+        int[] arr = TestData.randomArr(200000, Integer.MAX_VALUE);
+        int[] expected = arr.clone();
+        Arrays.sort(expected);
+
+        QuickSort.parallelSort(arr);
+        Assert.assertArrayEquals(expected, arr);
+    }
+
+    @Test
+    public void parallelSortWithPool() throws Exception {
+
+        int[] arr = TestData.randomArr(50000, 100);
+        int[] expected = arr.clone();
+        Arrays.sort(expected, 10, 40000);
+
+        ForkJoinPool pool = new ForkJoinPool(4);
+        try {
+            QuickSort.parallelSort(arr, 10, 39999, pool, 64);
+        } finally {
+            pool.shutdown();
+        }
+        Assert.assertArrayEquals(expected, arr);
+    }
+}
@@ -0,0 +1,54 @@
+package com.fsindustry.algorithm.concurrent.sort.quicksort;
+
+import java.util.Arrays;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+import com.fsindustry.algorithm.concurrent.sort.TestData;
+
+/**
+ * ThreeWayQuickSort测试
+ */
+public class ThreeWayQuickSortTest {
+
+    @Test
+    public void sortFewDistinct() throws Exception {
+
+        int[] arr = TestData.randomArr(1 << 20, 40);
+        int[] expected = arr.clone();
+        Arrays.sort(expected);
+
+        ThreeWayQuickSort.sort(arr);
+        Assert.assertArrayEquals(expected, arr);
+    }
+
+    @Test
+    public void sortDistinct() throws Exception {
+
+        int[] arr = TestData.randomArr(1 << 16, Integer.MAX_VALUE);
+        int[] expected = arr.clone();
+        Arrays.sort(expected);
+
+        ThreeWayQuickSort.sort(arr);
+        Assert.assertArrayEquals(expected, arr);
+    }
+
+    @Test
+    public void hasManyDuplicates() throws Exception {
+
+        Assert.assertTrue(ThreeWayQuickSort.hasManyDuplicates(TestData.randomArr(4096, 10), 0, 4095));
+        Assert.assertFalse(ThreeWayQuickSort.hasManyDuplicates(TestData.randomArr(4096, Integer.MAX_VALUE), 0, 4095));
+    }
+
+    @Test
+    public void introSortSwitch() throws Exception {
+
+        int[] arr = TestData.randomArr(1 << 20, 40);
+        int[] expected = arr.clone();
+        Arrays.sort(expected);
+
+        IntroSort.sort(arr);
+        Assert.assertArrayEquals(expected, arr);
+    }
+}
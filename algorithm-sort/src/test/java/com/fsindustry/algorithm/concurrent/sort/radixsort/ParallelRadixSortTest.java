@@ -0,0 +1,94 @@
+package com.fsindustry.algorithm.concurrent.sort.radixsort;
+
+import java.util.Arrays;
+import java.util.Random;
+import java.util.concurrent.ForkJoinPool;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+/**
+ * ParallelRadixSort测试
+ */
+public class ParallelRadixSortTest {
+
+    private static final int SIZE = 1 << 21;
+
+    @Test
+    public void sortInt() throws Exception {
+
+        Random random = new Random(1);
+        int[] arr = new int[SIZE];
+        for (int i = 0; i < SIZE; i++) {
+            arr[i] = random.nextInt();
+        }
+
+        int[] expected = arr.clone();
+        Arrays.sort(expected);
+
+        ParallelRadixSort.sort(arr);
+        Assert.assertArrayEquals(expected, arr);
+    }
+
+    @Test
+    public void sortIntSkewed() throws Exception {
+
+        // 高位全部相同，且有大量重复元素，需要逐位递归
+        Random random = new Random(2);
+        int[] arr = new int[SIZE];
+        for (int i = 0; i < SIZE; i++) {
+            arr[i] = random.nextInt(3) == 0 ? 42 : random.nextInt(1 << 12);
+        }
+
+        int[] expected = arr.clone();
+        Arrays.sort(expected);
+
+        ForkJoinPool pool = new ForkJoinPool(4);
+        try {
+            ParallelRadixSort.sort(arr, new int[SIZE], pool);
+        } finally {
+            pool.shutdown();
+        }
+        Assert.assertArrayEquals(expected, arr);
+    }
+
+    @Test
+    public void sortLong() throws Exception {
+
+        Random random = new Random(3);
+        long[] arr = new long[SIZE];
+        for (int i = 0; i < SIZE; i++) {
+            arr[i] = random.nextLong();
+        }
+
+        long[] expected = arr.clone();
+        Arrays.sort(expected);
+
+        ParallelRadixSort.sort(arr);
+        Assert.assertArrayEquals(expected, arr);
+    }
+
+    @Test
+    public void sortLongSingleBucket() throws Exception {
+
+        // 正负数在最高位分成两个桶，之后若干位都只有一个桶，不分发直接处理下一位
+        Random random = new Random(4);
+        long[] arr = new long[SIZE];
+        for (int i = 0; i < SIZE; i++) {
+            arr[i] = random.nextInt(1 << 20) - (1 << 19);
+        }
+
+        long[] expected = arr.clone();
+        Arrays.sort(expected);
+
+        ParallelRadixSort.sort(arr);
+        Assert.assertArrayEquals(expected, arr);
+
+        // 全部相等：每一位都只有一个桶
+        Arrays.fill(arr, -7L);
+        ParallelRadixSort.sort(arr);
+        for (long value : arr) {
+            Assert.assertEquals(-7L, value);
+        }
+    }
+}
@@ -0,0 +1,88 @@
+package com.fsindustry.algorithm.concurrent.sort.radixsort;
+
+import java.util.Arrays;
+import java.util.Random;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+/**
+ * RadixSort测试
+ */
+public class RadixSortTest {
+
+    private static final int SIZE = 1 << 20;
+
+    @Test
+    public void sortInt() throws Exception {
+
+        Random random = new Random(1);
+        int[] arr = new int[SIZE];
+        for (int i = 0; i < SIZE; i++) {
+            arr[i] = random.nextInt();
+        }
+
+        int[] expected = arr.clone();
+        Arrays.sort(expected);
+
+        RadixSort.sort(arr);
+        Assert.assertArrayEquals(expected, arr);
+    }
+
+    @Test
+    public void sortIntReuseBuf() throws Exception {
+
+        Random random = new Random(2);
+        int[] buf = new int[SIZE];
+        for (int round = 0; round < 3; round++) {
+
+            // 取值范围较小，高位趟被跳过
+            int[] arr = new int[SIZE - round];
+            for (int i = 0; i < arr.length; i++) {
+                arr[i] = random.nextInt(1000) - 500;
+            }
+
+            int[] expected = arr.clone();
+            Arrays.sort(expected);
+
+            RadixSort.sort(arr, buf);
+            Assert.assertArrayEquals(expected, arr);
+        }
+    }
+
+    @Test
+    public void sortIntRange() throws Exception {
+
+        int[] arr = new int[1000];
+        for (int i = 0; i < arr.length; i++) {
+            arr[i] = arr.length - i;
+        }
+
+        int[] expected = arr.clone();
+        Arrays.sort(expected, 100, 900);
+
+        RadixSort.sort(arr, 100, 899, new int[800]);
+        Assert.assertArrayEquals(expected, arr);
+    }
+
+    @Test
+    public void sortLong() throws Exception {
+
+        Random random = new Random(3);
+        long[] arr = new long[SIZE];
+        for (int i = 0; i < SIZE; i++) {
+            arr[i] = random.nextLong();
+        }
+
+        long[] expected = arr.clone();
+        Arrays.sort(expected);
+
+        RadixSort.sort(arr);
+        Assert.assertArrayEquals(expected, arr);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void bufTooSmall() throws Exception {
+        RadixSort.sort(new long[10], new long[9]);
+    }
+}
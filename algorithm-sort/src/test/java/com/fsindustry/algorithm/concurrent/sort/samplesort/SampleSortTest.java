@@ -0,0 +1,50 @@
+package com.fsindustry.algorithm.concurrent.sort.samplesort;
+
+import java.util.Arrays;
+import java.util.Comparator;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+import com.fsindustry.algorithm.concurrent.sort.TestData;
+
+/**
+ * SampleSort测试
+ */
+public class SampleSortTest {
+
+    private static final int SIZE = 1 << 20;
+
+    @Test
+    public void sort() throws Exception {
+
+        Integer[] arr = TestData.randomBoxedArr(SIZE, Integer.MAX_VALUE);
+        Integer[] expected = arr.clone();
+        Arrays.sort(expected);
+
+        SampleSort.sort(arr);
+        Assert.assertArrayEquals(expected, arr);
+    }
+
+    @Test
+    public void sortFewDistinct() throws Exception {
+
+        Integer[] arr = TestData.randomBoxedArr(SIZE, 3);
+        Integer[] expected = arr.clone();
+        Arrays.sort(expected);
+
+        SampleSort.sort(arr);
+        Assert.assertArrayEquals(expected, arr);
+    }
+
+    @Test
+    public void sortWithComparator() throws Exception {
+
+        Integer[] arr = TestData.randomBoxedArr(SIZE, 1000);
+        Integer[] expected = arr.clone();
+        Arrays.sort(expected, Comparator.reverseOrder());
+
+        SampleSort.sort(arr, Comparator.reverseOrder());
+        Assert.assertArrayEquals(expected, arr);
+    }
+}
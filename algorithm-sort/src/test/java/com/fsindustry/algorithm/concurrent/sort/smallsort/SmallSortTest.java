@@ -0,0 +1,127 @@
+package com.fsindustry.algorithm.concurrent.sort.smallsort;
+
+import java.util.Arrays;
+import java.util.Random;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+/**
+ * SmallSort测试
+ */
+public class SmallSortTest {
+
+    /**
+     * 0-1原则：排序网络能排序所有0-1序列，则能排序任意序列
+     */
+    @Test
+    public void networkZeroOne() throws Exception {
+
+        for (int n = 0; n <= SmallSort.NETWORK_SIZE; n++) {
+            for (int bits = 0; bits < 1 << n; bits++) {
+
+                int[] arr = new int[n];
+                for (int i = 0; i < n; i++) {
+                    arr[i] = bits >>> i & 1;
+                }
+
+                int[] expected = arr.clone();
+                Arrays.sort(expected);
+
+                SmallSort.sort(arr, 0, n - 1);
+                Assert.assertArrayEquals(expected, arr);
+            }
+        }
+    }
+
+    @Test
+    public void sortInt() throws Exception {
+
+        Random random = new Random(1);
+        for (int n = 0; n <= SmallSort.THRESHOLD * 2; n++) {
+            for (int round = 0; round < 100; round++) {
+
+                // 前后各留一个元素，检查不越界
+                int[] arr = new int[n + 2];
+                for (int i = 0; i < arr.length; i++) {
+                    arr[i] = round % 2 == 0 ? random.nextInt() : random.nextInt(4);
+                }
+
+                int[] expected = arr.clone();
+                Arrays.sort(expected, 1, n + 1);
+
+                SmallSort.sortSmall(arr, 1, n);
+                Assert.assertArrayEquals(expected, arr);
+            }
+        }
+    }
+
+    @Test
+    public void sortOtherTypes() throws Exception {
+
+        Random random = new Random(2);
+        for (int n = 0; n <= SmallSort.THRESHOLD + 1; n++) {
+
+            long[] longs = new long[n];
+            short[] shorts = new short[n];
+            char[] chars = new char[n];
+            byte[] bytes = new byte[n];
+            for (int i = 0; i < n; i++) {
+                longs[i] = random.nextLong();
+                shorts[i] = (short) random.nextInt();
+                chars[i] = (char) random.nextInt();
+                bytes[i] = (byte) random.nextInt();
+            }
+
+            long[] expectedLongs = longs.clone();
+            Arrays.sort(expectedLongs);
+            SmallSort.sortSmall(longs);
+            Assert.assertArrayEquals(expectedLongs, longs);
+
+            short[] expectedShorts = shorts.clone();
+            Arrays.sort(expectedShorts);
+            SmallSort.sortSmall(shorts);
+            Assert.assertArrayEquals(expectedShorts, shorts);
+
+            char[] expectedChars = chars.clone();
+            Arrays.sort(expectedChars);
+            SmallSort.sortSmall(chars);
+            Assert.assertArrayEquals(expectedChars, chars);
+
+            byte[] expectedBytes = bytes.clone();
+            Arrays.sort(expectedBytes);
+            SmallSort.sortSmall(bytes);
+            Assert.assertArrayEquals(expectedBytes, bytes);
+        }
+    }
+
+    @Test
+    public void sortDoubleSpecialValues() throws Exception {
+
+        double[] values = {Double.NaN, -0.0, 0.0, 1.5, -1.5, Double.NEGATIVE_INFINITY, Double.POSITIVE_INFINITY};
+        Random random = new Random(3);
+        for (int n = 0; n <= SmallSort.THRESHOLD; n++) {
+
+            double[] doubles = new double[n];
+            float[] floats = new float[n];
+            for (int i = 0; i < n; i++) {
+                doubles[i] = values[random.nextInt(values.length)];
+                floats[i] = (float) doubles[i];
+            }
+
+            double[] expectedDoubles = doubles.clone();
+            Arrays.sort(expectedDoubles);
+            SmallSort.sortSmall(doubles);
+            Assert.assertArrayEquals(expectedDoubles, doubles, 0);
+
+            float[] expectedFloats = floats.clone();
+            Arrays.sort(expectedFloats);
+            SmallSort.sortSmall(floats);
+            Assert.assertArrayEquals(expectedFloats, floats, 0);
+
+            for (int i = 0; i < n; i++) {
+                Assert.assertEquals(Double.doubleToLongBits(expectedDoubles[i]), Double.doubleToLongBits(doubles[i]));
+            }
+        }
+    }
+}
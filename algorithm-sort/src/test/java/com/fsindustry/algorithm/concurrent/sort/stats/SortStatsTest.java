@@ -0,0 +1,242 @@
+package com.fsindustry.algorithm.concurrent.sort.stats;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.ForkJoinPool;
+
+import org.junit.After;
+import org.junit.Assert;
+import org.junit.Assume;
+import org.junit.Before;
+import org.junit.Test;
+
+import com.fsindustry.algorithm.concurrent.sort.heapsort.HeatSort;
+import com.fsindustry.algorithm.concurrent.sort.quicksort.IntroSort;
+import com.fsindustry.algorithm.concurrent.sort.quicksort.QuickSort;
+import com.fsindustry.algorithm.concurrent.sort.smallsort.SmallSort;
+
+/**
+ * SortStats测试：需要-Dfsindustry.sort.stats=true，由surefire单独执行
+ */
+public class SortStatsTest {
+
+    private final List<SortStats> reports = new ArrayList<>();
+
+    @Before
+    public void setUp() throws Exception {
+        Assume.assumeTrue(SortStats.ENABLED);
+        SortStats.setListener(reports::add);
+    }
+
+    @After
+    public void tearDown() throws Exception {
+        SortStats.setListener(null);
+    }
+
+    @Test
+    public void quickSortAdversarialInput() throws Exception {
+
+        // 有序输入使首元素枢轴每次切分都有一侧为空
+        int[] sorted = new int[2000];
+        for (int i = 0; i < sorted.length; i++) {
+            sorted[i] = i;
+        }
+        QuickSort.sort(sorted, 0, sorted.length - 1);
+
+        Random random = new Random(1);
+        int[] shuffled = new int[2000];
+        for (int i = 0; i < shuffled.length; i++) {
+            shuffled[i] = random.nextInt();
+        }
+        QuickSort.sort(shuffled, 0, shuffled.length - 1);
+
+        Assert.assertEquals(2, reports.size());
+        SortStats bad = reports.get(0);
+        SortStats good = reports.get(1);
+
+        Assert.assertEquals("QuickSort", bad.algorithm());
+        Assert.assertEquals(2000, bad.size());
+        Assert.assertTrue(bad.imbalance() > 0.9);
+        Assert.assertTrue(good.imbalance() < 0.7);
+        Assert.assertTrue(bad.maxDepth() > 10 * good.maxDepth());
+        Assert.assertTrue(bad.compares() > good.compares());
+        Assert.assertTrue(bad.nanos(SortPhase.PARTITION) > 0);
+    }
+
+    @Test
+    public void heapSortPhases() throws Exception {
+
+        Random random = new Random(2);
+        Integer[] arr = new Integer[1000];
+        for (int i = 0; i < arr.length; i++) {
+            arr[i] = random.nextInt();
+        }
+        HeatSort.sort(arr);
+
+        Assert.assertEquals(1, reports.size());
+        SortStats stats = reports.get(0);
+        Assert.assertEquals("HeatSort", stats.algorithm());
+        Assert.assertTrue(stats.compares() > 0);
+        Assert.assertTrue(stats.swaps() >= arr.length - 1);
+        Assert.assertTrue(stats.nanos(SortPhase.HEAPIFY) > 0);
+        Assert.assertTrue(stats.nanos(SortPhase.SORTDOWN) > 0);
+        Assert.assertTrue(stats.totalNanos() >= stats.nanos(SortPhase.SORTDOWN));
+    }
+
+    @Test
+    public void nestedSortReportsOnce() throws Exception {
+
+        int[] arr = Antiqsort.killer(128);
+        IntroSort.sort(arr);
+        for (int i = 1; i < arr.length; i++) {
+            Assert.assertTrue(arr[i - 1] <= arr[i]);
+        }
+
+        // 对抗输入耗尽递归深度，降级为堆排序；嵌套的堆排序计入外层统计，只回调一次
+        Assert.assertEquals(1, reports.size());
+        SortStats stats = reports.get(0);
+        Assert.assertEquals("IntroSort", stats.algorithm());
+        Assert.assertTrue(stats.partitions() > 0);
+        Assert.assertTrue(stats.imbalance() > 0.9);
+        Assert.assertTrue(stats.nanos(SortPhase.HEAPIFY) > 0);
+        Assert.assertTrue(stats.nanos(SortPhase.SORTDOWN) > 0);
+    }
+
+    @Test
+    public void parallelQuickSortReportsOnce() throws Exception {
+
+        Random random = new Random(4);
+        int[] arr = new int[100000];
+        for (int i = 0; i < arr.length; i++) {
+            arr[i] = random.nextInt();
+        }
+
+        ForkJoinPool pool = new ForkJoinPool(4);
+        try {
+            QuickSort.parallelSort(arr, 0, arr.length - 1, pool, 1000);
+        } finally {
+            pool.shutdown();
+        }
+
+        // 各工作线程上的切分都合并到同一个统计对象
+        Assert.assertEquals(1, reports.size());
+        SortStats stats = reports.get(0);
+        Assert.assertEquals("QuickSort", stats.algorithm());
+        Assert.assertEquals(arr.length, stats.size());
+        Assert.assertTrue(stats.partitions() >= arr.length / 1000);
+        Assert.assertTrue(stats.compares() > arr.length);
+        Assert.assertTrue(stats.maxDepth() > 1);
+        Assert.assertTrue(stats.nanos(SortPhase.SMALL_SORT) > 0);
+    }
+
+    /**
+     * McIlroy的对抗输入生成：按IntroSort在不超过NINTHER_THRESHOLD的区间上的比较顺序
+     * （三数取中、以low为枢轴双向扫描）模拟排序，比较时才为元素确定取值，使每次选出的枢轴都接近最小值
+     */
+    private static class Antiqsort {
+
+        private final int[] val;
+
+        private final int gas;
+
+        private int solid;
+
+        private int candidate;
+
+        private Antiqsort(int n) {
+            val = new int[n];
+            gas = n;
+            Arrays.fill(val, gas);
+        }
+
+        static int[] killer(int n) {
+
+            Antiqsort adversary = new Antiqsort(n);
+            int[] ptr = new int[n];
+            for (int i = 0; i < n; i++) {
+                ptr[i] = i;
+            }
+
+            // 只模拟较长的一侧：较短一侧的排序不影响其余区间
+            int low = 0;
+            int high = n - 1;
+            int depth = 2 * (31 - Integer.numberOfLeadingZeros(n));
+            while (high - low + 1 > SmallSort.THRESHOLD && depth-- > 0) {
+
+                int mid = low + ((high - low + 1) >>> 1);
+                exch(ptr, low, adversary.median3(ptr, low, mid, high));
+                int j = adversary.partition(ptr, low, high);
+                if (j - low < high - j) {
+                    low = j + 1;
+                } else {
+                    high = j - 1;
+                }
+            }
+
+            return adversary.val;
+        }
+
+        private boolean less(int x, int y) {
+
+            if (val[x] == gas && val[y] == gas) {
+                val[x == candidate ? x : y] = solid++;
+            }
+            if (val[x] == gas) {
+                candidate = x;
+            } else if (val[y] == gas) {
+                candidate = y;
+            }
+            return val[x] < val[y];
+        }
+
+        private int median3(int[] ptr, int i, int j, int k) {
+
+            if (less(ptr[i], ptr[j])) {
+                if (less(ptr[j], ptr[k])) {
+                    return j;
+                }
+                return less(ptr[i], ptr[k]) ? k : i;
+            }
+
+            if (less(ptr[k], ptr[j])) {
+                return j;
+            }
+            return less(ptr[k], ptr[i]) ? k : i;
+        }
+
+        private int partition(int[] ptr, int low, int high) {
+
+            int key = ptr[low];
+            int i = low;
+            int j = high + 1;
+            while (true) {
+
+                while (less(ptr[++i], key)) {
+                    if (i == high) {
+                        break;
+                    }
+                }
+
+                while (less(key, ptr[--j])) {
+                }
+
+                if (i >= j) {
+                    break;
+                }
+
+                exch(ptr, i, j);
+            }
+
+            exch(ptr, low, j);
+            return j;
+        }
+
+        private static void exch(int[] ptr, int i, int j) {
+            int tmp = ptr[i];
+            ptr[i] = ptr[j];
+            ptr[j] = tmp;
+        }
+    }
+}
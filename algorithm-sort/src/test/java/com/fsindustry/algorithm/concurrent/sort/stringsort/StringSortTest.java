@@ -0,0 +1,139 @@
+package com.fsindustry.algorithm.concurrent.sort.stringsort;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.Random;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+/**
+ * MsdStringSort、ThreeWayStringQuickSort测试
+ */
+public class StringSortTest {
+
+    private static final int SIZE = 50000;
+
+    /**
+     * 生成带长公共前缀的URL，包含非ASCII字符
+     */
+    private String[] randomUrls() {
+
+        Random random = new Random(1);
+        String[] hosts = {"http://example.com/", "http://example.com/api/v1/", "https://例子.测试/路径/"};
+        String[] arr = new String[SIZE];
+        for (int i = 0; i < SIZE; i++) {
+            StringBuilder sb = new StringBuilder(hosts[random.nextInt(hosts.length)]);
+            int len = random.nextInt(12);
+            for (int j = 0; j < len; j++) {
+                sb.append((char) (random.nextBoolean() ? 'a' + random.nextInt(26) : 0x4E00 + random.nextInt(64)));
+            }
+            arr[i] = sb.toString();
+        }
+        return arr;
+    }
+
+    private byte[][] toBytes(String[] arr) {
+
+        byte[][] bytes = new byte[arr.length][];
+        for (int i = 0; i < arr.length; i++) {
+            bytes[i] = arr[i].getBytes(StandardCharsets.UTF_8);
+        }
+        return bytes;
+    }
+
+    private void assertSorted(byte[][] arr) {
+        for (int i = 1; i < arr.length; i++) {
+            Assert.assertFalse(MsdStringSort.less(arr[i], arr[i - 1], 0));
+        }
+    }
+
+    @Test
+    public void msdSortString() throws Exception {
+
+        String[] arr = randomUrls();
+        String[] expected = arr.clone();
+        Arrays.sort(expected);
+
+        MsdStringSort.sort(arr);
+        Assert.assertArrayEquals(expected, arr);
+    }
+
+    @Test
+    public void msdSortDuplicates() throws Exception {
+
+        // 大量相同字符串与空串：每一位都只有一个非空桶
+        String[] arr = new String[1000];
+        for (int i = 0; i < arr.length; i++) {
+            arr[i] = i % 3 == 0 ? "" : (i % 3 == 1 ? "prefix-same" : "prefix-same-longer");
+        }
+        String[] expected = arr.clone();
+        Arrays.sort(expected);
+
+        MsdStringSort.sort(arr);
+        Assert.assertArrayEquals(expected, arr);
+    }
+
+    @Test
+    public void threeWaySortString() throws Exception {
+
+        String[] arr = randomUrls();
+        String[] expected = arr.clone();
+        Arrays.sort(expected);
+
+        ThreeWayStringQuickSort.sort(arr);
+        Assert.assertArrayEquals(expected, arr);
+    }
+
+    @Test
+    public void threeWaySortLongCommonPrefix() throws Exception {
+
+        // 公共前缀长达数万个字符：等于部分在循环中逐位推进，递归深度不随前缀长度增长
+        char[] prefix = new char[50000];
+        Arrays.fill(prefix, 'a');
+        Random random = new Random(2);
+        String[] arr = new String[200];
+        for (int i = 0; i < arr.length; i++) {
+            arr[i] = new String(prefix) + (char) ('a' + random.nextInt(3)) + (char) ('a' + random.nextInt(3));
+        }
+        String[] expected = arr.clone();
+        Arrays.sort(expected);
+        byte[][] bytes = toBytes(arr);
+
+        ThreeWayStringQuickSort.sort(arr);
+        Assert.assertArrayEquals(expected, arr);
+
+        ThreeWayStringQuickSort.sort(bytes);
+        for (int i = 0; i < arr.length; i++) {
+            Assert.assertEquals(expected[i], new String(bytes[i], StandardCharsets.UTF_8));
+        }
+    }
+
+    @Test
+    public void sortBytes() throws Exception {
+
+        byte[][] msd = toBytes(randomUrls());
+        byte[][] threeWay = msd.clone();
+
+        MsdStringSort.sort(msd);
+        assertSorted(msd);
+
+        ThreeWayStringQuickSort.sort(threeWay);
+        assertSorted(threeWay);
+
+        // UTF-8字节序与码点序一致
+        String[] expected = randomUrls();
+        Arrays.sort(expected, Comparator.comparing(s -> s.codePoints().toArray(), (a, b) -> {
+            for (int i = 0; i < Math.min(a.length, b.length); i++) {
+                if (a[i] != b[i]) {
+                    return Integer.compare(a[i], b[i]);
+                }
+            }
+            return Integer.compare(a.length, b.length);
+        }));
+        for (int i = 0; i < SIZE; i++) {
+            Assert.assertEquals(expected[i], new String(msd[i], StandardCharsets.UTF_8));
+        }
+    }
+}